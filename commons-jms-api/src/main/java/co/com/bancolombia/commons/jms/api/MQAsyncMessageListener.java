@@ -0,0 +1,12 @@
+package co.com.bancolombia.commons.jms.api;
+
+import reactor.core.publisher.Mono;
+
+import javax.jms.Message;
+
+public interface MQAsyncMessageListener {
+    /**
+     * Processes a message without blocking the consumer, the message is acknowledged when the returned Mono completes
+     */
+    Mono<Object> onMessageAsync(Message message);
+}
@@ -0,0 +1,16 @@
+package co.com.bancolombia.commons.jms.api;
+
+public interface MQBackoutQueueResolver {
+    /**
+     * @param queue name of the listened queue
+     * @return name of the queue for its poison messages, BOQNAME in IBM MQ, or null when it is unknown
+     */
+    String getBackoutQueue(String queue);
+
+    /**
+     * @param queue name of the listened queue
+     * @return deliveries after which a message is moved to the backout queue, BOTHRESH in IBM MQ, or a value less than
+     * one when it is unknown
+     */
+    int getBackoutThreshold(String queue);
+}
@@ -0,0 +1,11 @@
+package co.com.bancolombia.commons.jms.api;
+
+import javax.jms.Message;
+import java.util.List;
+
+public interface MQBatchMessageListener {
+    /**
+     * Processes a batch of messages, the batch is committed when it returns and rolled back when it throws
+     */
+    void onMessages(List<Message> messages);
+}
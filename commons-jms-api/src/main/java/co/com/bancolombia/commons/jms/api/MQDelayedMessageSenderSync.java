@@ -0,0 +1,11 @@
+package co.com.bancolombia.commons.jms.api;
+
+/**
+ * Sender able to publish messages with the JMS 2.0 delivery delay
+ */
+public interface MQDelayedMessageSenderSync extends MQMessageSenderSync {
+    /**
+     * Sends a message that the queue manager delivers to its consumers after deliveryDelay milliseconds
+     */
+    String sendToQueue(String queueName, MQMessageCreator messageCreator, long deliveryDelay);
+}
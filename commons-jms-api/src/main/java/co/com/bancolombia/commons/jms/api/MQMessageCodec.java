@@ -0,0 +1,15 @@
+package co.com.bancolombia.commons.jms.api;
+
+import javax.jms.JMSContext;
+import javax.jms.JMSException;
+import javax.jms.Message;
+
+public interface MQMessageCodec {
+    Message encode(JMSContext context, Object payload) throws JMSException;
+
+    <T> T decode(Message message, Class<T> type) throws JMSException;
+
+    default MQMessageCreator creator(Object payload) {
+        return context -> encode(context, payload);
+    }
+}
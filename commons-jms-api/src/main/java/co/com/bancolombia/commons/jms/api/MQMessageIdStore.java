@@ -0,0 +1,16 @@
+package co.com.bancolombia.commons.jms.api;
+
+public interface MQMessageIdStore {
+    /**
+     * @param messageId JMSMessageID of a received message
+     * @return true when the message was already processed within the retention window of the store
+     */
+    boolean contains(String messageId);
+
+    /**
+     * Records the JMSMessageID of a successfully processed message
+     *
+     * @param messageId JMSMessageID of the processed message
+     */
+    void add(String messageId);
+}
@@ -1,12 +1,29 @@
 package co.com.bancolombia.commons.jms.api;
 
+import co.com.bancolombia.commons.jms.api.exceptions.ReceiveTimeoutException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import javax.jms.Destination;
 import javax.jms.Message;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 
 public interface MQMessageSelectorListener {
     Mono<Message> getMessage(String correlationId);
 
     Mono<Message> getMessage(String correlationId, long timeout, Destination destination);
+
+    /**
+     * Receives the messages of many correlation ids, the Flux completes when all of them are received or when the
+     * timeout is reached, so it can be partial. By default each id is received with getMessage sharing the deadline,
+     * implementations may override it to share the consumers
+     */
+    default Flux<Message> getMessages(Collection<String> correlationIds, long timeout, Destination destination) {
+        long deadline = System.currentTimeMillis() + timeout;
+        return Flux.fromIterable(new LinkedHashSet<>(correlationIds))
+                .flatMap(correlationId -> Mono.defer(() -> getMessage(correlationId,
+                                Math.max(1, deadline - System.currentTimeMillis()), destination))
+                        .onErrorResume(ReceiveTimeoutException.class, e -> Mono.empty()));
+    }
 }
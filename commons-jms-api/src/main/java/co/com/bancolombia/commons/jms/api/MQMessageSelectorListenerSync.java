@@ -1,10 +1,36 @@
 package co.com.bancolombia.commons.jms.api;
 
+import co.com.bancolombia.commons.jms.api.exceptions.ReceiveTimeoutException;
+
 import javax.jms.Destination;
 import javax.jms.Message;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
 
 public interface MQMessageSelectorListenerSync {
     Message getMessage(String correlationId);
 
     Message getMessage(String correlationId, long timeout, Destination destination);
+
+    /**
+     * Receives the messages of many correlation ids, it returns when all of them are received or when the timeout is
+     * reached, so the result can be partial. By default each id is received with getMessage sharing the deadline,
+     * implementations may override it to share the consumers
+     */
+    default List<Message> getMessages(Collection<String> correlationIds, long timeout, Destination destination) {
+        long deadline = System.currentTimeMillis() + timeout;
+        List<Message> messages = new ArrayList<>(correlationIds.size());
+        for (String correlationId : new LinkedHashSet<>(correlationIds)) {
+            try {
+                // receive(0) waits forever, so the expired ids are polled for one millisecond
+                messages.add(getMessage(correlationId, Math.max(1, deadline - System.currentTimeMillis()),
+                        destination));
+            } catch (ReceiveTimeoutException e) {
+                // the result is partial
+            }
+        }
+        return messages;
+    }
 }
@@ -1,5 +1,6 @@
 package co.com.bancolombia.commons.jms.api;
 
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import javax.jms.Destination;
@@ -8,4 +9,20 @@ public interface MQMessageSender {
     Mono<String> send(Destination destination, MQMessageCreator messageCreator);
 
     Mono<String> send(MQMessageCreator messageCreator);
+
+    default Flux<String> sendBatch(Destination destination, Flux<MQMessageCreator> messageCreators) {
+        return messageCreators.concatMap(messageCreator -> send(destination, messageCreator));
+    }
+
+    default Flux<String> sendBatch(Flux<MQMessageCreator> messageCreators) {
+        return messageCreators.concatMap(this::send);
+    }
+
+    default Flux<String> sendMany(Destination destination, Flux<MQMessageCreator> messageCreators) {
+        return messageCreators.concatMap(messageCreator -> send(destination, messageCreator));
+    }
+
+    default Flux<String> sendMany(Flux<MQMessageCreator> messageCreators) {
+        return messageCreators.concatMap(this::send);
+    }
 }
@@ -1,9 +1,23 @@
 package co.com.bancolombia.commons.jms.api;
 
 import javax.jms.Destination;
+import java.util.List;
+import java.util.stream.Collectors;
 
 public interface MQMessageSenderSync {
     String send(Destination destination, MQMessageCreator messageCreator);
 
     String send(MQMessageCreator messageCreator);
+
+    default List<String> sendBatch(Destination destination, List<MQMessageCreator> messageCreators) {
+        return messageCreators.stream()
+                .map(messageCreator -> send(destination, messageCreator))
+                .collect(Collectors.toList());
+    }
+
+    default List<String> sendBatch(List<MQMessageCreator> messageCreators) {
+        return messageCreators.stream()
+                .map(this::send)
+                .collect(Collectors.toList());
+    }
 }
@@ -0,0 +1,20 @@
+package co.com.bancolombia.commons.jms.api;
+
+import reactor.core.publisher.Mono;
+
+import javax.jms.Destination;
+
+/**
+ * Sender able to publish objects encoded with a MQMessageCodec
+ */
+public interface MQPayloadMessageSender extends MQMessageSender {
+    /**
+     * Sends the payload encoded with the configured MQMessageCodec
+     */
+    Mono<String> send(Destination destination, Object payload);
+
+    /**
+     * Sends the payload encoded with the configured MQMessageCodec
+     */
+    Mono<String> send(Object payload);
+}
@@ -0,0 +1,18 @@
+package co.com.bancolombia.commons.jms.api;
+
+import javax.jms.Destination;
+
+/**
+ * Sender able to publish objects encoded with a MQMessageCodec
+ */
+public interface MQPayloadMessageSenderSync extends MQMessageSenderSync {
+    /**
+     * Sends the payload encoded with the configured MQMessageCodec
+     */
+    String send(Destination destination, Object payload);
+
+    /**
+     * Sends the payload encoded with the configured MQMessageCodec
+     */
+    String send(Object payload);
+}
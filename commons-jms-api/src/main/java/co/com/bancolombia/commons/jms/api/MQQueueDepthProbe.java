@@ -0,0 +1,9 @@
+package co.com.bancolombia.commons.jms.api;
+
+public interface MQQueueDepthProbe {
+    /**
+     * @param queue name of the listened queue
+     * @return current depth of the queue, or a negative value when it is unknown
+     */
+    int getDepth(String queue);
+}
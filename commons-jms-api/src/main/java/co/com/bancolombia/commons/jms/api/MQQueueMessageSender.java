@@ -0,0 +1,13 @@
+package co.com.bancolombia.commons.jms.api;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Sender able to publish messages to a queue by its name
+ */
+public interface MQQueueMessageSender extends MQMessageSender {
+    /**
+     * Sends a message to the queue, created once by connection and applying the MQQueueCustomizer
+     */
+    Mono<String> sendToQueue(String queueName, MQMessageCreator messageCreator);
+}
@@ -0,0 +1,11 @@
+package co.com.bancolombia.commons.jms.api;
+
+/**
+ * Sender able to publish messages to a queue by its name
+ */
+public interface MQQueueMessageSenderSync extends MQMessageSenderSync {
+    /**
+     * Sends a message to the queue, created once by connection and applying the MQQueueCustomizer
+     */
+    String sendToQueue(String queueName, MQMessageCreator messageCreator);
+}
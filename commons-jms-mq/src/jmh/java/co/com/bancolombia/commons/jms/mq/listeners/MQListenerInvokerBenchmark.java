@@ -0,0 +1,69 @@
+package co.com.bancolombia.commons.jms.mq.listeners;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.handler.invocation.InvocableHandlerMethod;
+import org.springframework.messaging.support.MessageBuilder;
+
+import javax.jms.Message;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the per message cost of calling a @MQListener method, through the Spring InvocableHandlerMethod with a
+ * throwaway spring message as it was done before, and through the MQListenerInvoker bound at startup. Run it with
+ * {@code -prof gc} to compare the allocations per call
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MQListenerInvokerBenchmark {
+    private Listener listener;
+    private Message message;
+    private InvocableHandlerMethod handlerMethod;
+    private MQListenerInvoker invoker;
+
+    @Setup(Level.Trial)
+    public void setup() throws NoSuchMethodException {
+        listener = new Listener();
+        message = (Message) Proxy.newProxyInstance(Message.class.getClassLoader(), new Class<?>[]{Message.class},
+                (proxy, method, args) -> null);
+        Method method = Listener.class.getMethod("process", Message.class);
+        handlerMethod = new InvocableHandlerMethod(listener, method);
+        invoker = MQListenerInvoker.fromBeanAndMethod(listener, method);
+    }
+
+    @Benchmark
+    public Object invocableHandlerMethod() throws Exception {
+        handlerMethod.invoke(MessageBuilder.createMessage("", new MessageHeaders(null)), message);
+        return listener.received;
+    }
+
+    @Benchmark
+    public Object invoker() throws Exception {
+        invoker.invoke(message, null);
+        return listener.received;
+    }
+
+    public static class Listener {
+        private Message received;
+
+        public void process(Message message) {
+            received = message;
+        }
+    }
+}
@@ -20,6 +20,13 @@ public @interface MQListener {
      */
     String concurrency() default "0";
 
+    /**
+     * Max connections to mq when the concurrency is scaled by the lag of the messages, fixed queues only
+     *
+     * @return max concurrency, default 0 to keep the concurrency fixed
+     */
+    String maxConcurrency() default "0";
+
     /**
      * Connection Factory for listening context
      *
@@ -50,4 +57,135 @@ public @interface MQListener {
      * @return max retries, specify a negative value for infinite retries
      */
     String maxRetries() default "10";
+
+    /**
+     * Queue where the messages are moved when maxRetries is exceeded, instead of discarding them
+     *
+     * @return backout queue name
+     * default empty and uses the queue resolved by the available MQBackoutQueueResolver.class bean, if any
+     */
+    String backoutQueue() default "";
+
+    /**
+     * MQMessageSenderSync used to move the messages to the backout queue
+     *
+     * @return bean name
+     * default empty and uses available MQMessageSenderSync.class bean
+     */
+    String backoutSender() default "";
+
+    /**
+     * Times a failed message is published again with a delivery delay, acknowledging the failed one, before it is
+     * rolled back to the queue manager, fixed queues only
+     *
+     * @return delayed retries, default 0 to roll back on failure
+     */
+    String delayedRetries() default "0";
+
+    /**
+     * Milliseconds to delay the first delayed retry, each next delay is multiplied by delayedRetryMultiplier
+     *
+     * @return delivery delay
+     */
+    String delayedRetryDelay() default "60000";
+
+    /**
+     * Factor applied to the delay of each next delayed retry
+     *
+     * @return delay multiplier, default 1 for a fixed delay
+     */
+    String delayedRetryMultiplier() default "1";
+
+    /**
+     * Queue where the delayed retries are published
+     *
+     * @return retry queue name
+     * default empty and uses the listened queue
+     */
+    String delayedRetryQueue() default "";
+
+    /**
+     * MQMessageSenderSync used to publish the delayed retries
+     *
+     * @return bean name
+     * default empty and uses available MQMessageSenderSync.class bean
+     */
+    String delayedRetrySender() default "";
+
+    /**
+     * Retries of a failed message in process, before rolling it back to the queue manager
+     *
+     * @return local retries, default 0 to roll back on the first failure
+     */
+    String localRetries() default "0";
+
+    /**
+     * Milliseconds to wait before the first local retry, each next wait is multiplied by localRetryMultiplier
+     *
+     * @return initial backoff
+     */
+    String localRetryBackoff() default "100";
+
+    /**
+     * Factor applied to the wait of each next local retry
+     *
+     * @return backoff multiplier
+     */
+    String localRetryMultiplier() default "2";
+
+    /**
+     * Random fraction of the wait added or subtracted to each local retry, between 0 and 1
+     *
+     * @return jitter factor
+     */
+    String localRetryJitter() default "0.5";
+
+    /**
+     * Max messages delivered together to the listener method, it should receive a List or Flux of messages
+     *
+     * @return batch size, default 0 to receive messages one by one
+     */
+    String batchSize() default "0";
+
+    /**
+     * Max milliseconds to wait for completing a batch since its first message is received
+     *
+     * @return batch timeout
+     */
+    String batchTimeout() default "1000";
+
+    /**
+     * Max messages processed at the same time by each connection of a reactive listener
+     *
+     * @return max in flight messages, default 1 to wait each message before receiving the next one
+     */
+    String maxInFlight() default "1";
+
+    /**
+     * Worker lanes fed by a single consumer, messages with the same key are processed in order by the same lane
+     *
+     * @return lanes, default 0 to use concurrency consumers without ordering
+     */
+    String lanes() default "0";
+
+    /**
+     * Key for choosing the lane of a message, JMSCorrelationID or a string property name
+     *
+     * @return key property, default JMSXGroupID
+     */
+    String laneKey() default "JMSXGroupID";
+
+    /**
+     * Receive the messages in library owned threads instead of the provider dispatcher threads, fixed queues only
+     *
+     * @return true to use the polling engine, default false
+     */
+    String polling() default "false";
+
+    /**
+     * Skip the messages whose JMSMessageID was already processed, using the MQMessageIdStore bean
+     *
+     * @return true to deduplicate redeliveries, default false
+     */
+    String dedupe() default "false";
 }
@@ -1,16 +1,27 @@
 package co.com.bancolombia.commons.jms.mq.config;
 
 import co.com.bancolombia.commons.jms.api.MQBrokerUtils;
+import co.com.bancolombia.commons.jms.api.MQMessageCodec;
+import co.com.bancolombia.commons.jms.api.MQMessageIdStore;
 import co.com.bancolombia.commons.jms.api.MQQueueCustomizer;
 import co.com.bancolombia.commons.jms.api.MQQueuesContainer;
 import co.com.bancolombia.commons.jms.api.exceptions.MQHealthListener;
+import co.com.bancolombia.commons.jms.internal.codec.MQJacksonCodec;
+import co.com.bancolombia.commons.jms.internal.dedupe.MQMessageIdCache;
+import co.com.bancolombia.commons.jms.internal.listener.MQPollingEngine;
 import co.com.bancolombia.commons.jms.mq.config.health.MQListenerHealthIndicator;
+import co.com.bancolombia.commons.jms.mq.config.health.MQListenersEndpoint;
+import co.com.bancolombia.commons.jms.mq.listeners.MQListenerRegistry;
 import co.com.bancolombia.commons.jms.mq.utils.MQUtils;
 import co.com.bancolombia.commons.jms.utils.MQQueuesContainerImp;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ibm.mq.jms.MQQueue;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 
 import static com.ibm.msg.client.wmq.common.CommonConstants.WMQ_MQMD_READ_ENABLED;
 import static com.ibm.msg.client.wmq.common.CommonConstants.WMQ_MQMD_WRITE_ENABLED;
@@ -54,4 +65,45 @@ public class MQAutoconfiguration {
     public MQHealthListener jmsConnections() {
         return new MQListenerHealthIndicator();
     }
+
+    @Bean
+    @ConditionalOnMissingBean(MQListenerRegistry.class)
+    public MQListenerRegistry mqListenerRegistry() {
+        return new MQListenerRegistry();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(MQListenersEndpoint.class)
+    public MQListenersEndpoint mqListenersEndpoint(MQListenerRegistry registry) {
+        return new MQListenersEndpoint(registry);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnMissingBean(MQPollingEngine.class)
+    public MQPollingEngine mqPollingEngine(MQProperties properties) {
+        int threads = properties.getInputPollingThreads() > 0 ? properties.getInputPollingThreads()
+                : Runtime.getRuntime().availableProcessors();
+        return new MQPollingEngine(threads);
+    }
+
+    @Bean
+    @Lazy
+    @ConditionalOnMissingBean(MQMessageIdStore.class)
+    public MQMessageIdStore mqMessageIdStore(MQProperties properties) {
+        return new MQMessageIdCache(properties.getInputDedupeCapacity(), properties.getInputDedupeWindow());
+    }
+
+    /**
+     * Jackson is an optional dependency, without it there is no default MQMessageCodec
+     */
+    @Configuration
+    @ConditionalOnClass(ObjectMapper.class)
+    public static class MQJacksonCodecConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean(MQMessageCodec.class)
+        public MQMessageCodec defaultMQMessageCodec(ObjectProvider<ObjectMapper> mapper) {
+            return new MQJacksonCodec(mapper.getIfAvailable(ObjectMapper::new));
+        }
+    }
 }
@@ -1,10 +1,15 @@
 package co.com.bancolombia.commons.jms.mq.config;
 
+import co.com.bancolombia.commons.jms.api.MQBrokerUtils;
 import co.com.bancolombia.commons.jms.api.MQMessageSelectorListener;
+import co.com.bancolombia.commons.jms.api.MQMessageSelectorListenerSync;
 import co.com.bancolombia.commons.jms.api.MQQueueCustomizer;
 import co.com.bancolombia.commons.jms.api.MQQueueManagerSetter;
 import co.com.bancolombia.commons.jms.api.MQQueuesContainer;
 import co.com.bancolombia.commons.jms.api.exceptions.MQHealthListener;
+import co.com.bancolombia.commons.jms.internal.listener.selector.MQCorrelationRouter;
+import co.com.bancolombia.commons.jms.internal.listener.selector.MQDemuxMessageSelectorListener;
+import co.com.bancolombia.commons.jms.internal.listener.selector.MQDemuxMessageSelectorListenerSync;
 import co.com.bancolombia.commons.jms.internal.listener.selector.MQMultiContextMessageSelectorListener;
 import co.com.bancolombia.commons.jms.internal.listener.selector.MQMultiContextMessageSelectorListenerSync;
 import co.com.bancolombia.commons.jms.internal.models.MQListenerConfig;
@@ -25,32 +30,48 @@ public class MQAutoconfigurationSelectorListener {
     @ConditionalOnMissingBean(MQMessageSelectorListener.class)
     @ConditionalOnProperty(prefix = "commons.jms", name = "reactive", havingValue = "true")
     public MQMessageSelectorListener defaultMQMessageSelectorListener(
-            MQMultiContextMessageSelectorListenerSync senderSync) {
+            MQMessageSelectorListenerSync senderSync) {
+        if (senderSync instanceof MQDemuxMessageSelectorListenerSync) {
+            return new MQDemuxMessageSelectorListener((MQDemuxMessageSelectorListenerSync) senderSync);
+        }
         return new MQMultiContextMessageSelectorListener(senderSync);
     }
 
     @Bean
     @ConditionalOnMissingBean(MQMultiContextMessageSelectorListenerSync.class)
+    @ConditionalOnProperty(prefix = "commons.jms", name = "input-selector-demux", havingValue = "false",
+            matchIfMissing = true)
     public MQMultiContextMessageSelectorListenerSync defaultMQMultiContextMessageSelectorListenerSync(
             ConnectionFactory cf, @Qualifier("messageSelectorListenerConfig") MQListenerConfig config,
             MQHealthListener healthListener) {
-        if (config.getConcurrency() < 1) {
-            throw new MQInvalidListenerException("Invalid property commons.jms.input-concurrency, minimum value 1, " +
-                    "you have passed " + config.getConcurrency());
-        }
+        validateConcurrency(config);
         if (log.isInfoEnabled()) {
             log.info("Creating {} listeners", config.getConcurrency());
         }
         return new MQMultiContextMessageSelectorListenerSync(cf, config, healthListener);
     }
 
+    @Bean(destroyMethod = "stop")
+    @ConditionalOnMissingBean(MQDemuxMessageSelectorListenerSync.class)
+    @ConditionalOnProperty(prefix = "commons.jms", name = "input-selector-demux", havingValue = "true")
+    public MQDemuxMessageSelectorListenerSync defaultMQDemuxMessageSelectorListenerSync(
+            ConnectionFactory cf, @Qualifier("messageSelectorListenerConfig") MQListenerConfig config,
+            MQHealthListener healthListener, MQQueuesContainer container, MQBrokerUtils utils,
+            MQProperties properties) {
+        validateConcurrency(config);
+        MQCorrelationRouter router = new MQCorrelationRouter(properties.getInputSelectorMailboxSize(),
+                properties.getInputSelectorMailboxTtl(), config.isBinaryCorrelationId());
+        return new MQDemuxMessageSelectorListenerSync(cf, config, healthListener, container, utils, router);
+    }
+
     @Bean
     public MQListenerConfig messageSelectorListenerConfig(MQProperties properties, MQQueueCustomizer customizer,
                                                           MQQueueManagerSetter setter) {
         MQListenerConfig.MQListenerConfigBuilder builder = MQListenerConfig.builder()
                 .concurrency(properties.getInputConcurrency())
                 .queue(properties.getInputQueue())
-                .customizer(customizer);
+                .customizer(customizer)
+                .binaryCorrelationId(properties.isInputSelectorBinaryCorrelationId());
 
         if (properties.isInputQueueSetQueueManager()) {
             builder.qmSetter(setter);
@@ -69,4 +90,10 @@ public class MQAutoconfigurationSelectorListener {
         };
     }
 
+    private static void validateConcurrency(MQListenerConfig config) {
+        if (config.getConcurrency() < 1) {
+            throw new MQInvalidListenerException("Invalid property commons.jms.input-concurrency, minimum value 1, " +
+                    "you have passed " + config.getConcurrency());
+        }
+    }
 }
@@ -1,20 +1,26 @@
 package co.com.bancolombia.commons.jms.mq.config;
 
 import co.com.bancolombia.commons.jms.api.MQDestinationProvider;
+import co.com.bancolombia.commons.jms.api.MQMessageCodec;
 import co.com.bancolombia.commons.jms.api.MQMessageSender;
 import co.com.bancolombia.commons.jms.api.MQMessageSenderSync;
 import co.com.bancolombia.commons.jms.api.MQProducerCustomizer;
 import co.com.bancolombia.commons.jms.api.MQQueueCustomizer;
 import co.com.bancolombia.commons.jms.api.exceptions.MQHealthListener;
 import co.com.bancolombia.commons.jms.internal.models.MQListenerConfig;
+import co.com.bancolombia.commons.jms.internal.models.MQSenderConfig;
+import co.com.bancolombia.commons.jms.internal.sender.MQMultiContextAsyncSender;
 import co.com.bancolombia.commons.jms.internal.sender.MQMultiContextSender;
 import co.com.bancolombia.commons.jms.internal.sender.MQMultiContextSenderSync;
 import co.com.bancolombia.commons.jms.mq.config.exceptions.MQInvalidSenderException;
 import co.com.bancolombia.commons.jms.utils.MQQueueUtils;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
 
 import javax.jms.ConnectionFactory;
 
@@ -22,25 +28,114 @@ import javax.jms.ConnectionFactory;
 public class MQAutoconfigurationSender {
 
     @Bean
+    public static MQSendersRegistrar mqSendersRegistrar() {
+        return new MQSendersRegistrar();
+    }
+
+    @Bean
+    @Primary
     @ConditionalOnMissingBean(MQMessageSender.class)
     @ConditionalOnProperty(prefix = "commons.jms", name = "reactive", havingValue = "true")
-    public MQMessageSender defaultMQMessageSender(MQMessageSenderSync senderSync) {
-        return new MQMultiContextSender(senderSync);
+    public MQMultiContextSender defaultMQMessageSender(MQMessageSenderSync senderSync, MQProperties properties,
+                                                       @Qualifier("messageSenderConfig") MQSenderConfig config) {
+        if (properties.isOutputAsync() && !(senderSync instanceof MQMultiContextSenderSync)) {
+            log.warn("Property commons.jms.output-async ignored, it requires the default MQMessageSenderSync bean");
+        }
+        return messageSender(senderSync, properties.isOutputAsync(), config);
     }
 
-    @Bean
+    /**
+     * Reactive sender of the default and the named senders, async sends require a MQMultiContextSenderSync
+     */
+    static MQMultiContextSender messageSender(MQMessageSenderSync senderSync, boolean async, MQSenderConfig config) {
+        if (async && senderSync instanceof MQMultiContextSenderSync) {
+            return new MQMultiContextAsyncSender((MQMultiContextSenderSync) senderSync, config);
+        }
+        return new MQMultiContextSender(senderSync, config);
+    }
+
+    @Bean(destroyMethod = "close")
+    @Primary
     @ConditionalOnMissingBean(MQMessageSenderSync.class)
-    public MQMessageSenderSync defaultMQMessageSenderSync(ConnectionFactory cf,
-                                                          MQDestinationProvider provider,
-                                                          MQProducerCustomizer customizer,
-                                                          MQProperties properties,
-                                                          MQHealthListener healthListener) {
-        if (properties.getOutputConcurrency() < 1) {
+    public MQMultiContextSenderSync defaultMQMessageSenderSync(ConnectionFactory cf,
+                                                               MQDestinationProvider provider,
+                                                               MQProducerCustomizer customizer,
+                                                               @Qualifier("messageSenderConfig") MQSenderConfig config,
+                                                               MQHealthListener healthListener) {
+        if (config.getConcurrency() < 1) {
             throw new MQInvalidSenderException("Invalid property commons.jms.output-concurrency, minimum value 1, " +
-                    "you have passed " + properties.getOutputConcurrency());
+                    "you have passed " + config.getConcurrency());
+        }
+        if (config.getBatchSize() < 1) {
+            throw new MQInvalidSenderException("Invalid property commons.jms.output-batch-size, minimum value 1, " +
+                    "you have passed " + config.getBatchSize());
         }
-        log.info("Creating {} senders", properties.getOutputConcurrency());
-        return new MQMultiContextSenderSync(cf, properties.getOutputConcurrency(), provider, customizer, healthListener);
+        if (config.isGroupCommit() && config.getGroupCommitSize() < 1) {
+            throw new MQInvalidSenderException("Invalid property commons.jms.output-group-commit-size, minimum value " +
+                    "1, you have passed " + config.getGroupCommitSize());
+        }
+        log.info("Creating {} senders", config.getConcurrency());
+        return new MQMultiContextSenderSync(cf, config, provider, customizer, healthListener);
+    }
+
+    @Bean
+    public MQSenderConfig messageSenderConfig(MQProperties properties, MQQueueCustomizer queueCustomizer,
+                                              ObjectProvider<MQMessageCodec> codec) {
+        return senderConfig(outputSender(properties), queueCustomizer, codec.getIfAvailable());
+    }
+
+    /**
+     * Config of the default sender from the commons.jms.output-* properties and of the named senders from their
+     * commons.jms.senders.{name}.* properties
+     */
+    static MQSenderConfig senderConfig(MQSenderProperties properties, MQQueueCustomizer queueCustomizer,
+                                       MQMessageCodec codec) {
+        return MQSenderConfig.builder()
+                .concurrency(properties.getConcurrency())
+                .checkoutTimeout(properties.getCheckoutTimeout())
+                .transactedConcurrency(properties.getTransactedConcurrency())
+                .batchSize(properties.getBatchSize())
+                .batchWindow(properties.getBatchWindow())
+                .groupCommit(properties.isGroupCommit())
+                .groupCommitSize(properties.getGroupCommitSize())
+                .groupCommitWindow(properties.getGroupCommitWindow())
+                .groupCommitTimeout(properties.getGroupCommitTimeout())
+                .maxInFlightPerContext(properties.getMaxInFlightPerContext())
+                .streamPrefetch(properties.getStreamPrefetch())
+                .streamOrdered(properties.isStreamOrdered())
+                .queueCustomizer(queueCustomizer)
+                .destinationCacheSize(properties.getDestinationCacheSize())
+                .codec(codec)
+                .compressionThreshold(properties.getCompressionThreshold())
+                .compressionLevel(properties.getCompressionLevel())
+                .chunkSize(properties.getChunkSize())
+                .binaryCorrelationId(properties.isBinaryCorrelationId())
+                .build();
+    }
+
+    private static MQSenderProperties outputSender(MQProperties properties) {
+        MQSenderProperties sender = new MQSenderProperties();
+        sender.setQueue(properties.getOutputQueue());
+        sender.setConcurrency(properties.getOutputConcurrency());
+        sender.setCheckoutTimeout(properties.getOutputCheckoutTimeout());
+        sender.setAsync(properties.isOutputAsync());
+        sender.setTransactedConcurrency(properties.getOutputTransactedConcurrency());
+        sender.setBatchSize(properties.getOutputBatchSize());
+        sender.setBatchWindow(properties.getOutputBatchWindow());
+        sender.setGroupCommit(properties.isOutputGroupCommit());
+        sender.setGroupCommitSize(properties.getOutputGroupCommitSize());
+        sender.setGroupCommitWindow(properties.getOutputGroupCommitWindow());
+        sender.setGroupCommitTimeout(properties.getOutputGroupCommitTimeout());
+        sender.setMaxInFlightPerContext(properties.getOutputMaxInFlightPerContext());
+        sender.setStreamPrefetch(properties.getOutputStreamPrefetch());
+        sender.setStreamOrdered(properties.isOutputStreamOrdered());
+        sender.setProducerTtl(properties.getProducerTtl());
+        sender.setDestinationCacheSize(properties.getOutputDestinationCacheSize());
+        sender.setCompressionThreshold(properties.getOutputCompressionThreshold());
+        sender.setCompressionLevel(properties.getOutputCompressionLevel());
+        sender.setChunkSize(properties.getOutputChunkSize());
+        sender.setBinaryCorrelationId(properties.isOutputBinaryCorrelationId());
+        return sender;
     }
 
     @Bean
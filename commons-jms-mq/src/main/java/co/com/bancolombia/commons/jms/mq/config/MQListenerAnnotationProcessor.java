@@ -1,13 +1,31 @@
 package co.com.bancolombia.commons.jms.mq.config;
 
+import co.com.bancolombia.commons.jms.api.MQBackoutQueueResolver;
 import co.com.bancolombia.commons.jms.api.MQBrokerUtils;
+import co.com.bancolombia.commons.jms.api.MQDelayedMessageSenderSync;
+import co.com.bancolombia.commons.jms.api.MQMessageCodec;
+import co.com.bancolombia.commons.jms.api.MQMessageIdStore;
+import co.com.bancolombia.commons.jms.api.MQMessageSenderSync;
 import co.com.bancolombia.commons.jms.api.MQQueueCustomizer;
+import co.com.bancolombia.commons.jms.api.MQQueueDepthProbe;
+import co.com.bancolombia.commons.jms.api.MQQueueMessageSenderSync;
 import co.com.bancolombia.commons.jms.api.MQQueuesContainer;
 import co.com.bancolombia.commons.jms.api.exceptions.MQHealthListener;
+import co.com.bancolombia.commons.jms.internal.listener.MQBackoutRouter;
+import co.com.bancolombia.commons.jms.internal.listener.MQDelayedRetry;
+import co.com.bancolombia.commons.jms.internal.listener.MQListenerContainer;
+import co.com.bancolombia.commons.jms.internal.listener.MQLocalRetry;
+import co.com.bancolombia.commons.jms.internal.listener.MQPollingEngine;
+import co.com.bancolombia.commons.jms.internal.models.MQAutoscaleConfig;
+import co.com.bancolombia.commons.jms.internal.models.MQDelayedRetryConfig;
 import co.com.bancolombia.commons.jms.internal.models.MQListenerConfig;
+import co.com.bancolombia.commons.jms.internal.models.MQRetryConfig;
 import co.com.bancolombia.commons.jms.mq.MQListener;
 import co.com.bancolombia.commons.jms.mq.MQListeners;
 import co.com.bancolombia.commons.jms.mq.config.exceptions.MQInvalidListenerException;
+import co.com.bancolombia.commons.jms.mq.listeners.MQListenerArguments;
+import co.com.bancolombia.commons.jms.mq.listeners.MQListenerRegistry;
+import co.com.bancolombia.commons.jms.mq.listeners.MQMessageBatchListener;
 import co.com.bancolombia.commons.jms.mq.listeners.MQMessageListener;
 import co.com.bancolombia.commons.jms.mq.listeners.MQReactiveMessageListener;
 import co.com.bancolombia.commons.jms.utils.MQMessageListenerUtils;
@@ -18,6 +36,7 @@ import org.springframework.aop.support.AopUtils;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.BeanFactoryAware;
 import org.springframework.beans.factory.BeanInitializationException;
+import org.springframework.beans.factory.NoSuchBeanDefinitionException;
 import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.beans.factory.config.EmbeddedValueResolver;
@@ -35,8 +54,10 @@ import java.lang.reflect.Method;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import static co.com.bancolombia.commons.jms.mq.config.utils.AnnotationUtils.resolveConcurrency;
+import static co.com.bancolombia.commons.jms.mq.config.utils.AnnotationUtils.resolveMaxConcurrency;
 import static co.com.bancolombia.commons.jms.mq.config.utils.AnnotationUtils.resolveQueue;
 import static co.com.bancolombia.commons.jms.mq.config.utils.AnnotationUtils.resolveRetries;
 
@@ -66,32 +87,119 @@ public class MQListenerAnnotationProcessor implements BeanPostProcessor, BeanFac
 
     private void processAnnotated(Object bean, String beanName, Map<Method, Set<MQListener>> annotatedMethods) {
         if (!annotatedMethods.isEmpty()) {
-            annotatedMethods.forEach((method, listeners) -> listeners.forEach(listener -> processJmsListener(listener, method, bean)));
+            annotatedMethods.forEach((method, listeners) -> listeners.forEach(listener -> processJmsListener(listener, method, bean, beanName)));
             if (log.isInfoEnabled()) {
                 log.info("{} @MQListener methods processed on bean '{}': {}", annotatedMethods.size(), beanName, annotatedMethods);
             }
         }
     }
 
-    private void processJmsListener(MQListener mqListener, Method mostSpecificMethod, Object bean) {
+    private void processJmsListener(MQListener mqListener, Method mostSpecificMethod, Object bean, String beanName) {
         MQProperties properties = resolveBeanWithName("", MQProperties.class);
         MQListenerConfig config = validateAnnotationConfig(mqListener, properties);
+        if (config.getMaxInFlight() > 1 && !properties.isReactive()) {
+            throw new MQInvalidListenerException("Invalid configuration, maxInFlight is only supported in reactive listeners");
+        }
         Method invocableMethod = AopUtils.selectInvocableMethod(mostSpecificMethod, bean.getClass());
-        MessageListener processor = getEffectiveMessageListener(bean, invocableMethod, properties.isReactive(), config);
         ConnectionFactory cf = resolveBeanWithName(mqListener.connectionFactory(), ConnectionFactory.class);
         MQQueuesContainer queuesContainer = beanFactory.getBean(MQQueuesContainer.class);
         MQBrokerUtils mqBrokerUtils = beanFactory.getBean(MQBrokerUtils.class);
         MQHealthListener exceptionListener = beanFactory.getBean(MQHealthListener.class);
+        MQListenerRegistry registry = beanFactory.getBean(MQListenerRegistry.class);
 
+        // local retries run inside the listener, before its delayed retry and maxRetries handling
+        MQListenerConfig containerConfig = config.toBuilder().localRetry(MQRetryConfig.builder().build()).build();
         try {
-            MQMessageListenerUtils.createListeners(cf, processor, queuesContainer, mqBrokerUtils, config, exceptionListener);
+            MQListenerContainer listenerContainer;
+            if (config.getMaxInFlight() > 1) {
+                MQReactiveMessageListener pipelined = (MQReactiveMessageListener) getEffectiveMessageListener(mqListener, bean, invocableMethod, true, config);
+                listenerContainer = MQMessageListenerUtils.createPipelinedListeners(cf, pipelined, queuesContainer, mqBrokerUtils, containerConfig, exceptionListener);
+            } else if (config.getBatchSize() > 0) {
+                MQListenerConfig batchConfig = config.toBuilder().backoutRouter(getBackoutRouter(mqListener, config)).build();
+                listenerContainer = MQMessageListenerUtils.createBatchListeners(cf, MQMessageBatchListener.fromBeanAndMethod(bean, invocableMethod), queuesContainer, mqBrokerUtils, batchConfig, exceptionListener);
+            } else if (config.getLanes() > 0) {
+                MessageListener processor = getEffectiveMessageListener(mqListener, bean, invocableMethod, properties.isReactive(), config);
+                listenerContainer = MQMessageListenerUtils.createKeyOrderedListener(cf, processor, queuesContainer, mqBrokerUtils, containerConfig, exceptionListener);
+            } else {
+                MessageListener processor = getEffectiveMessageListener(mqListener, bean, invocableMethod, properties.isReactive(), config);
+                listenerContainer = MQMessageListenerUtils.createListeners(cf, processor, queuesContainer, mqBrokerUtils, containerConfig, exceptionListener);
+            }
+            registry.register(beanName + "." + invocableMethod.getName(), listenerContainer);
         } catch (JMSRuntimeException ex) {
             throw new BeanInitializationException("Could not register MQ listener on [" + mostSpecificMethod + "], using ConnectionFactory: " + cf, ex);
         }
     }
 
-    private MessageListener getEffectiveMessageListener(Object bean, Method invocableMethod, boolean isReactive, MQListenerConfig config) {
-        return isReactive ? MQReactiveMessageListener.fromBeanAndMethod(bean, invocableMethod, config.getMaxRetries()) : MQMessageListener.fromBeanAndMethod(bean, invocableMethod, config.getMaxRetries());
+    private MessageListener getEffectiveMessageListener(MQListener mqListener, Object bean, Method invocableMethod, boolean isReactive, MQListenerConfig config) {
+        MQMessageCodec codec = null;
+        if (MQListenerArguments.payloadType(invocableMethod) != null) {
+            codec = beanFactory.getBeanProvider(MQMessageCodec.class).getIfAvailable();
+            if (codec == null) {
+                throw new MQInvalidListenerException("Invalid configuration, a MQMessageCodec bean is required to decode the payload parameter of " + invocableMethod);
+            }
+        }
+        MQBackoutRouter backout = getBackoutRouter(mqListener, config);
+        MQDelayedRetry delayedRetry = getDelayedRetry(mqListener, config);
+        MQLocalRetry localRetry = new MQLocalRetry(listenerName(config), config.getLocalRetry());
+        return isReactive ? MQReactiveMessageListener.fromBeanAndMethod(bean, invocableMethod, config.getMaxRetries(), codec, backout, delayedRetry, localRetry) : MQMessageListener.fromBeanAndMethod(bean, invocableMethod, config.getMaxRetries(), codec, backout, delayedRetry, localRetry);
+    }
+
+    private static String listenerName(MQListenerConfig config) {
+        return StringUtils.hasText(config.getQueue()) ? config.getQueue() : config.getTempQueueAlias();
+    }
+
+    private MQBackoutRouter getBackoutRouter(MQListener mqListener, MQListenerConfig config) {
+        if (!StringUtils.hasText(config.getBackoutQueue())) {
+            return null;
+        }
+        MQMessageSenderSync sender = resolveSender(mqListener.backoutSender(), "backoutQueue");
+        if (!(sender instanceof MQQueueMessageSenderSync)) {
+            throw new MQInvalidListenerException("Invalid configuration, backoutQueue requires a MQQueueMessageSenderSync bean, " + sender.getClass().getName() + " does not support sending by queue name");
+        }
+        return new MQBackoutRouter((MQQueueMessageSenderSync) sender, listenerName(config), config.getBackoutQueue());
+    }
+
+    private MQDelayedRetry getDelayedRetry(MQListener mqListener, MQListenerConfig config) {
+        if (config.getDelayedRetry().getRetries() <= 0) {
+            return null;
+        }
+        MQMessageSenderSync sender = resolveSender(mqListener.delayedRetrySender(), "delayedRetries");
+        if (!(sender instanceof MQDelayedMessageSenderSync)) {
+            throw new MQInvalidListenerException("Invalid configuration, delayedRetries requires a MQDelayedMessageSenderSync bean, " + sender.getClass().getName() + " does not support the delivery delay");
+        }
+        return new MQDelayedRetry((MQDelayedMessageSenderSync) sender, config.getDelayedRetry(), config.getQueue());
+    }
+
+    private MQMessageSenderSync resolveSender(String beanName, String feature) {
+        try {
+            return resolveBeanWithName(beanName, MQMessageSenderSync.class);
+        } catch (NoSuchBeanDefinitionException e) {
+            throw new MQInvalidListenerException("Invalid configuration, " + feature + " requires a MQMessageSenderSync bean, enable it with @EnableMQMessageSender");
+        }
+    }
+
+    private void validateLocalRetry(MQRetryConfig localRetry, int batchSize) {
+        if (localRetry.getRetries() <= 0) {
+            return;
+        }
+        if (batchSize > 0) {
+            throw new MQInvalidListenerException("Invalid configuration, localRetries is not supported with batchSize");
+        }
+        if (localRetry.getBackoff() < 1 || localRetry.getMultiplier() < 1 || localRetry.getJitter() < 0 || localRetry.getJitter() >= 1) {
+            throw new MQInvalidListenerException("Invalid configuration, localRetryBackoff should be positive, localRetryMultiplier at least 1 and localRetryJitter between 0 and 1");
+        }
+    }
+
+    private void validateDelayedRetry(MQDelayedRetryConfig delayedRetry, int batchSize, String temporaryQueue) {
+        if (delayedRetry.getRetries() <= 0) {
+            return;
+        }
+        if (batchSize > 0 || StringUtils.hasText(temporaryQueue)) {
+            throw new MQInvalidListenerException("Invalid configuration, delayedRetries is only supported when listening a fixed queue without batchSize");
+        }
+        if (delayedRetry.getDelay() < 0 || delayedRetry.getMultiplier() < 1) {
+            throw new MQInvalidListenerException("Invalid configuration, delayedRetryDelay should not be negative and delayedRetryMultiplier should be at least 1");
+        }
     }
 
     private MQListenerConfig validateAnnotationConfig(MQListener config, MQProperties properties) {
@@ -110,7 +218,91 @@ public class MQListenerAnnotationProcessor implements BeanPostProcessor, BeanFac
         String fixedQueue = resolveQueue(queue, temporaryQueue, properties.getInputQueue());
         int finalConcurrency = resolveConcurrency(concurrency, properties.getInputConcurrency());
         int maxRetries = resolveRetries(config.maxRetries());
-        MQListenerConfig listenerConfig = MQListenerConfig.builder().concurrency(finalConcurrency).tempQueueAlias(temporaryQueue).queue(fixedQueue).connectionFactory(config.connectionFactory()).customizer(customizer).maxRetries(maxRetries).build();
+        int batchSize = Integer.parseInt(Objects.requireNonNull(embeddedValueResolver.resolveStringValue(config.batchSize())));
+        String backoutQueue = embeddedValueResolver.resolveStringValue(config.backoutQueue());
+        MQBackoutQueueResolver backoutResolver = StringUtils.hasText(fixedQueue) ? beanFactory.getBeanProvider(MQBackoutQueueResolver.class).getIfAvailable() : null;
+        if (backoutResolver != null) {
+            if (!StringUtils.hasText(backoutQueue)) {
+                backoutQueue = backoutResolver.getBackoutQueue(fixedQueue);
+            }
+            int backoutThreshold = backoutResolver.getBackoutThreshold(fixedQueue);
+            if (maxRetries == -1 && backoutThreshold > 0 && StringUtils.hasText(backoutQueue)) {
+                maxRetries = backoutThreshold;
+            }
+        }
+        long batchTimeout = Long.parseLong(Objects.requireNonNull(embeddedValueResolver.resolveStringValue(config.batchTimeout())));
+        int maxInFlight = Integer.parseInt(Objects.requireNonNull(embeddedValueResolver.resolveStringValue(config.maxInFlight())));
+        int lanes = Integer.parseInt(Objects.requireNonNull(embeddedValueResolver.resolveStringValue(config.lanes())));
+        String laneKey = embeddedValueResolver.resolveStringValue(config.laneKey());
+        boolean polling = Boolean.parseBoolean(embeddedValueResolver.resolveStringValue(config.polling()));
+        if ((batchSize > 0 || maxInFlight > 1 || lanes > 0 || polling) && StringUtils.hasText(temporaryQueue)) {
+            throw new MQInvalidListenerException("Invalid configuration, batchSize, maxInFlight, lanes and polling are only supported when listening a fixed queue");
+        }
+        if (Stream.of(batchSize > 0, maxInFlight > 1, lanes > 0, polling).filter(Boolean::booleanValue).count() > 1) {
+            throw new MQInvalidListenerException("Invalid configuration, should define only one of batchSize, maxInFlight, lanes or polling");
+        }
+        MQRetryConfig localRetry = MQRetryConfig.builder()
+                .retries(Integer.parseInt(Objects.requireNonNull(embeddedValueResolver.resolveStringValue(config.localRetries()))))
+                .backoff(Long.parseLong(Objects.requireNonNull(embeddedValueResolver.resolveStringValue(config.localRetryBackoff()))))
+                .multiplier(Double.parseDouble(Objects.requireNonNull(embeddedValueResolver.resolveStringValue(config.localRetryMultiplier()))))
+                .jitter(Double.parseDouble(Objects.requireNonNull(embeddedValueResolver.resolveStringValue(config.localRetryJitter()))))
+                .maxBackoff(properties.getInputLocalRetryMaxBackoff())
+                .build();
+        validateLocalRetry(localRetry, batchSize);
+        MQDelayedRetryConfig delayedRetry = MQDelayedRetryConfig.builder()
+                .retries(Integer.parseInt(Objects.requireNonNull(embeddedValueResolver.resolveStringValue(config.delayedRetries()))))
+                .delay(Long.parseLong(Objects.requireNonNull(embeddedValueResolver.resolveStringValue(config.delayedRetryDelay()))))
+                .multiplier(Double.parseDouble(Objects.requireNonNull(embeddedValueResolver.resolveStringValue(config.delayedRetryMultiplier()))))
+                .maxDelay(properties.getInputDelayedRetryMaxDelay())
+                .queue(Objects.requireNonNull(embeddedValueResolver.resolveStringValue(config.delayedRetryQueue())))
+                .build();
+        validateDelayedRetry(delayedRetry, batchSize, temporaryQueue);
+        boolean dedupe = Boolean.parseBoolean(embeddedValueResolver.resolveStringValue(config.dedupe()));
+        if (dedupe && batchSize > 0) {
+            throw new MQInvalidListenerException("Invalid configuration, dedupe is not supported with batchSize");
+        }
+        MQMessageIdStore messageIdStore = dedupe ? beanFactory.getBean(MQMessageIdStore.class) : null;
+        int maxConcurrency = Integer.parseInt(Objects.requireNonNull(embeddedValueResolver.resolveStringValue(config.maxConcurrency())));
+        if (maxConcurrency > 0 && StringUtils.hasText(temporaryQueue)) {
+            throw new MQInvalidListenerException("Invalid configuration, maxConcurrency is only supported when listening a fixed queue");
+        }
+        int finalMaxConcurrency = StringUtils.hasText(temporaryQueue) ? 0 : resolveMaxConcurrency(maxConcurrency, properties.getInputMaxConcurrency());
+        MQAutoscaleConfig autoscale = MQAutoscaleConfig.builder()
+                .interval(properties.getInputAutoscaleInterval())
+                .targetMessageAge(properties.getInputAutoscaleTargetAge())
+                .scaleUpCooldown(properties.getInputAutoscaleUpCooldown())
+                .scaleDownCooldown(properties.getInputAutoscaleDownCooldown())
+                .build();
+        MQPollingEngine pollingEngine = polling && properties.isInputPollingShared() ? beanFactory.getBean(MQPollingEngine.class) : null;
+        MQQueueDepthProbe depthProbe = finalMaxConcurrency > 0 ? beanFactory.getBeanProvider(MQQueueDepthProbe.class).getIfAvailable() : null;
+        MQListenerConfig listenerConfig = MQListenerConfig.builder()
+                .concurrency(finalConcurrency)
+                .tempQueueAlias(temporaryQueue)
+                .queue(fixedQueue)
+                .connectionFactory(config.connectionFactory())
+                .customizer(customizer)
+                .maxRetries(maxRetries)
+                .backoutQueue(backoutQueue == null ? "" : backoutQueue)
+                .maxChunkGroups(properties.getInputMaxChunkGroups())
+                .chunkGroupTimeout(properties.getInputChunkGroupTimeout())
+                .batchSize(batchSize)
+                .batchTimeout(batchTimeout)
+                .maxInFlight(maxInFlight)
+                .lanes(lanes)
+                .laneKey(laneKey)
+                .laneCapacity(properties.getInputLaneCapacity())
+                .maxConcurrency(finalMaxConcurrency)
+                .autoscale(autoscale)
+                .depthProbe(depthProbe)
+                .polling(polling)
+                .pollingEngine(pollingEngine)
+                .pollingBurst(properties.getInputPollingBurst())
+                .pollingMinBackoff(properties.getInputPollingMinBackoff())
+                .pollingMaxBackoff(properties.getInputPollingMaxBackoff())
+                .localRetry(localRetry)
+                .delayedRetry(delayedRetry)
+                .messageIdStore(messageIdStore)
+                .build();
         if (!StringUtils.hasText(listenerConfig.getQueue()) && !StringUtils.hasText(listenerConfig.getTempQueueAlias())) {
             throw new MQInvalidListenerException("Invalid configuration, should define one of value or tempQueueAlias");
         }
@@ -4,18 +4,83 @@ import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.Deflater;
+
 @Data
 @Component
 @ConfigurationProperties(prefix = "commons.jms")
 public class MQProperties {
     public static final int DEFAULT_CONCURRENCY = 1;
     public static final int DEFAULT_MAX_RETRIES = 10;
+    public static final int DEFAULT_BATCH_SIZE = 100;
+    public static final long DEFAULT_BATCH_WINDOW = 100;
+    public static final int DEFAULT_GROUP_COMMIT_SIZE = 64;
+    public static final long DEFAULT_GROUP_COMMIT_WINDOW = 1;
+    public static final long DEFAULT_GROUP_COMMIT_TIMEOUT = 30000;
+    public static final int DEFAULT_DESTINATION_CACHE_SIZE = 100;
+    public static final int DEFAULT_MAX_CHUNK_GROUPS = 100;
+    public static final long DEFAULT_CHUNK_GROUP_TIMEOUT = 60000;
+    public static final int DEFAULT_LANE_CAPACITY = 256;
+    public static final long DEFAULT_AUTOSCALE_INTERVAL = 5000;
+    public static final long DEFAULT_AUTOSCALE_TARGET_AGE = 1000;
+    public static final long DEFAULT_AUTOSCALE_UP_COOLDOWN = 30000;
+    public static final long DEFAULT_AUTOSCALE_DOWN_COOLDOWN = 120000;
+    public static final int DEFAULT_POLLING_BURST = 100;
+    public static final long DEFAULT_POLLING_MIN_BACKOFF = 1;
+    public static final long DEFAULT_POLLING_MAX_BACKOFF = 1000;
+    public static final long DEFAULT_LOCAL_RETRY_MAX_BACKOFF = 10000;
+    public static final long DEFAULT_DELAYED_RETRY_MAX_DELAY = 3600000;
+    public static final int DEFAULT_DEDUPE_CAPACITY = 100000;
+    public static final long DEFAULT_DEDUPE_WINDOW = 600000;
+    public static final int DEFAULT_SELECTOR_MAILBOX_SIZE = 1000;
+    public static final long DEFAULT_SELECTOR_MAILBOX_TTL = 60000;
     private int outputConcurrency = DEFAULT_CONCURRENCY;
+    private long outputCheckoutTimeout = -1;
+    private boolean outputAsync = false;
+    private int outputTransactedConcurrency = 0;
+    private int outputBatchSize = DEFAULT_BATCH_SIZE;
+    private long outputBatchWindow = DEFAULT_BATCH_WINDOW;
+    private boolean outputGroupCommit = false;
+    private int outputGroupCommitSize = DEFAULT_GROUP_COMMIT_SIZE;
+    private long outputGroupCommitWindow = DEFAULT_GROUP_COMMIT_WINDOW;
+    private long outputGroupCommitTimeout = DEFAULT_GROUP_COMMIT_TIMEOUT;
+    private int outputMaxInFlightPerContext = 1;
+    private int outputStreamPrefetch = 0;
+    private boolean outputStreamOrdered = true;
+    private int outputDestinationCacheSize = DEFAULT_DESTINATION_CACHE_SIZE;
+    private int outputCompressionThreshold = 0;
+    private int outputCompressionLevel = Deflater.DEFAULT_COMPRESSION;
+    private int outputChunkSize = 0;
+    private boolean outputBinaryCorrelationId = false;
     private String outputQueue;
     private int inputConcurrency = DEFAULT_CONCURRENCY;
     private String inputQueue;
     private String inputQueueAlias;
     private boolean inputQueueSetQueueManager = false;
+    private int inputMaxChunkGroups = DEFAULT_MAX_CHUNK_GROUPS;
+    private long inputChunkGroupTimeout = DEFAULT_CHUNK_GROUP_TIMEOUT;
+    private int inputLaneCapacity = DEFAULT_LANE_CAPACITY;
+    private int inputMaxConcurrency = 0;
+    private long inputAutoscaleInterval = DEFAULT_AUTOSCALE_INTERVAL;
+    private long inputAutoscaleTargetAge = DEFAULT_AUTOSCALE_TARGET_AGE;
+    private long inputAutoscaleUpCooldown = DEFAULT_AUTOSCALE_UP_COOLDOWN;
+    private long inputAutoscaleDownCooldown = DEFAULT_AUTOSCALE_DOWN_COOLDOWN;
+    private boolean inputPollingShared = true;
+    private int inputPollingThreads = 0;
+    private int inputPollingBurst = DEFAULT_POLLING_BURST;
+    private long inputPollingMinBackoff = DEFAULT_POLLING_MIN_BACKOFF;
+    private long inputPollingMaxBackoff = DEFAULT_POLLING_MAX_BACKOFF;
+    private long inputLocalRetryMaxBackoff = DEFAULT_LOCAL_RETRY_MAX_BACKOFF;
+    private long inputDelayedRetryMaxDelay = DEFAULT_DELAYED_RETRY_MAX_DELAY;
+    private int inputDedupeCapacity = DEFAULT_DEDUPE_CAPACITY;
+    private long inputDedupeWindow = DEFAULT_DEDUPE_WINDOW;
+    private boolean inputSelectorDemux = false;
+    private int inputSelectorMailboxSize = DEFAULT_SELECTOR_MAILBOX_SIZE;
+    private long inputSelectorMailboxTtl = DEFAULT_SELECTOR_MAILBOX_TTL;
+    private boolean inputSelectorBinaryCorrelationId = false;
     private long producerTtl = 0;
     private boolean reactive = false;
+    private Map<String, MQSenderProperties> senders = new HashMap<>();
 }
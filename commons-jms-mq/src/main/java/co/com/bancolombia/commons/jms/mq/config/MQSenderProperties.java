@@ -0,0 +1,33 @@
+package co.com.bancolombia.commons.jms.mq.config;
+
+import lombok.Data;
+
+import java.util.zip.Deflater;
+
+@Data
+public class MQSenderProperties {
+    private String queue;
+    private int concurrency = MQProperties.DEFAULT_CONCURRENCY;
+    private long checkoutTimeout = -1;
+    private boolean async = false;
+    private int transactedConcurrency = 0;
+    private int batchSize = MQProperties.DEFAULT_BATCH_SIZE;
+    private long batchWindow = MQProperties.DEFAULT_BATCH_WINDOW;
+    private boolean groupCommit = false;
+    private int groupCommitSize = MQProperties.DEFAULT_GROUP_COMMIT_SIZE;
+    private long groupCommitWindow = MQProperties.DEFAULT_GROUP_COMMIT_WINDOW;
+    private long groupCommitTimeout = MQProperties.DEFAULT_GROUP_COMMIT_TIMEOUT;
+    private int maxInFlightPerContext = 1;
+    private int streamPrefetch = 0;
+    private boolean streamOrdered = true;
+    private long producerTtl = 0;
+    private int destinationCacheSize = MQProperties.DEFAULT_DESTINATION_CACHE_SIZE;
+    private int compressionThreshold = 0;
+    private int compressionLevel = Deflater.DEFAULT_COMPRESSION;
+    private int chunkSize = 0;
+    private boolean binaryCorrelationId = false;
+    /**
+     * Name of the MQProducerCustomizer bean applied to this sender, by default producerTtl is applied
+     */
+    private String producerCustomizer;
+}
@@ -0,0 +1,133 @@
+package co.com.bancolombia.commons.jms.mq.config;
+
+import co.com.bancolombia.commons.jms.api.MQDestinationProvider;
+import co.com.bancolombia.commons.jms.api.MQMessageCodec;
+import co.com.bancolombia.commons.jms.api.MQMessageSenderSync;
+import co.com.bancolombia.commons.jms.api.MQProducerCustomizer;
+import co.com.bancolombia.commons.jms.api.MQQueueCustomizer;
+import co.com.bancolombia.commons.jms.api.exceptions.MQHealthListener;
+import co.com.bancolombia.commons.jms.internal.models.MQListenerConfig;
+import co.com.bancolombia.commons.jms.internal.models.MQSenderConfig;
+import co.com.bancolombia.commons.jms.internal.sender.MQMultiContextSender;
+import co.com.bancolombia.commons.jms.internal.sender.MQMultiContextSenderSync;
+import co.com.bancolombia.commons.jms.mq.config.exceptions.MQInvalidSenderException;
+import co.com.bancolombia.commons.jms.utils.MQQueueUtils;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.AutowireCandidateQualifier;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.BeanDefinitionRegistryPostProcessor;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
+
+import javax.jms.ConnectionFactory;
+import java.util.Collections;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Registers a MQMessageSenderSync, and a MQMessageSender when commons.jms.reactive is enabled, for each entry of
+ * commons.jms.senders. Beans are named {name}MQMessageSenderSync and {name}MQMessageSender and can be injected
+ * with @Qualifier("{name}").
+ */
+@Log4j2
+public class MQSendersRegistrar implements BeanDefinitionRegistryPostProcessor, EnvironmentAware, BeanFactoryAware {
+    public static final String SENDERS_PREFIX = "commons.jms.senders";
+    private Environment environment;
+    private BeanFactory beanFactory;
+
+    @Override
+    public void postProcessBeanDefinitionRegistry(BeanDefinitionRegistry registry) throws BeansException {
+        Map<String, MQSenderProperties> senders = Binder.get(environment)
+                .bind(SENDERS_PREFIX, Bindable.mapOf(String.class, MQSenderProperties.class))
+                .orElse(Collections.emptyMap());
+        boolean reactive = environment.getProperty("commons.jms.reactive", Boolean.class, false);
+        senders.forEach((name, properties) -> {
+            validate(name, properties);
+            String syncName = name + "MQMessageSenderSync";
+            log.info("Registering sender {} with {} connections to {}", name, properties.getConcurrency(),
+                    properties.getQueue());
+            RootBeanDefinition syncDefinition = definition(name, MQMultiContextSenderSync.class,
+                    () -> buildSenderSync(properties));
+            syncDefinition.setDestroyMethodName("close");
+            registry.registerBeanDefinition(syncName, syncDefinition);
+            if (reactive) {
+                registry.registerBeanDefinition(name + "MQMessageSender", definition(name, MQMultiContextSender.class,
+                        () -> MQAutoconfigurationSender.messageSender(beanFactory.getBean(syncName,
+                                MQMessageSenderSync.class), properties.isAsync(), buildConfig(properties))));
+            }
+        });
+    }
+
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory factory) throws BeansException {
+        // Nothing to do, senders are registered as bean definitions
+    }
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
+        this.beanFactory = beanFactory;
+    }
+
+    private MQMultiContextSenderSync buildSenderSync(MQSenderProperties properties) {
+        MQQueueCustomizer queueCustomizer = beanFactory.getBean(MQQueueCustomizer.class);
+        MQDestinationProvider provider = context -> MQQueueUtils.setupFixedQueue(context, MQListenerConfig.builder()
+                .queue(properties.getQueue())
+                .customizer(queueCustomizer).build());
+        return new MQMultiContextSenderSync(beanFactory.getBean(ConnectionFactory.class), buildConfig(properties),
+                provider, producerCustomizer(properties), beanFactory.getBean(MQHealthListener.class));
+    }
+
+    private MQProducerCustomizer producerCustomizer(MQSenderProperties properties) {
+        if (properties.getProducerCustomizer() != null) {
+            return beanFactory.getBean(properties.getProducerCustomizer(), MQProducerCustomizer.class);
+        }
+        return producer -> {
+            if (properties.getProducerTtl() > 0) {
+                producer.setTimeToLive(properties.getProducerTtl());
+            }
+        };
+    }
+
+    private MQSenderConfig buildConfig(MQSenderProperties properties) {
+        return MQAutoconfigurationSender.senderConfig(properties, beanFactory.getBean(MQQueueCustomizer.class),
+                beanFactory.getBeanProvider(MQMessageCodec.class).getIfAvailable());
+    }
+
+    private static <T> RootBeanDefinition definition(String name, Class<T> type, Supplier<T> supplier) {
+        RootBeanDefinition definition = new RootBeanDefinition(type, supplier);
+        definition.addQualifier(new AutowireCandidateQualifier(Qualifier.class, name));
+        return definition;
+    }
+
+    private static void validate(String name, MQSenderProperties properties) {
+        if (properties.getQueue() == null || properties.getQueue().isEmpty()) {
+            throw new MQInvalidSenderException("Invalid property " + SENDERS_PREFIX + "." + name +
+                    ".queue, it is required");
+        }
+        if (properties.getConcurrency() < 1) {
+            throw new MQInvalidSenderException("Invalid property " + SENDERS_PREFIX + "." + name +
+                    ".concurrency, minimum value 1, you have passed " + properties.getConcurrency());
+        }
+        if (properties.getBatchSize() < 1) {
+            throw new MQInvalidSenderException("Invalid property " + SENDERS_PREFIX + "." + name +
+                    ".batch-size, minimum value 1, you have passed " + properties.getBatchSize());
+        }
+        if (properties.isGroupCommit() && properties.getGroupCommitSize() < 1) {
+            throw new MQInvalidSenderException("Invalid property " + SENDERS_PREFIX + "." + name +
+                    ".group-commit-size, minimum value 1, you have passed " + properties.getGroupCommitSize());
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package co.com.bancolombia.commons.jms.mq.config.health;
+
+import co.com.bancolombia.commons.jms.internal.listener.MQListenerContainer;
+import co.com.bancolombia.commons.jms.mq.listeners.MQListenerRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Exposes the listeners of the MQListenerRegistry, a POST to /actuator/mqlisteners/{name} with an action (pause or
+ * resume) and/or a concurrency changes the listener
+ */
+@RequiredArgsConstructor
+@Endpoint(id = "mqlisteners")
+public class MQListenersEndpoint {
+    public static final String PAUSE = "pause";
+    public static final String RESUME = "resume";
+    private final MQListenerRegistry registry;
+
+    @ReadOperation
+    public Map<String, Map<String, Object>> listeners() {
+        Map<String, Map<String, Object>> listeners = new LinkedHashMap<>();
+        registry.getContainers().forEach((name, container) -> listeners.put(name, describe(container)));
+        return listeners;
+    }
+
+    @ReadOperation
+    public Map<String, Object> listener(@Selector String name) {
+        return registry.get(name).map(MQListenersEndpoint::describe).orElse(null);
+    }
+
+    @WriteOperation
+    public Map<String, Object> update(@Selector String name, @Nullable String action, @Nullable Integer concurrency) {
+        MQListenerContainer container = registry.get(name).orElse(null);
+        if (container == null) {
+            return null;
+        }
+        if (PAUSE.equals(action)) {
+            container.pause();
+        } else if (RESUME.equals(action)) {
+            container.resume();
+        } else if (action != null) {
+            throw new InvalidEndpointRequestException("Unknown action " + action, "Action should be pause or resume");
+        }
+        if (concurrency != null) {
+            if (concurrency < 0 || !container.isScalable()) {
+                throw new InvalidEndpointRequestException("Invalid concurrency " + concurrency + " for " + name,
+                        "Concurrency can not be changed");
+            }
+            container.setConcurrency(concurrency);
+        }
+        return describe(container);
+    }
+
+    private static Map<String, Object> describe(MQListenerContainer container) {
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("queue", container.name());
+        details.put("concurrency", container.getConcurrency());
+        details.put("paused", container.isPaused());
+        details.put("scalable", container.isScalable());
+        details.put("autoscaled", container.isAutoscaled());
+        return details;
+    }
+}
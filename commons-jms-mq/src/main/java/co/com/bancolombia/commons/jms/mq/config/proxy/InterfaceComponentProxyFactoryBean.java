@@ -7,10 +7,12 @@ import co.com.bancolombia.commons.jms.api.MQQueueCustomizer;
 import co.com.bancolombia.commons.jms.api.MQQueuesContainer;
 import co.com.bancolombia.commons.jms.api.MQRequestReply;
 import co.com.bancolombia.commons.jms.api.exceptions.MQHealthListener;
+import co.com.bancolombia.commons.jms.internal.listener.MQListenerContainer;
 import co.com.bancolombia.commons.jms.internal.models.MQListenerConfig;
 import co.com.bancolombia.commons.jms.mq.ReqReply;
 import co.com.bancolombia.commons.jms.mq.config.MQProperties;
 import co.com.bancolombia.commons.jms.mq.config.exceptions.MQInvalidListenerException;
+import co.com.bancolombia.commons.jms.mq.listeners.MQListenerRegistry;
 import co.com.bancolombia.commons.jms.mq.listeners.MQRequestReplyListener;
 import co.com.bancolombia.commons.jms.utils.MQMessageListenerUtils;
 import co.com.bancolombia.commons.jms.utils.ReactiveReplyRouter;
@@ -92,7 +94,9 @@ public class InterfaceComponentProxyFactoryBean implements FactoryBean<Object>,
         MQRequestReplyListener senderWithRouter = new MQRequestReplyListener(sender, router, container, destination,
                 config.getTempQueueAlias(), config.getMaxRetries());
         try {
-            MQMessageListenerUtils.createListeners(cf, senderWithRouter, container, mqBrokerUtils, config, healthListener);
+            MQListenerContainer listenerContainer = MQMessageListenerUtils.createListeners(cf, senderWithRouter,
+                    container, mqBrokerUtils, config, healthListener);
+            beanFactory.getBean(MQListenerRegistry.class).register(className, listenerContainer);
         } catch (JMSRuntimeException ex) {
             throw new BeanInitializationException("Could not create request reply defined in " + className
                     + " connectionFactory: " + cf, ex);
@@ -133,6 +137,8 @@ public class InterfaceComponentProxyFactoryBean implements FactoryBean<Object>,
                 .connectionFactory(connectionFactoryAnnotation)
                 .customizer(customizer)
                 .maxRetries(maxRetries)
+                .maxChunkGroups(properties.getInputMaxChunkGroups())
+                .chunkGroupTimeout(properties.getInputChunkGroupTimeout())
                 .build();
         if (!StringUtils.hasText(listenerConfig.getQueue()) && !StringUtils.hasText(listenerConfig.getTempQueueAlias())) {
             throw new MQInvalidListenerException("Invalid configuration, should define one of value or tempQueueAlias");
@@ -30,6 +30,13 @@ public class AnnotationUtils {
         return MQProperties.DEFAULT_CONCURRENCY;
     }
 
+    public static int resolveMaxConcurrency(int maxConcurrencyAnnotation, int maxConcurrencyProperties) {
+        if (maxConcurrencyAnnotation > 0) {
+            return maxConcurrencyAnnotation;
+        }
+        return Math.max(maxConcurrencyProperties, 0);
+    }
+
     public static String resolveQueue(String primaryAnnotation, String secondaryValue, String queueProperties) {
         if (StringUtils.hasText(primaryAnnotation)) {
             return primaryAnnotation;
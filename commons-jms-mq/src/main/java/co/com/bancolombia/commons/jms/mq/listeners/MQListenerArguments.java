@@ -0,0 +1,53 @@
+package co.com.bancolombia.commons.jms.mq.listeners;
+
+import co.com.bancolombia.commons.jms.api.MQMessageCodec;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import javax.jms.JMSException;
+import javax.jms.Message;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+/**
+ * Resolves the arguments provided to a @MQListener method, when it declares a parameter that is not a
+ * javax.jms.Message the message body is decoded to its type with the MQMessageCodec
+ */
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class MQListenerArguments {
+    private static final MQListenerArguments MESSAGE_ONLY = new MQListenerArguments(null, null);
+    private final MQMessageCodec codec;
+    @Getter
+    private final Class<?> payloadType;
+
+    public static MQListenerArguments messageOnly() {
+        return MESSAGE_ONLY;
+    }
+
+    public static MQListenerArguments fromMethod(Method method, MQMessageCodec codec) {
+        Class<?> payloadType = payloadType(method);
+        if (payloadType == null) {
+            return MESSAGE_ONLY;
+        }
+        if (codec == null) {
+            throw new IllegalStateException("A MQMessageCodec is required to decode the " + payloadType.getName() +
+                    " parameter of " + method);
+        }
+        return new MQListenerArguments(codec, payloadType);
+    }
+
+    public static Class<?> payloadType(Method method) {
+        return Arrays.stream(method.getParameterTypes())
+                .filter(type -> !Message.class.isAssignableFrom(type))
+                .findFirst()
+                .orElse(null);
+    }
+
+    public Object payload(Message message) throws JMSException {
+        if (payloadType == null) {
+            return null;
+        }
+        return codec.decode(message, payloadType);
+    }
+}
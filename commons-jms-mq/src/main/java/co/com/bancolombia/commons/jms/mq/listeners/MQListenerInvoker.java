@@ -0,0 +1,18 @@
+package co.com.bancolombia.commons.jms.mq.listeners;
+
+import javax.jms.Message;
+import java.lang.reflect.Method;
+
+/**
+ * Calls a @MQListener method with the received message and its decoded payload, the payload is ignored when the method
+ * does not declare it
+ */
+@FunctionalInterface
+public interface MQListenerInvoker {
+
+    Object invoke(Message message, Object payload) throws Exception;
+
+    static MQListenerInvoker fromBeanAndMethod(Object bean, Method method) {
+        return new MQMethodHandleInvoker(bean, method);
+    }
+}
@@ -0,0 +1,63 @@
+package co.com.bancolombia.commons.jms.mq.listeners;
+
+import co.com.bancolombia.commons.jms.internal.listener.MQListenerContainer;
+import lombok.extern.log4j.Log4j2;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Keeps the listener containers created for the @MQListener methods and request reply beans, so they can be paused,
+ * resumed or scaled at runtime
+ */
+@Log4j2
+public class MQListenerRegistry {
+    private final Map<String, MQListenerContainer> containers = new LinkedHashMap<>();
+
+    /**
+     * @return the name registered, a numeric suffix is added when the name is already in use
+     */
+    public synchronized String register(String name, MQListenerContainer container) {
+        String finalName = name;
+        for (int i = 2; containers.containsKey(finalName); i++) {
+            finalName = name + "-" + i;
+        }
+        containers.put(finalName, container);
+        log.info("Listener {} registered for {}", finalName, container.name());
+        return finalName;
+    }
+
+    public synchronized Map<String, MQListenerContainer> getContainers() {
+        return Collections.unmodifiableMap(new LinkedHashMap<>(containers));
+    }
+
+    public synchronized Optional<MQListenerContainer> get(String name) {
+        return Optional.ofNullable(containers.get(name));
+    }
+
+    public void pause(String name) {
+        require(name).pause();
+    }
+
+    public void resume(String name) {
+        require(name).resume();
+    }
+
+    public void setConcurrency(String name, int concurrency) {
+        require(name).setConcurrency(concurrency);
+    }
+
+    public void pauseAll() {
+        getContainers().values().forEach(MQListenerContainer::pause);
+    }
+
+    public void resumeAll() {
+        getContainers().values().forEach(MQListenerContainer::resume);
+    }
+
+    private MQListenerContainer require(String name) {
+        return get(name).orElseThrow(() -> new IllegalArgumentException("There is no listener named " + name));
+    }
+}
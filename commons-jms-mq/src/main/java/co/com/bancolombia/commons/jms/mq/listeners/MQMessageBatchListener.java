@@ -0,0 +1,36 @@
+package co.com.bancolombia.commons.jms.mq.listeners;
+
+import co.com.bancolombia.commons.jms.api.MQBatchMessageListener;
+import lombok.AllArgsConstructor;
+import lombok.SneakyThrows;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+
+import javax.jms.Message;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Invokes a @MQListener method that receives a List or a Flux of messages, when the method returns a Publisher it is
+ * awaited before the batch is committed
+ */
+@AllArgsConstructor
+public final class MQMessageBatchListener implements MQBatchMessageListener {
+    private final MQListenerInvoker method;
+    private final boolean flux;
+
+    public static MQMessageBatchListener fromBeanAndMethod(Object bean, Method invocableMethod) {
+        boolean flux = Arrays.stream(invocableMethod.getParameterTypes()).anyMatch(Publisher.class::isAssignableFrom);
+        return new MQMessageBatchListener(MQListenerInvoker.fromBeanAndMethod(bean, invocableMethod), flux);
+    }
+
+    @SneakyThrows
+    @Override
+    public void onMessages(List<Message> messages) {
+        Object result = method.invoke(null, flux ? Flux.fromIterable(messages) : messages);
+        if (result instanceof Publisher) {
+            Flux.from((Publisher<?>) result).then().block();
+        }
+    }
+}
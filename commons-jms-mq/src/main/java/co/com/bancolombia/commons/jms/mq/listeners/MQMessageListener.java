@@ -1,11 +1,11 @@
 package co.com.bancolombia.commons.jms.mq.listeners;
 
-import lombok.AllArgsConstructor;
+import co.com.bancolombia.commons.jms.api.MQMessageCodec;
+import co.com.bancolombia.commons.jms.internal.listener.MQBackoutRouter;
+import co.com.bancolombia.commons.jms.internal.listener.MQDelayedRetry;
+import co.com.bancolombia.commons.jms.internal.listener.MQLocalRetry;
 import lombok.SneakyThrows;
 import lombok.extern.log4j.Log4j2;
-import org.springframework.messaging.MessageHeaders;
-import org.springframework.messaging.handler.invocation.InvocableHandlerMethod;
-import org.springframework.messaging.support.MessageBuilder;
 
 import javax.jms.Message;
 import javax.jms.MessageListener;
@@ -14,14 +14,59 @@ import java.lang.reflect.Method;
 import static com.ibm.msg.client.jms.JmsConstants.JMSX_DELIVERY_COUNT;
 
 @Log4j2
-@AllArgsConstructor
 public final class MQMessageListener implements MessageListener {
-    private final InvocableHandlerMethod method;
+    private final MQListenerInvoker method;
     private final int maxRetries;
+    private final MQListenerArguments arguments;
+    private final MQBackoutRouter backout;
+    private final MQDelayedRetry delayedRetry;
+    private final MessageListener invocation;
+
+    public MQMessageListener(MQListenerInvoker method, int maxRetries) {
+        this(method, maxRetries, MQListenerArguments.messageOnly(), null, null);
+    }
+
+    public MQMessageListener(MQListenerInvoker method, int maxRetries, MQListenerArguments arguments,
+                             MQBackoutRouter backout, MQDelayedRetry delayedRetry) {
+        this(method, maxRetries, arguments, backout, delayedRetry, null);
+    }
+
+    /**
+     * The local retries wrap only the method invocation, so the delayed retry and the maxRetries decision see the
+     * failure once the local attempts are exhausted
+     */
+    public MQMessageListener(MQListenerInvoker method, int maxRetries, MQListenerArguments arguments,
+                             MQBackoutRouter backout, MQDelayedRetry delayedRetry, MQLocalRetry localRetry) {
+        this.method = method;
+        this.maxRetries = maxRetries;
+        this.arguments = arguments;
+        this.backout = backout;
+        this.delayedRetry = delayedRetry;
+        MessageListener invoke = this::invoke;
+        this.invocation = localRetry != null ? localRetry.wrap(invoke) : invoke;
+    }
 
     public static MQMessageListener fromBeanAndMethod(Object bean, Method invocableMethod, int retries) {
-        InvocableHandlerMethod handlerMethod = new InvocableHandlerMethod(bean, invocableMethod);
-        return new MQMessageListener(handlerMethod, retries);
+        return fromBeanAndMethod(bean, invocableMethod, retries, null);
+    }
+
+    public static MQMessageListener fromBeanAndMethod(Object bean, Method invocableMethod, int retries,
+                                                      MQMessageCodec codec) {
+        return fromBeanAndMethod(bean, invocableMethod, retries, codec, null, null);
+    }
+
+    public static MQMessageListener fromBeanAndMethod(Object bean, Method invocableMethod, int retries,
+                                                      MQMessageCodec codec, MQBackoutRouter backout,
+                                                      MQDelayedRetry delayedRetry) {
+        return fromBeanAndMethod(bean, invocableMethod, retries, codec, backout, delayedRetry, null);
+    }
+
+    public static MQMessageListener fromBeanAndMethod(Object bean, Method invocableMethod, int retries,
+                                                      MQMessageCodec codec, MQBackoutRouter backout,
+                                                      MQDelayedRetry delayedRetry, MQLocalRetry localRetry) {
+        MQListenerArguments arguments = MQListenerArguments.fromMethod(invocableMethod, codec);
+        return new MQMessageListener(MQListenerInvoker.fromBeanAndMethod(bean, invocableMethod), retries, arguments,
+                backout, delayedRetry, localRetry);
     }
 
     @SneakyThrows
@@ -32,9 +77,16 @@ public final class MQMessageListener implements MessageListener {
 
     private void callRealMethod(Message message) throws Exception {
         try {
-            method.invoke(MessageBuilder.createMessage("", new MessageHeaders(null)), message);
+            invocation.onMessage(message);
         } catch (Exception error) {
+            if (delayedRetry != null && delayedRetry.retry(message, error)) {
+                return;
+            }
             if (maxRetries != -1 && maxRetries < message.getIntProperty(JMSX_DELIVERY_COUNT)) {
+                if (backout != null) {
+                    backout.route(message, error);
+                    return;
+                }
                 log.warn("Discarding message {} after {} retries", message.getJMSMessageID(), maxRetries);
                 log.warn("Cause", error);
             } else {
@@ -44,4 +96,9 @@ public final class MQMessageListener implements MessageListener {
             }
         }
     }
+
+    @SneakyThrows
+    private void invoke(Message message) {
+        method.invoke(message, arguments.payload(message));
+    }
 }
@@ -1,6 +1,9 @@
 package co.com.bancolombia.commons.jms.mq.listeners;
 
-import lombok.AllArgsConstructor;
+import co.com.bancolombia.commons.jms.api.MQAsyncMessageListener;
+import co.com.bancolombia.commons.jms.internal.listener.MQBackoutRouter;
+import co.com.bancolombia.commons.jms.internal.listener.MQDelayedRetry;
+import co.com.bancolombia.commons.jms.internal.listener.MQLocalRetry;
 import lombok.SneakyThrows;
 import lombok.extern.log4j.Log4j2;
 import reactor.core.publisher.Mono;
@@ -12,9 +15,28 @@ import javax.jms.MessageListener;
 import static com.ibm.msg.client.jms.JmsConstants.JMSX_DELIVERY_COUNT;
 
 @Log4j2
-@AllArgsConstructor
-public abstract class MQMessageListenerRetries implements MessageListener {
+public abstract class MQMessageListenerRetries implements MessageListener, MQAsyncMessageListener {
     private final int maxRetries;
+    private final MQBackoutRouter backout;
+    private final MQDelayedRetry delayedRetry;
+    private final MQAsyncMessageListener processing;
+
+    protected MQMessageListenerRetries(int maxRetries) {
+        this(maxRetries, null, null, null);
+    }
+
+    /**
+     * The local retries resubscribe only the processing, so the delayed retry and the maxRetries decision see the
+     * failure once the local attempts are exhausted
+     */
+    protected MQMessageListenerRetries(int maxRetries, MQBackoutRouter backout, MQDelayedRetry delayedRetry,
+                                       MQLocalRetry localRetry) {
+        this.maxRetries = maxRetries;
+        this.backout = backout;
+        this.delayedRetry = delayedRetry;
+        MQAsyncMessageListener process = this::process;
+        this.processing = localRetry != null ? localRetry.wrapAsync(process) : process;
+    }
 
     protected abstract Mono<Object> process(Message message);
 
@@ -24,8 +46,12 @@ public abstract class MQMessageListenerRetries implements MessageListener {
     }
 
     @SneakyThrows
-    private Mono<Object> onMessageAsync(Message message) {
-        Mono<Object> flow = Mono.defer(() -> process(message));
+    @Override
+    public Mono<Object> onMessageAsync(Message message) {
+        Mono<Object> flow = Mono.defer(() -> processing.onMessageAsync(message));
+        if (delayedRetry != null) {
+            flow = flow.onErrorResume(error -> retryDelayed(message, error));
+        }
         if (maxRetries != -1 && maxRetries < message.getIntProperty(JMSX_DELIVERY_COUNT)) {
             flow = flow.onErrorResume(e -> discardMessage(message, e));
         } else {
@@ -34,13 +60,26 @@ public abstract class MQMessageListenerRetries implements MessageListener {
         return flow.subscribeOn(Schedulers.boundedElastic());
     }
 
+    private Mono<Object> retryDelayed(Message message, Throwable error) {
+        return Mono.fromCallable(() -> delayedRetry.retry(message, error))
+                .flatMap(retried -> Boolean.TRUE.equals(retried) ? Mono.empty() : Mono.error(error));
+    }
+
     @SneakyThrows
     private Mono<Object> discardMessage(Message message, Throwable error) {
+        if (backout != null) {
+            return Mono.fromRunnable(() -> routeToBackout(message, error));
+        }
         log.warn("Discarding message {} after {} retries", message.getJMSMessageID(), maxRetries);
         log.warn("Cause", error);
         return Mono.empty();
     }
 
+    @SneakyThrows
+    private void routeToBackout(Message message, Throwable error) {
+        backout.route(message, error);
+    }
+
     @SneakyThrows
     private void logRetry(Message message, Throwable error) {
         log.warn("Message {} will be retried", message.getJMSMessageID());
@@ -0,0 +1,61 @@
+package co.com.bancolombia.commons.jms.mq.listeners;
+
+import org.springframework.util.ReflectionUtils;
+
+import javax.jms.Message;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+
+/**
+ * Binds the listener method to its bean once as a MethodHandle adapted to (Message, Object)Object, so each delivery is
+ * an exact invocation without reflection, argument resolution nor allocations
+ */
+final class MQMethodHandleInvoker implements MQListenerInvoker {
+    private static final MethodType SHAPE = MethodType.methodType(Object.class, Message.class, Object.class);
+    private final MethodHandle handle;
+
+    MQMethodHandleInvoker(Object bean, Method method) {
+        this.handle = adapt(bean, method);
+    }
+
+    @Override
+    public Object invoke(Message message, Object payload) throws Exception {
+        try {
+            return (Object) handle.invokeExact(message, payload);
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new UndeclaredThrowableException(e);
+        }
+    }
+
+    private static MethodHandle adapt(Object bean, Method method) {
+        Class<?>[] types = method.getParameterTypes();
+        Class<?>[] generic = new Class<?>[types.length];
+        int[] reorder = new int[types.length];
+        boolean payload = false;
+        for (int i = 0; i < types.length; i++) {
+            if (Message.class.isAssignableFrom(types[i])) {
+                generic[i] = Message.class;
+            } else if (!payload) {
+                payload = true;
+                generic[i] = Object.class;
+                reorder[i] = 1;
+            } else {
+                throw new IllegalStateException("Only one parameter besides the javax.jms.Message is supported in "
+                        + method);
+            }
+        }
+        try {
+            ReflectionUtils.makeAccessible(method);
+            MethodHandle target = MethodHandles.lookup().unreflect(method).bindTo(bean);
+            return MethodHandles.permuteArguments(target.asType(MethodType.methodType(Object.class, generic)), SHAPE,
+                    reorder);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Could not access the listener method " + method, e);
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package co.com.bancolombia.commons.jms.mq.listeners;
 
+import co.com.bancolombia.commons.jms.api.MQMessageCodec;
+import co.com.bancolombia.commons.jms.internal.listener.MQBackoutRouter;
+import co.com.bancolombia.commons.jms.internal.listener.MQDelayedRetry;
+import co.com.bancolombia.commons.jms.internal.listener.MQLocalRetry;
+import lombok.SneakyThrows;
 import lombok.extern.log4j.Log4j2;
-import org.springframework.messaging.MessageHeaders;
-import org.springframework.messaging.handler.invocation.reactive.InvocableHandlerMethod;
-import org.springframework.messaging.support.MessageBuilder;
+import org.reactivestreams.Publisher;
 import reactor.core.publisher.Mono;
 
 import javax.jms.Message;
@@ -12,19 +15,62 @@ import java.lang.reflect.Method;
 
 @Log4j2
 public final class MQReactiveMessageListener extends MQMessageListenerRetries implements MessageListener {
-    private final InvocableHandlerMethod method;
+    private final MQListenerInvoker method;
+    private final MQListenerArguments arguments;
 
-    public MQReactiveMessageListener(InvocableHandlerMethod method, int maxRetries) {
-        super(maxRetries);
+    public MQReactiveMessageListener(MQListenerInvoker method, int maxRetries) {
+        this(method, maxRetries, MQListenerArguments.messageOnly());
+    }
+
+    public MQReactiveMessageListener(MQListenerInvoker method, int maxRetries, MQListenerArguments arguments) {
+        this(method, maxRetries, arguments, null, null);
+    }
+
+    public MQReactiveMessageListener(MQListenerInvoker method, int maxRetries, MQListenerArguments arguments,
+                                     MQBackoutRouter backout, MQDelayedRetry delayedRetry) {
+        this(method, maxRetries, arguments, backout, delayedRetry, null);
+    }
+
+    public MQReactiveMessageListener(MQListenerInvoker method, int maxRetries, MQListenerArguments arguments,
+                                     MQBackoutRouter backout, MQDelayedRetry delayedRetry, MQLocalRetry localRetry) {
+        super(maxRetries, backout, delayedRetry, localRetry);
         this.method = method;
+        this.arguments = arguments;
     }
 
     public static MQReactiveMessageListener fromBeanAndMethod(Object bean, Method invocableMethod, int retries) {
-        InvocableHandlerMethod handlerMethod = new InvocableHandlerMethod(bean, invocableMethod);
-        return new MQReactiveMessageListener(handlerMethod, retries);
+        return fromBeanAndMethod(bean, invocableMethod, retries, null);
+    }
+
+    public static MQReactiveMessageListener fromBeanAndMethod(Object bean, Method invocableMethod, int retries,
+                                                              MQMessageCodec codec) {
+        return fromBeanAndMethod(bean, invocableMethod, retries, codec, null, null);
+    }
+
+    public static MQReactiveMessageListener fromBeanAndMethod(Object bean, Method invocableMethod, int retries,
+                                                              MQMessageCodec codec, MQBackoutRouter backout,
+                                                              MQDelayedRetry delayedRetry) {
+        return fromBeanAndMethod(bean, invocableMethod, retries, codec, backout, delayedRetry, null);
+    }
+
+    public static MQReactiveMessageListener fromBeanAndMethod(Object bean, Method invocableMethod, int retries,
+                                                              MQMessageCodec codec, MQBackoutRouter backout,
+                                                              MQDelayedRetry delayedRetry, MQLocalRetry localRetry) {
+        MQListenerArguments arguments = MQListenerArguments.fromMethod(invocableMethod, codec);
+        return new MQReactiveMessageListener(MQListenerInvoker.fromBeanAndMethod(bean, invocableMethod), retries,
+                arguments, backout, delayedRetry, localRetry);
     }
 
+    @SneakyThrows
+    @SuppressWarnings("unchecked")
     protected Mono<Object> process(Message message) {
-        return method.invoke(MessageBuilder.createMessage("", new MessageHeaders(null)), message);
+        Object result = method.invoke(message, arguments.payload(message));
+        if (result instanceof Mono) {
+            return (Mono<Object>) result;
+        }
+        if (result instanceof Publisher) {
+            return Mono.from((Publisher<Object>) result);
+        }
+        return Mono.justOrEmpty(result);
     }
 }
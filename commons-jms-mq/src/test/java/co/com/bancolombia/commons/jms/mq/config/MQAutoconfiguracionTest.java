@@ -1,14 +1,18 @@
 package co.com.bancolombia.commons.jms.mq.config;
 
 import co.com.bancolombia.commons.jms.api.MQBrokerUtils;
+import co.com.bancolombia.commons.jms.api.MQMessageCodec;
 import co.com.bancolombia.commons.jms.api.MQQueueCustomizer;
 import co.com.bancolombia.commons.jms.api.MQQueuesContainer;
+import co.com.bancolombia.commons.jms.internal.codec.MQJacksonCodec;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ibm.mq.jms.MQQueue;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
 
 import javax.jms.JMSContext;
 import javax.jms.JMSException;
@@ -44,4 +48,11 @@ class MQAutoconfiguracionTest {
         utils.setQueueManager(context, queue);
         verify(queue, times(1)).setBaseQueueManagerName("");
     }
+
+    @Test
+    void shouldCreateJacksonCodec() {
+        MQMessageCodec codec = new MQAutoconfiguration.MQJacksonCodecConfiguration()
+                .defaultMQMessageCodec(new DefaultListableBeanFactory().getBeanProvider(ObjectMapper.class));
+        Assertions.assertTrue(codec instanceof MQJacksonCodec);
+    }
 }
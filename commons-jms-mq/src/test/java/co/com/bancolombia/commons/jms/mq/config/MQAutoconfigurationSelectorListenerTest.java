@@ -1,5 +1,6 @@
 package co.com.bancolombia.commons.jms.mq.config;
 
+import co.com.bancolombia.commons.jms.api.MQBrokerUtils;
 import co.com.bancolombia.commons.jms.api.MQMessageSelectorListenerSync;
 import co.com.bancolombia.commons.jms.api.MQQueueManagerSetter;
 import co.com.bancolombia.commons.jms.api.MQQueuesContainer;
@@ -41,6 +42,8 @@ class MQAutoconfigurationSelectorListenerTest {
     private MQHealthListener healthListener;
     @Mock
     private MQQueue queue;
+    @Mock
+    private MQBrokerUtils brokerUtils;
     private final MQAutoconfigurationSelectorListener configurator = new MQAutoconfigurationSelectorListener();
 
     @Test
@@ -84,6 +87,20 @@ class MQAutoconfigurationSelectorListenerTest {
         assertNotNull(listener);
     }
 
+    @Test
+    void shouldCreateDemuxMessageSelectorListener() {
+        // Arrange
+        MQListenerConfig config = MQListenerConfig.builder()
+                .concurrency(1)
+                .queue("QUEUE")
+                .build();
+        // Act
+        MQMessageSelectorListenerSync listener = configurator.defaultMQDemuxMessageSelectorListenerSync(
+                connectionFactory, config, healthListener, new MQQueuesContainerImp(), brokerUtils, new MQProperties());
+        // Assert
+        assertNotNull(listener);
+    }
+
     @Test
     void shouldMapConfigurationWithQueueManager() throws JMSException {
         // Arrange
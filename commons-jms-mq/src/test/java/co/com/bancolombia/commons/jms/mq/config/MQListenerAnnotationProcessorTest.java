@@ -1,11 +1,14 @@
 package co.com.bancolombia.commons.jms.mq.config;
 
+import co.com.bancolombia.commons.jms.api.MQBackoutQueueResolver;
 import co.com.bancolombia.commons.jms.api.MQBrokerUtils;
+import co.com.bancolombia.commons.jms.api.MQMessageSenderSync;
 import co.com.bancolombia.commons.jms.api.MQQueueCustomizer;
 import co.com.bancolombia.commons.jms.api.MQQueuesContainer;
 import co.com.bancolombia.commons.jms.api.exceptions.MQHealthListener;
 import co.com.bancolombia.commons.jms.mq.MQListener;
 import co.com.bancolombia.commons.jms.mq.config.exceptions.MQInvalidListenerException;
+import co.com.bancolombia.commons.jms.mq.listeners.MQListenerRegistry;
 import lombok.extern.java.Log;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -14,17 +17,24 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.stubbing.Answer;
+import org.springframework.beans.factory.NoSuchBeanDefinitionException;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import reactor.core.publisher.Mono;
 
 import javax.jms.ConnectionFactory;
 import javax.jms.JMSException;
 import javax.jms.Message;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,6 +51,8 @@ class MQListenerAnnotationProcessorTest {
     private MQBrokerUtils brokerUtils;
     @Mock
     private MQHealthListener healthListener;
+    @Mock
+    private ObjectProvider<MQBackoutQueueResolver> backoutResolverProvider;
     @InjectMocks
     private MQListenerAnnotationProcessor processor;
 
@@ -48,6 +60,7 @@ class MQListenerAnnotationProcessorTest {
     void setup() {
         processor.setBeanFactory(factory);
         doReturn(customizer).when(factory).getBean(MQQueueCustomizer.class);
+        lenient().doReturn(backoutResolverProvider).when(factory).getBeanProvider(MQBackoutQueueResolver.class);
         when(factory.resolveEmbeddedValue(anyString()))
                 .thenAnswer((Answer<String>) invocation -> (String) invocation.getArguments()[0]);
     }
@@ -62,10 +75,14 @@ class MQListenerAnnotationProcessorTest {
         doReturn(brokerUtils).when(factory).getBean(MQBrokerUtils.class);
         doReturn(cf).when(factory).getBean(ConnectionFactory.class);
         doReturn(cf).when(factory).getBean("custom", ConnectionFactory.class);
+        MQListenerRegistry registry = new MQListenerRegistry();
+        doReturn(registry).when(factory).getBean(MQListenerRegistry.class);
         // Act
         Object result = processor.postProcessAfterInitialization(bean, "MyListener");
         // Assert
         assertEquals(bean, result);
+        assertEquals(2, registry.getContainers().size());
+        assertTrue(registry.get("MyListener.process").isPresent());
     }
 
     @Test
@@ -80,6 +97,7 @@ class MQListenerAnnotationProcessorTest {
         doReturn(healthListener).when(factory).getBean(MQHealthListener.class);
         doReturn(cf).when(factory).getBean(ConnectionFactory.class);
         doReturn(cf).when(factory).getBean("custom", ConnectionFactory.class);
+        doReturn(new MQListenerRegistry()).when(factory).getBean(MQListenerRegistry.class);
         // Act
         Object result = processor.postProcessAfterInitialization(bean, "MyReactiveListener");
         // Assert
@@ -95,6 +113,9 @@ class MQListenerAnnotationProcessorTest {
         doReturn(properties).when(factory).getBean(MQProperties.class);
         doReturn(container).when(factory).getBean(MQQueuesContainer.class);
         doReturn(cf).when(factory).getBean(ConnectionFactory.class);
+        doReturn(brokerUtils).when(factory).getBean(MQBrokerUtils.class);
+        doReturn(healthListener).when(factory).getBean(MQHealthListener.class);
+        doReturn(new MQListenerRegistry()).when(factory).getBean(MQListenerRegistry.class);
         Object bean = new MyReactiveListenerInvalidConcurrency();
         // Act
         Object result = processor.postProcessAfterInitialization(bean, "MyReactiveListenerInvalidConcurrency");
@@ -130,6 +151,199 @@ class MQListenerAnnotationProcessorTest {
         });
     }
 
+    @Test
+    void shouldFailWithBatchOnTemporaryQueue() {
+        // Arrange
+        MQProperties properties = new MQProperties();
+        doReturn(properties).when(factory).getBean(MQProperties.class);
+        Object bean = new MyBatchListenerInvalidTemporaryQueue();
+        // Assert
+        assertThrows(MQInvalidListenerException.class, () -> {
+            // Act
+            processor.postProcessAfterInitialization(bean, "MyBatchListenerInvalidTemporaryQueue");
+        });
+    }
+
+    @Test
+    void shouldFailWithMaxInFlightOnNonReactive() {
+        // Arrange
+        MQProperties properties = new MQProperties();
+        doReturn(properties).when(factory).getBean(MQProperties.class);
+        Object bean = new MyPipelinedListenerNonReactive();
+        // Assert
+        assertThrows(MQInvalidListenerException.class, () -> {
+            // Act
+            processor.postProcessAfterInitialization(bean, "MyPipelinedListenerNonReactive");
+        });
+    }
+
+    @Test
+    void shouldFailWithLanesAndBatch() {
+        // Arrange
+        MQProperties properties = new MQProperties();
+        doReturn(properties).when(factory).getBean(MQProperties.class);
+        Object bean = new MyLanesListenerInvalidBatch();
+        // Assert
+        assertThrows(MQInvalidListenerException.class, () -> {
+            // Act
+            processor.postProcessAfterInitialization(bean, "MyLanesListenerInvalidBatch");
+        });
+    }
+
+    @Test
+    void shouldFailWithDedupeAndBatch() {
+        // Arrange
+        MQProperties properties = new MQProperties();
+        doReturn(properties).when(factory).getBean(MQProperties.class);
+        Object bean = new MyDedupeListenerInvalidBatch();
+        // Assert
+        assertThrows(MQInvalidListenerException.class, () -> {
+            // Act
+            processor.postProcessAfterInitialization(bean, "MyDedupeListenerInvalidBatch");
+        });
+    }
+
+    @Test
+    void shouldFailWithInvalidLocalRetryJitter() {
+        // Arrange
+        MQProperties properties = new MQProperties();
+        doReturn(properties).when(factory).getBean(MQProperties.class);
+        Object bean = new MyLocalRetryListenerInvalidJitter();
+        // Assert
+        assertThrows(MQInvalidListenerException.class, () -> {
+            // Act
+            processor.postProcessAfterInitialization(bean, "MyLocalRetryListenerInvalidJitter");
+        });
+    }
+
+    @Test
+    void shouldFailWithResolvedBackoutQueueWithoutSender() {
+        // Arrange
+        MQProperties properties = new MQProperties();
+        doReturn(properties).when(factory).getBean(MQProperties.class);
+        doReturn(container).when(factory).getBean(MQQueuesContainer.class);
+        doReturn(brokerUtils).when(factory).getBean(MQBrokerUtils.class);
+        doReturn(healthListener).when(factory).getBean(MQHealthListener.class);
+        doReturn(cf).when(factory).getBean(ConnectionFactory.class);
+        doReturn(new MQListenerRegistry()).when(factory).getBean(MQListenerRegistry.class);
+        MQBackoutQueueResolver resolver = new MQBackoutQueueResolver() {
+            @Override
+            public String getBackoutQueue(String queue) {
+                return queue + ".BACKOUT";
+            }
+
+            @Override
+            public int getBackoutThreshold(String queue) {
+                return 3;
+            }
+        };
+        doReturn(resolver).when(backoutResolverProvider).getIfAvailable();
+        doThrow(new NoSuchBeanDefinitionException(MQMessageSenderSync.class)).when(factory)
+                .getBean(MQMessageSenderSync.class);
+        Object bean = new MyBackoutListener();
+        // Assert
+        assertThrows(MQInvalidListenerException.class, () -> {
+            // Act
+            processor.postProcessAfterInitialization(bean, "MyBackoutListener");
+        });
+    }
+
+    @Test
+    void shouldFailWithResolvedBackoutQueueWhenSenderCanNotSendByQueueName() {
+        // Arrange
+        MQProperties properties = new MQProperties();
+        doReturn(properties).when(factory).getBean(MQProperties.class);
+        doReturn(container).when(factory).getBean(MQQueuesContainer.class);
+        doReturn(brokerUtils).when(factory).getBean(MQBrokerUtils.class);
+        doReturn(healthListener).when(factory).getBean(MQHealthListener.class);
+        doReturn(cf).when(factory).getBean(ConnectionFactory.class);
+        doReturn(new MQListenerRegistry()).when(factory).getBean(MQListenerRegistry.class);
+        MQBackoutQueueResolver resolver = new MQBackoutQueueResolver() {
+            @Override
+            public String getBackoutQueue(String queue) {
+                return queue + ".BACKOUT";
+            }
+
+            @Override
+            public int getBackoutThreshold(String queue) {
+                return 3;
+            }
+        };
+        doReturn(resolver).when(backoutResolverProvider).getIfAvailable();
+        doReturn(mock(MQMessageSenderSync.class)).when(factory).getBean(MQMessageSenderSync.class);
+        Object bean = new MyBackoutListener();
+        // Assert
+        assertThrows(MQInvalidListenerException.class, () -> {
+            // Act
+            processor.postProcessAfterInitialization(bean, "MyBackoutListener");
+        });
+    }
+
+    @Test
+    void shouldFailWithBatchBackoutQueueWithoutSender() {
+        // Arrange
+        MQProperties properties = new MQProperties();
+        doReturn(properties).when(factory).getBean(MQProperties.class);
+        doReturn(container).when(factory).getBean(MQQueuesContainer.class);
+        doReturn(brokerUtils).when(factory).getBean(MQBrokerUtils.class);
+        doReturn(healthListener).when(factory).getBean(MQHealthListener.class);
+        doReturn(cf).when(factory).getBean(ConnectionFactory.class);
+        doReturn(new MQListenerRegistry()).when(factory).getBean(MQListenerRegistry.class);
+        doThrow(new NoSuchBeanDefinitionException(MQMessageSenderSync.class)).when(factory)
+                .getBean(MQMessageSenderSync.class);
+        Object bean = new MyBatchBackoutListener();
+        // Assert
+        assertThrows(MQInvalidListenerException.class, () -> {
+            // Act
+            processor.postProcessAfterInitialization(bean, "MyBatchBackoutListener");
+        });
+    }
+
+    @Test
+    void shouldFailWithDelayedRetryOnTemporaryQueue() {
+        // Arrange
+        MQProperties properties = new MQProperties();
+        doReturn(properties).when(factory).getBean(MQProperties.class);
+        Object bean = new MyDelayedRetryListenerInvalidTemporaryQueue();
+        // Assert
+        assertThrows(MQInvalidListenerException.class, () -> {
+            // Act
+            processor.postProcessAfterInitialization(bean, "MyDelayedRetryListenerInvalidTemporaryQueue");
+        });
+    }
+
+    @Test
+    void shouldFailWithDelayedRetryWhenSenderCanNotDelay() {
+        // Arrange
+        MQProperties properties = new MQProperties();
+        doReturn(properties).when(factory).getBean(MQProperties.class);
+        doReturn(container).when(factory).getBean(MQQueuesContainer.class);
+        doReturn(brokerUtils).when(factory).getBean(MQBrokerUtils.class);
+        doReturn(healthListener).when(factory).getBean(MQHealthListener.class);
+        doReturn(cf).when(factory).getBean(ConnectionFactory.class);
+        doReturn(new MQListenerRegistry()).when(factory).getBean(MQListenerRegistry.class);
+        doReturn(mock(MQMessageSenderSync.class)).when(factory).getBean(MQMessageSenderSync.class);
+        Object bean = new MyDelayedRetryListener();
+        // Assert
+        assertThrows(MQInvalidListenerException.class, () -> {
+            // Act
+            processor.postProcessAfterInitialization(bean, "MyDelayedRetryListener");
+        });
+    }
+
+    @Test
+    void shouldFailWithPollingOnTemporaryQueue() {
+        // Arrange
+        MQProperties properties = new MQProperties();
+        doReturn(properties).when(factory).getBean(MQProperties.class);
+        Object bean = new MyPollingListenerInvalidTemporaryQueue();
+        // Assert
+        assertThrows(MQInvalidListenerException.class, () -> {
+            // Act
+            processor.postProcessAfterInitialization(bean, "MyPollingListenerInvalidTemporaryQueue");
+        });
+    }
+
     @Log
     public static class MyListener {
 
@@ -180,4 +394,84 @@ class MQListenerAnnotationProcessorTest {
             return Mono.empty();
         }
     }
+
+    public static class MyBatchListenerInvalidTemporaryQueue {
+
+        @MQListener(tempQueueAlias = "alias", batchSize = "10")
+        public void process(List<Message> messages) {
+            // batch listeners only support fixed queues
+        }
+    }
+
+    public static class MyPipelinedListenerNonReactive {
+
+        @MQListener(value = "QUEUE.NAME", maxInFlight = "10")
+        public void process(Message message) {
+            // pipelined listeners require reactive mode
+        }
+    }
+
+    public static class MyLanesListenerInvalidBatch {
+
+        @MQListener(value = "QUEUE.NAME", lanes = "4", batchSize = "10")
+        public void process(List<Message> messages) {
+            // lanes and batches can not be combined
+        }
+    }
+
+    public static class MyDedupeListenerInvalidBatch {
+
+        @MQListener(value = "QUEUE.NAME", dedupe = "true", batchSize = "10")
+        public void process(List<Message> messages) {
+            // batches are acknowledged as a whole
+        }
+    }
+
+    public static class MyPollingListenerInvalidTemporaryQueue {
+
+        @MQListener(tempQueueAlias = "alias", polling = "true")
+        public void process(Message message) {
+            // polling is only supported on fixed queues
+        }
+    }
+
+    public static class MyLocalRetryListenerInvalidJitter {
+
+        @MQListener(value = "QUEUE.NAME", localRetries = "3", localRetryJitter = "1.5")
+        public void process(Message message) {
+            // jitter should be between 0 and 1
+        }
+    }
+
+    public static class MyBackoutListener {
+
+        @MQListener(value = "QUEUE.NAME", maxRetries = "-1")
+        public void process(Message message) {
+            // poison messages are moved to the resolved backout queue
+        }
+    }
+
+    public static class MyBatchBackoutListener {
+
+        @MQListener(value = "QUEUE.NAME", maxRetries = "3", backoutQueue = "QUEUE.NAME.BACKOUT", batchSize = "10")
+        public void process(List<Message> messages) {
+            // failed batches are moved to the backout queue
+        }
+    }
+
+    public static class MyDelayedRetryListenerInvalidTemporaryQueue {
+
+        @MQListener(tempQueueAlias = "alias", delayedRetries = "3")
+        public void process(Message message) {
+            // temporary queues can not be published by name
+        }
+    }
+
+    public static class MyDelayedRetryListener {
+
+        @MQListener(value = "QUEUE.NAME", delayedRetries = "3")
+        public void process(Message message) {
+            // failed messages are published again with a delivery delay
+        }
+    }
 }
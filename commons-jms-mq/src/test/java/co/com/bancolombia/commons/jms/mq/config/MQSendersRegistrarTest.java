@@ -0,0 +1,118 @@
+package co.com.bancolombia.commons.jms.mq.config;
+
+import co.com.bancolombia.commons.jms.internal.models.MQSenderConfig;
+import co.com.bancolombia.commons.jms.internal.sender.MQMultiContextSender;
+import co.com.bancolombia.commons.jms.internal.sender.MQMultiContextSenderSync;
+import co.com.bancolombia.commons.jms.mq.config.exceptions.MQInvalidSenderException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MQSendersRegistrarTest {
+    private final DefaultListableBeanFactory registry = new DefaultListableBeanFactory();
+    private final Map<String, Object> properties = new HashMap<>();
+    private MQSendersRegistrar registrar;
+
+    @BeforeEach
+    void setup() {
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new MapPropertySource("test", properties));
+        registrar = new MQSendersRegistrar();
+        registrar.setEnvironment(environment);
+        registrar.setBeanFactory(registry);
+    }
+
+    @Test
+    void shouldRegisterNamedSenders() {
+        // Arrange
+        properties.put("commons.jms.senders.orders.queue", "DEV.QUEUE.1");
+        properties.put("commons.jms.senders.orders.concurrency", "10");
+        properties.put("commons.jms.senders.audit.queue", "DEV.QUEUE.2");
+        properties.put("commons.jms.reactive", "true");
+        // Act
+        registrar.postProcessBeanDefinitionRegistry(registry);
+        // Assert
+        AbstractBeanDefinition sync = (AbstractBeanDefinition) registry
+                .getBeanDefinition("ordersMQMessageSenderSync");
+        assertEquals(MQMultiContextSenderSync.class, sync.getBeanClass());
+        assertNotNull(sync.getInstanceSupplier());
+        assertEquals("close", sync.getDestroyMethodName());
+        assertEquals("orders", sync.getQualifier(Qualifier.class.getName()).getAttribute("value"));
+        AbstractBeanDefinition reactive = (AbstractBeanDefinition) registry.getBeanDefinition("auditMQMessageSender");
+        assertEquals(MQMultiContextSender.class, reactive.getBeanClass());
+        assertTrue(registry.containsBeanDefinition("ordersMQMessageSender"));
+    }
+
+    @Test
+    void shouldNotRegisterReactiveSenderWhenNotReactive() {
+        // Arrange
+        properties.put("commons.jms.senders.orders.queue", "DEV.QUEUE.1");
+        // Act
+        registrar.postProcessBeanDefinitionRegistry(registry);
+        // Assert
+        assertTrue(registry.containsBeanDefinition("ordersMQMessageSenderSync"));
+        assertFalse(registry.containsBeanDefinition("ordersMQMessageSender"));
+    }
+
+    @Test
+    void shouldFailWhenNoQueue() {
+        // Arrange
+        properties.put("commons.jms.senders.orders.concurrency", "2");
+        // Act
+        // Assert
+        assertThrows(MQInvalidSenderException.class, () -> registrar.postProcessBeanDefinitionRegistry(registry));
+    }
+
+    @Test
+    void shouldFailWhenInvalidConcurrency() {
+        // Arrange
+        properties.put("commons.jms.senders.orders.queue", "DEV.QUEUE.1");
+        properties.put("commons.jms.senders.orders.concurrency", "0");
+        // Act
+        // Assert
+        assertThrows(MQInvalidSenderException.class, () -> registrar.postProcessBeanDefinitionRegistry(registry));
+    }
+
+    @Test
+    void shouldFailWhenInvalidBatchSize() {
+        // Arrange
+        properties.put("commons.jms.senders.orders.queue", "DEV.QUEUE.1");
+        properties.put("commons.jms.senders.orders.batch-size", "0");
+        // Act
+        // Assert
+        assertThrows(MQInvalidSenderException.class, () -> registrar.postProcessBeanDefinitionRegistry(registry));
+    }
+
+    @Test
+    void shouldBuildNamedSenderConfigLikeTheDefaultSender() {
+        // Arrange
+        MQSenderProperties sender = new MQSenderProperties();
+        sender.setQueue("DEV.QUEUE.1");
+        sender.setChunkSize(4096);
+        sender.setGroupCommit(true);
+        sender.setGroupCommitSize(16);
+        sender.setTransactedConcurrency(2);
+        sender.setBatchSize(50);
+        // Act
+        MQSenderConfig config = MQAutoconfigurationSender.senderConfig(sender, null, null);
+        // Assert
+        assertEquals(4096, config.getChunkSize());
+        assertTrue(config.isGroupCommit());
+        assertEquals(16, config.getGroupCommitSize());
+        assertEquals(2, config.getTransactedConcurrency());
+        assertEquals(50, config.getBatchSize());
+    }
+}
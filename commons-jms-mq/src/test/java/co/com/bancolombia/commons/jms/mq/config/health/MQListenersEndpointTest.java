@@ -0,0 +1,73 @@
+package co.com.bancolombia.commons.jms.mq.config.health;
+
+import co.com.bancolombia.commons.jms.internal.listener.MQListenerContainer;
+import co.com.bancolombia.commons.jms.mq.listeners.MQListenerRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MQListenersEndpointTest {
+    @Mock
+    private MQListenerContainer container;
+    private MQListenersEndpoint endpoint;
+
+    @BeforeEach
+    void setup() {
+        MQListenerRegistry registry = new MQListenerRegistry();
+        registry.register("bean.process", container);
+        endpoint = new MQListenersEndpoint(registry);
+    }
+
+    @Test
+    void shouldListListeners() {
+        // Arrange
+        when(container.name()).thenReturn("QUEUE.NAME");
+        when(container.getConcurrency()).thenReturn(3);
+        // Act
+        Map<String, Map<String, Object>> listeners = endpoint.listeners();
+        // Assert
+        assertEquals("QUEUE.NAME", listeners.get("bean.process").get("queue"));
+        assertEquals(3, listeners.get("bean.process").get("concurrency"));
+    }
+
+    @Test
+    void shouldPauseAndScale() {
+        // Arrange
+        when(container.isScalable()).thenReturn(true);
+        // Act
+        endpoint.update("bean.process", MQListenersEndpoint.PAUSE, 4);
+        // Assert
+        verify(container).pause();
+        verify(container).setConcurrency(4);
+    }
+
+    @Test
+    void shouldRejectScalingWhenNotScalable() {
+        // Arrange
+        when(container.isScalable()).thenReturn(false);
+        // Assert
+        assertThrows(InvalidEndpointRequestException.class, () -> endpoint.update("bean.process", null, 4));
+        verify(container, never()).setConcurrency(anyInt());
+    }
+
+    @Test
+    void shouldReturnNullForUnknownListener() {
+        // Assert
+        assertNull(endpoint.listener("unknown"));
+        assertNull(endpoint.update("unknown", MQListenersEndpoint.RESUME, null));
+    }
+}
@@ -7,6 +7,7 @@ import co.com.bancolombia.commons.jms.api.MQQueueCustomizer;
 import co.com.bancolombia.commons.jms.api.MQQueuesContainer;
 import co.com.bancolombia.commons.jms.api.exceptions.MQHealthListener;
 import co.com.bancolombia.commons.jms.mq.config.MQProperties;
+import co.com.bancolombia.commons.jms.mq.listeners.MQListenerRegistry;
 import co.com.bancolombia.commons.jms.utils.MQQueuesContainerImp;
 import co.com.bancolombia.commons.jms.utils.ReactiveReplyRouter;
 import org.junit.jupiter.api.BeforeEach;
@@ -89,6 +90,9 @@ class InterfaceComponentProxyFactoryBeanTest {
                     if (arguments.equals(MQProperties.class)) {
                         return new MQProperties();
                     }
+                    if (arguments.equals(MQListenerRegistry.class)) {
+                        return new MQListenerRegistry();
+                    }
                     if (arguments.equals(MQBrokerUtils.class)) {
                         return (MQBrokerUtils) (context, queue) -> {
                         };
@@ -0,0 +1,106 @@
+package co.com.bancolombia.commons.jms.mq.listeners;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.TextMessage;
+import java.lang.reflect.Method;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(MockitoExtension.class)
+class MQListenerInvokerTest {
+    @Mock
+    private TextMessage message;
+
+    @Test
+    void shouldInvokeWithMessage() throws Exception {
+        // Arrange
+        Handler handler = new Handler();
+        MQListenerInvoker invoker = invoker(handler, "process", Message.class);
+        // Act
+        Object result = invoker.invoke(message, null);
+        // Assert
+        assertNull(result);
+        assertSame(message, handler.message);
+    }
+
+    @Test
+    void shouldInvokeWithPayloadBeforeMessage() throws Exception {
+        // Arrange
+        Handler handler = new Handler();
+        MQListenerInvoker invoker = invoker(handler, "reply", String.class, TextMessage.class);
+        // Act
+        Object result = invoker.invoke(message, "payload");
+        // Assert
+        assertEquals("payload", ((Mono<?>) result).block());
+        assertSame(message, handler.message);
+    }
+
+    @Test
+    void shouldInvokePrivateMethod() throws Exception {
+        // Arrange
+        Handler handler = new Handler();
+        MQListenerInvoker invoker = invoker(handler, "count", int.class);
+        // Act
+        Object result = invoker.invoke(message, 2);
+        // Assert
+        assertEquals(3, result);
+    }
+
+    @Test
+    void shouldPropagateListenerException() throws Exception {
+        // Arrange
+        MQListenerInvoker invoker = invoker(new Handler(), "fail", Message.class);
+        // Act
+        // Assert
+        assertThrows(JMSException.class, () -> invoker.invoke(message, null));
+    }
+
+    @Test
+    void shouldFailWithManyPayloadParameters() throws Exception {
+        // Arrange
+        Method method = Handler.class.getMethod("invalid", String.class, String.class);
+        Handler handler = new Handler();
+        // Act
+        // Assert
+        assertThrows(IllegalStateException.class, () -> MQListenerInvoker.fromBeanAndMethod(handler, method));
+    }
+
+    private static MQListenerInvoker invoker(Object bean, String name, Class<?>... types) throws Exception {
+        return MQListenerInvoker.fromBeanAndMethod(bean, Handler.class.getDeclaredMethod(name, types));
+    }
+
+    public static class Handler {
+        private Message message;
+
+        public void process(Message message) {
+            this.message = message;
+        }
+
+        public Mono<String> reply(String payload, TextMessage message) {
+            this.message = message;
+            return Mono.just(payload);
+        }
+
+        private int count(int payload) {
+            return payload + 1;
+        }
+
+        public void fail(Message message) throws JMSException {
+            throw new JMSException("failed");
+        }
+
+        public void invalid(String first, String second) {
+            // only one payload is supported
+        }
+    }
+}
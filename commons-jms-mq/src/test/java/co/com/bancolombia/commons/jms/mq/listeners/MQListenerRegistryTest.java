@@ -0,0 +1,63 @@
+package co.com.bancolombia.commons.jms.mq.listeners;
+
+import co.com.bancolombia.commons.jms.internal.listener.MQListenerContainer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class MQListenerRegistryTest {
+    @Mock
+    private MQListenerContainer container1;
+    @Mock
+    private MQListenerContainer container2;
+    private final MQListenerRegistry registry = new MQListenerRegistry();
+
+    @Test
+    void shouldRegisterWithUniqueNames() {
+        // Act
+        String name1 = registry.register("bean.process", container1);
+        String name2 = registry.register("bean.process", container2);
+        // Assert
+        assertEquals("bean.process", name1);
+        assertEquals("bean.process-2", name2);
+        assertEquals(2, registry.getContainers().size());
+    }
+
+    @Test
+    void shouldControlListeners() {
+        // Arrange
+        registry.register("bean.process", container1);
+        // Act
+        registry.pause("bean.process");
+        registry.resume("bean.process");
+        registry.setConcurrency("bean.process", 5);
+        // Assert
+        verify(container1).pause();
+        verify(container1).resume();
+        verify(container1).setConcurrency(5);
+    }
+
+    @Test
+    void shouldPauseAll() {
+        // Arrange
+        registry.register("bean.process", container1);
+        registry.register("bean.process2", container2);
+        // Act
+        registry.pauseAll();
+        // Assert
+        verify(container1).pause();
+        verify(container2).pause();
+    }
+
+    @Test
+    void shouldFailWithUnknownListener() {
+        // Assert
+        assertThrows(IllegalArgumentException.class, () -> registry.pause("unknown"));
+    }
+}
@@ -0,0 +1,76 @@
+package co.com.bancolombia.commons.jms.mq.listeners;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import javax.jms.Message;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@ExtendWith(MockitoExtension.class)
+class MQMessageBatchListenerTest {
+    @Mock
+    private Message message1;
+    @Mock
+    private Message message2;
+
+    @Test
+    void shouldInvokeWithList() throws NoSuchMethodException {
+        // Arrange
+        MyBatchListener bean = new MyBatchListener();
+        Method method = MyBatchListener.class.getMethod("process", List.class);
+        MQMessageBatchListener listener = MQMessageBatchListener.fromBeanAndMethod(bean, method);
+        // Act
+        listener.onMessages(Arrays.asList(message1, message2));
+        // Assert
+        assertEquals(Arrays.asList(message1, message2), bean.received);
+    }
+
+    @Test
+    void shouldInvokeWithFluxAndAwaitResult() throws NoSuchMethodException {
+        // Arrange
+        MyBatchListener bean = new MyBatchListener();
+        Method method = MyBatchListener.class.getMethod("processFlux", Flux.class);
+        MQMessageBatchListener listener = MQMessageBatchListener.fromBeanAndMethod(bean, method);
+        // Act
+        listener.onMessages(Arrays.asList(message1, message2));
+        // Assert
+        assertEquals(Arrays.asList(message1, message2), bean.received);
+    }
+
+    @Test
+    void shouldPropagateReactiveError() throws NoSuchMethodException {
+        // Arrange
+        MyBatchListener bean = new MyBatchListener();
+        Method method = MyBatchListener.class.getMethod("processFailing", Flux.class);
+        MQMessageBatchListener listener = MQMessageBatchListener.fromBeanAndMethod(bean, method);
+        List<Message> messages = Arrays.asList(message1, message2);
+        // Assert
+        assertThrows(IllegalStateException.class, () -> listener.onMessages(messages));
+    }
+
+    public static class MyBatchListener {
+        private final List<Message> received = new ArrayList<>();
+
+        public void process(List<Message> messages) {
+            received.addAll(messages);
+        }
+
+        public Mono<Void> processFlux(Flux<Message> messages) {
+            return messages.doOnNext(received::add).then();
+        }
+
+        public Mono<Void> processFailing(Flux<Message> messages) {
+            return messages.then(Mono.error(new IllegalStateException("failed")));
+        }
+    }
+}
@@ -1,18 +1,29 @@
 package co.com.bancolombia.commons.jms.mq.listeners;
 
+import co.com.bancolombia.commons.jms.api.MQMessageCodec;
+import co.com.bancolombia.commons.jms.internal.listener.MQBackoutRouter;
+import co.com.bancolombia.commons.jms.internal.listener.MQDelayedRetry;
+import co.com.bancolombia.commons.jms.internal.listener.MQLocalRetry;
+import co.com.bancolombia.commons.jms.internal.models.MQRetryConfig;
+import lombok.AllArgsConstructor;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.messaging.handler.invocation.InvocableHandlerMethod;
 
 import javax.jms.JMSException;
 import javax.jms.Message;
+import java.lang.reflect.Method;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -20,30 +31,30 @@ import static org.mockito.Mockito.when;
 @ExtendWith(MockitoExtension.class)
 class MQMessageListenerTest {
     @Mock
-    private InvocableHandlerMethod handlerMethod;
+    private MQListenerInvoker invoker;
     @Mock
     private Message message;
     private MQMessageListener listener;
 
     @BeforeEach
     void setup() {
-        listener = new MQMessageListener(handlerMethod, 1);
+        listener = new MQMessageListener(invoker, 1);
     }
 
     @Test
     void shouldHandleMessage() throws Exception {
         // Arrange
-        when(handlerMethod.invoke(any(), any(Message.class))).thenReturn("OK");
+        when(invoker.invoke(message, null)).thenReturn("OK");
         // Act
         listener.onMessage(message);
         // Assert
-        verify(handlerMethod, times(1)).invoke(any(), any(Message.class));
+        verify(invoker, times(1)).invoke(message, null);
     }
 
     @Test
     void shouldRetry() throws Exception {
         // Arrange
-        when(handlerMethod.invoke(any(), any(Message.class))).thenThrow(new JMSException("My Error"));
+        when(invoker.invoke(message, null)).thenThrow(new JMSException("My Error"));
         // Act
         // Assert
         Assertions.assertThrows(JMSException.class, () -> listener.onMessage(message));
@@ -52,7 +63,7 @@ class MQMessageListenerTest {
     @Test
     void shouldDiscardRetry() throws Exception {
         // Arrange
-        when(handlerMethod.invoke(any(), any(Message.class))).thenThrow(new JMSException("My Error"));
+        when(invoker.invoke(message, null)).thenThrow(new JMSException("My Error"));
         when(message.getIntProperty(any())).thenReturn(2);
         // Act
         listener.onMessage(message);
@@ -60,4 +71,88 @@ class MQMessageListenerTest {
         verify(message, atLeastOnce()).getJMSMessageID();
     }
 
+    @Test
+    void shouldRouteToBackoutWhenRetriesExhausted() throws Exception {
+        // Arrange
+        MQBackoutRouter backout = mock(MQBackoutRouter.class);
+        JMSException error = new JMSException("My Error");
+        MQMessageListener backoutListener = new MQMessageListener(invoker, 1, MQListenerArguments.messageOnly(),
+                backout, null);
+        when(invoker.invoke(message, null)).thenThrow(error);
+        when(message.getIntProperty(any())).thenReturn(2);
+        // Act
+        backoutListener.onMessage(message);
+        // Assert
+        verify(backout).route(message, error);
+    }
+
+    @Test
+    void shouldAcknowledgeWhenPublishedForDelayedRetry() throws Exception {
+        // Arrange
+        MQDelayedRetry delayedRetry = mock(MQDelayedRetry.class);
+        JMSException error = new JMSException("My Error");
+        MQMessageListener delayedListener = new MQMessageListener(invoker, 1, MQListenerArguments.messageOnly(),
+                null, delayedRetry);
+        when(invoker.invoke(message, null)).thenThrow(error);
+        when(delayedRetry.retry(message, error)).thenReturn(true);
+        // Act
+        delayedListener.onMessage(message);
+        // Assert
+        verify(delayedRetry).retry(message, error);
+    }
+
+    @Test
+    void shouldRetryLocallyBeforePublishingForDelayedRetry() throws Exception {
+        // Arrange
+        MQDelayedRetry delayedRetry = mock(MQDelayedRetry.class);
+        MQLocalRetry localRetry = new MQLocalRetry("QUEUE", MQRetryConfig.builder().retries(2).backoff(1).build());
+        JMSException error = new JMSException("My Error");
+        MQMessageListener retryingListener = new MQMessageListener(invoker, 1, MQListenerArguments.messageOnly(),
+                null, delayedRetry, localRetry);
+        when(invoker.invoke(message, null)).thenThrow(error);
+        when(delayedRetry.retry(message, error)).thenReturn(true);
+        // Act
+        retryingListener.onMessage(message);
+        // Assert
+        InOrder order = inOrder(invoker, delayedRetry);
+        order.verify(invoker, times(3)).invoke(message, null);
+        order.verify(delayedRetry, times(1)).retry(message, error);
+    }
+
+    @Test
+    void shouldDecodePayloadParameter() throws Exception {
+        // Arrange
+        MQMessageCodec codec = mock(MQMessageCodec.class);
+        when(codec.decode(message, Payload.class)).thenReturn(new Payload("decoded"));
+        PayloadHandler handler = new PayloadHandler();
+        MQMessageListener payloadListener = MQMessageListener.fromBeanAndMethod(handler,
+                PayloadHandler.class.getMethod("handle", Payload.class), 1, codec);
+        // Act
+        payloadListener.onMessage(message);
+        // Assert
+        assertEquals("decoded", handler.received.value);
+    }
+
+    @Test
+    void shouldFailWhenPayloadParameterWithoutCodec() throws Exception {
+        // Arrange
+        Method method = PayloadHandler.class.getMethod("handle", Payload.class);
+        PayloadHandler handler = new PayloadHandler();
+        // Act
+        // Assert
+        assertThrows(IllegalStateException.class, () -> MQMessageListener.fromBeanAndMethod(handler, method, 1));
+    }
+
+    @AllArgsConstructor
+    public static class Payload {
+        private final String value;
+    }
+
+    public static class PayloadHandler {
+        private Payload received;
+
+        public void handle(Payload payload) {
+            received = payload;
+        }
+    }
 }
@@ -1,19 +1,23 @@
 package co.com.bancolombia.commons.jms.mq.listeners;
 
+import co.com.bancolombia.commons.jms.internal.listener.MQBackoutRouter;
+import co.com.bancolombia.commons.jms.internal.listener.MQDelayedRetry;
+import co.com.bancolombia.commons.jms.internal.listener.MQLocalRetry;
+import co.com.bancolombia.commons.jms.internal.models.MQRetryConfig;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.messaging.handler.invocation.reactive.InvocableHandlerMethod;
 import reactor.core.publisher.Mono;
 
-import javax.jms.JMSException;
 import javax.jms.Message;
 
 import static com.ibm.msg.client.jms.JmsConstants.JMSX_DELIVERY_COUNT;
 import static org.junit.jupiter.api.Assertions.assertThrows;
-import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -21,30 +25,30 @@ import static org.mockito.Mockito.when;
 @ExtendWith(MockitoExtension.class)
 class MQReactiveMessageListenerTest {
     @Mock
-    private InvocableHandlerMethod handlerMethod;
+    private MQListenerInvoker invoker;
     @Mock
     private Message message;
     private MQReactiveMessageListener listener;
 
     @BeforeEach
     void setup() {
-        listener = new MQReactiveMessageListener(handlerMethod, 1);
+        listener = new MQReactiveMessageListener(invoker, 1);
     }
 
     @Test
-    void shouldListen() {
+    void shouldListen() throws Exception {
         // Arrange
-        when(handlerMethod.invoke(any(), any())).thenReturn(Mono.empty());
+        when(invoker.invoke(message, null)).thenReturn(Mono.empty());
         // Act
         listener.onMessage(message);
         // Assert
-        verify(handlerMethod, times(1)).invoke(any(), any(Message.class));
+        verify(invoker, times(1)).invoke(message, null);
     }
 
     @Test
-    void shouldThrowError() throws JMSException {
+    void shouldThrowError() throws Exception {
         // Arrange
-        when(handlerMethod.invoke(any(), any())).thenReturn(Mono.error(new RuntimeException()));
+        when(invoker.invoke(message, null)).thenReturn(Mono.error(new RuntimeException()));
         when(message.getIntProperty(JMSX_DELIVERY_COUNT)).thenReturn(0);
         // Act
         // Assert
@@ -52,14 +56,46 @@ class MQReactiveMessageListenerTest {
     }
 
     @Test
-    void shouldHandleErrorWhenReachedRetriesAttempts() throws JMSException {
+    void shouldHandleErrorWhenReachedRetriesAttempts() throws Exception {
         // Arrange
-        when(handlerMethod.invoke(any(), any())).thenReturn(Mono.error(new RuntimeException()));
+        when(invoker.invoke(message, null)).thenReturn(Mono.error(new RuntimeException()));
         when(message.getIntProperty(JMSX_DELIVERY_COUNT)).thenReturn(2);
         // Act
         listener.onMessage(message);
         // Assert
-        verify(handlerMethod, times(1)).invoke(any(), any(Message.class));
+        verify(invoker, times(1)).invoke(message, null);
     }
 
+    @Test
+    void shouldRouteToBackoutWhenReachedRetriesAttempts() throws Exception {
+        // Arrange
+        MQBackoutRouter backout = mock(MQBackoutRouter.class);
+        RuntimeException error = new RuntimeException("failed");
+        MQReactiveMessageListener backoutListener = new MQReactiveMessageListener(invoker, 1,
+                MQListenerArguments.messageOnly(), backout, null);
+        when(invoker.invoke(message, null)).thenReturn(Mono.error(error));
+        when(message.getIntProperty(JMSX_DELIVERY_COUNT)).thenReturn(2);
+        // Act
+        backoutListener.onMessage(message);
+        // Assert
+        verify(backout).route(message, error);
+    }
+
+    @Test
+    void shouldRetryLocallyBeforePublishingForDelayedRetry() throws Exception {
+        // Arrange
+        MQDelayedRetry delayedRetry = mock(MQDelayedRetry.class);
+        MQLocalRetry localRetry = new MQLocalRetry("QUEUE", MQRetryConfig.builder().retries(2).backoff(1).build());
+        RuntimeException error = new RuntimeException("failed");
+        MQReactiveMessageListener retryingListener = new MQReactiveMessageListener(invoker, 1,
+                MQListenerArguments.messageOnly(), null, delayedRetry, localRetry);
+        when(invoker.invoke(message, null)).thenReturn(Mono.error(error));
+        when(delayedRetry.retry(message, error)).thenReturn(true);
+        // Act
+        retryingListener.onMessage(message);
+        // Assert
+        InOrder order = inOrder(invoker, delayedRetry);
+        order.verify(invoker, times(3)).invoke(message, null);
+        order.verify(delayedRetry, times(1)).retry(message, error);
+    }
 }
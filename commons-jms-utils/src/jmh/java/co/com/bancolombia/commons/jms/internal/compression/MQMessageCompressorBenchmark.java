@@ -0,0 +1,77 @@
+package co.com.bancolombia.commons.jms.internal.compression;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.jms.JMSException;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the CPU cost of deflating and inflating JSON like bodies for each compression level, the compression ratio
+ * of each combination is printed on tear down
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MQMessageCompressorBenchmark {
+    @Param({"10240", "204800", "819200"})
+    private int size;
+    @Param({"1", "6", "9"})
+    private int level;
+    private MQMessageCompressor compressor;
+    private byte[] body;
+    private byte[] compressed;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        compressor = new MQMessageCompressor(0, level);
+        body = json(size);
+        compressed = compressor.deflate(body);
+    }
+
+    @TearDown(Level.Trial)
+    public void report() {
+        System.out.printf("%nsize=%d level=%d compressed=%d ratio=%.3f%n", body.length, level, compressed.length,
+                (double) compressed.length / body.length);
+    }
+
+    @Benchmark
+    public byte[] deflate() {
+        return compressor.deflate(body);
+    }
+
+    @Benchmark
+    public byte[] inflate() throws JMSException {
+        return MQMessageCompressor.inflate(compressed);
+    }
+
+    private static byte[] json(int size) {
+        Random random = new Random(size);
+        StringBuilder builder = new StringBuilder(size + 128).append('[');
+        while (builder.length() < size) {
+            builder.append("{\"id\":").append(random.nextInt(1_000_000))
+                    .append(",\"account\":\"").append(Long.toHexString(random.nextLong()))
+                    .append("\",\"amount\":").append(random.nextInt(100_000) / 100.0)
+                    .append(",\"status\":\"").append(random.nextBoolean() ? "APPROVED" : "REJECTED")
+                    .append("\"},");
+        }
+        builder.setCharAt(builder.length() - 1, ']');
+        return builder.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,96 @@
+package co.com.bancolombia.commons.jms.utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the lookup of a reply by correlation id in a stand-in queue of the given depth. Like IBM MQ, the stand-in
+ * resolves selectors in the ID: form with a correlation id index and evaluates any other selector against each
+ * message in the queue, so the string ids grow with the depth while the binary ids stay flat
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MQCorrelationIdsBenchmark {
+    private static final String SELECTOR_PREFIX = "JMSCorrelationID='";
+    @Param({"100", "10000", "100000"})
+    private int depth;
+    private String[] ids;
+    private StandInQueue stringQueue;
+    private StandInQueue binaryQueue;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        ids = new String[depth];
+        stringQueue = new StandInQueue(depth);
+        binaryQueue = new StandInQueue(depth);
+        for (int i = 0; i < depth; i++) {
+            ids[i] = UUID.randomUUID().toString();
+            stringQueue.put(ids[i]);
+            binaryQueue.put(MQCorrelationIds.toMQId(ids[i]));
+        }
+    }
+
+    @Benchmark
+    public int stringCorrelationId() {
+        String id = ids[ThreadLocalRandom.current().nextInt(depth)];
+        return stringQueue.select(SELECTOR_PREFIX + id + "'");
+    }
+
+    @Benchmark
+    public int binaryCorrelationId() {
+        String id = ids[ThreadLocalRandom.current().nextInt(depth)];
+        return binaryQueue.select(SELECTOR_PREFIX + MQCorrelationIds.toMQId(id) + "'");
+    }
+
+    private static class StandInQueue {
+        private final String[] correlationIds;
+        private final Map<String, Integer> index;
+        private int size;
+
+        StandInQueue(int depth) {
+            correlationIds = new String[depth];
+            index = new HashMap<>(depth * 2);
+        }
+
+        void put(String correlationId) {
+            correlationIds[size] = correlationId;
+            if (MQCorrelationIds.isMQId(correlationId)) {
+                index.put(correlationId, size);
+            }
+            size++;
+        }
+
+        int select(String selector) {
+            String value = selector.substring(SELECTOR_PREFIX.length(), selector.length() - 1);
+            if (MQCorrelationIds.isMQId(value)) {
+                return index.getOrDefault(value, -1);
+            }
+            for (int i = 0; i < size; i++) {
+                if (value.equals(correlationIds[i])) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+}
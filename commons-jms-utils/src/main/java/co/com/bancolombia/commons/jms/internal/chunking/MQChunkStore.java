@@ -0,0 +1,154 @@
+package co.com.bancolombia.commons.jms.internal.chunking;
+
+import co.com.bancolombia.commons.jms.internal.message.MQBytesMessageView;
+import co.com.bancolombia.commons.jms.internal.message.MQTextMessageView;
+import co.com.bancolombia.commons.jms.utils.MQMessageUtils;
+import lombok.extern.log4j.Log4j2;
+
+import javax.jms.BytesMessage;
+import javax.jms.JMSException;
+import javax.jms.JMSRuntimeException;
+import javax.jms.Message;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static co.com.bancolombia.commons.jms.internal.chunking.MQMessageChunker.BODY_PROPERTY;
+import static co.com.bancolombia.commons.jms.internal.chunking.MQMessageChunker.GROUP_PROPERTY;
+import static co.com.bancolombia.commons.jms.internal.chunking.MQMessageChunker.LAST_PROPERTY;
+import static co.com.bancolombia.commons.jms.internal.chunking.MQMessageChunker.SEQUENCE_PROPERTY;
+import static co.com.bancolombia.commons.jms.internal.chunking.MQMessageChunker.TEXT_BODY;
+
+/**
+ * Buffers the chunks of each group until all of them are received, the assembled message has the headers and
+ * properties of the first chunk. The store keeps at most maxGroups groups, groups not completed in groupTimeout
+ * milliseconds are discarded. When the store is full the chunk is rejected with an exception, so it is redelivered
+ * later. A group is kept until its message is marked as delivered, when it is marked as failed the redelivered last
+ * chunk completes the group again. The buffered chunks are already acknowledged, so all of them must reach the same
+ * store of a single application instance.
+ */
+@Log4j2
+public class MQChunkStore {
+    private final int maxGroups;
+    private final long groupTimeout;
+    private final Map<String, ChunkGroup> groups = new ConcurrentHashMap<>();
+
+    public MQChunkStore(int maxGroups, long groupTimeout) {
+        this.maxGroups = maxGroups;
+        this.groupTimeout = groupTimeout;
+    }
+
+    /**
+     * @return the message to process, which is the same message when it is not a chunk, or null when the chunk was
+     * buffered and its group is not complete yet
+     */
+    public Message offer(Message message) throws JMSException {
+        if (!MQMessageChunker.isChunk(message)) {
+            return message;
+        }
+        String groupId = message.getStringProperty(GROUP_PROPERTY);
+        ChunkGroup group = groups.get(groupId);
+        if (group == null) {
+            reserve(groupId);
+            group = groups.computeIfAbsent(groupId, id -> new ChunkGroup());
+        }
+        return group.add((BytesMessage) message);
+    }
+
+    /**
+     * Discards the group of an assembled message once it was processed
+     */
+    public void delivered(Message message) {
+        String groupId = groupOf(message);
+        if (groupId != null) {
+            groups.remove(groupId);
+        }
+    }
+
+    /**
+     * Keeps the group of an assembled message that failed, so it can be assembled again
+     */
+    public void failed(Message message) {
+        String groupId = groupOf(message);
+        ChunkGroup group = groupId == null ? null : groups.get(groupId);
+        if (group != null) {
+            group.release();
+        }
+    }
+
+    private static String groupOf(Message message) {
+        try {
+            // assembled text messages are not chunks but keep the properties of the first one
+            return message.propertyExists(GROUP_PROPERTY) ? message.getStringProperty(GROUP_PROPERTY) : null;
+        } catch (JMSException e) {
+            throw new JMSRuntimeException(e.getMessage(), e.getErrorCode(), e);
+        }
+    }
+
+    private void reserve(String groupId) {
+        if (groups.size() < maxGroups) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        groups.entrySet().removeIf(entry -> {
+            boolean expired = now - entry.getValue().createdAt > groupTimeout;
+            if (expired) {
+                log.warn("Discarding incomplete chunks group {} after {} ms", entry.getKey(), groupTimeout);
+            }
+            return expired;
+        });
+        if (groups.size() >= maxGroups) {
+            throw new JMSRuntimeException("Chunks store is full, " + maxGroups + " incomplete groups, rejecting " +
+                    "group " + groupId);
+        }
+    }
+
+    public int getPendingGroups() {
+        return groups.size();
+    }
+
+    private static class ChunkGroup {
+        private final long createdAt = System.currentTimeMillis();
+        private final TreeMap<Integer, byte[]> chunks = new TreeMap<>();
+        private Message first;
+        private int last = -1;
+        private boolean delivering;
+
+        /**
+         * @return the assembled message when the chunk completes the group and it is not being delivered
+         */
+        private synchronized Message add(BytesMessage chunk) throws JMSException {
+            int sequence = chunk.getIntProperty(SEQUENCE_PROPERTY);
+            // a redelivered chunk replaces the previous one
+            chunks.put(sequence, MQMessageUtils.readBody(chunk));
+            if (sequence == 1) {
+                first = chunk;
+            }
+            if (chunk.getBooleanProperty(LAST_PROPERTY)) {
+                last = sequence;
+            }
+            if (delivering || last == -1 || chunks.size() != last) {
+                return null;
+            }
+            delivering = true;
+            return assemble();
+        }
+
+        private synchronized void release() {
+            delivering = false;
+        }
+
+        private Message assemble() throws JMSException {
+            int size = chunks.values().stream().mapToInt(chunk -> chunk.length).sum();
+            ByteArrayOutputStream output = new ByteArrayOutputStream(size);
+            chunks.values().forEach(chunk -> output.write(chunk, 0, chunk.length));
+            byte[] body = output.toByteArray();
+            if (TEXT_BODY.equals(first.getStringProperty(BODY_PROPERTY))) {
+                return new MQTextMessageView(first, new String(body, StandardCharsets.UTF_8));
+            }
+            return new MQBytesMessageView(first, body);
+        }
+    }
+}
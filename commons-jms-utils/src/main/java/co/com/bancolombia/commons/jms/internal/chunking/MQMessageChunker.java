@@ -0,0 +1,82 @@
+package co.com.bancolombia.commons.jms.internal.chunking;
+
+import co.com.bancolombia.commons.jms.utils.MQMessageUtils;
+
+import javax.jms.BytesMessage;
+import javax.jms.JMSContext;
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.TextMessage;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Splits the body of text and bytes messages greater than the chunk size into BytesMessages of the same group, each
+ * one with its sequence number, starting at 1, and the last flag. All the chunks keep the headers and properties of
+ * the original message.
+ */
+public class MQMessageChunker {
+    public static final String GROUP_PROPERTY = "CommonsJmsChunkGroup";
+    public static final String SEQUENCE_PROPERTY = "CommonsJmsChunkSeq";
+    public static final String LAST_PROPERTY = "CommonsJmsChunkLast";
+    public static final String BODY_PROPERTY = "CommonsJmsChunkBody";
+    public static final String TEXT_BODY = "text";
+    public static final String BYTES_BODY = "bytes";
+    private final int chunkSize;
+
+    public MQMessageChunker(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * @return the chunks to send or a list with the same message when it is not greater than the chunk size
+     */
+    public List<Message> split(JMSContext context, Message message) throws JMSException {
+        if (message instanceof TextMessage) {
+            String text = ((TextMessage) message).getText();
+            // utf-8 takes at most 3 bytes per char, so shorter texts can be skipped without encoding them
+            if (text == null || (long) text.length() * 3 <= chunkSize) {
+                return Collections.singletonList(message);
+            }
+            return split(context, message, text.getBytes(StandardCharsets.UTF_8), TEXT_BODY);
+        }
+        if (message instanceof BytesMessage) {
+            BytesMessage bytesMessage = (BytesMessage) message;
+            bytesMessage.reset();
+            if (bytesMessage.getBodyLength() <= chunkSize) {
+                return Collections.singletonList(message);
+            }
+            return split(context, message, MQMessageUtils.readBody(bytesMessage), BYTES_BODY);
+        }
+        return Collections.singletonList(message);
+    }
+
+    private List<Message> split(JMSContext context, Message message, byte[] body, String bodyType)
+            throws JMSException {
+        if (body.length <= chunkSize) {
+            return Collections.singletonList(message);
+        }
+        String group = UUID.randomUUID().toString();
+        int count = (body.length + chunkSize - 1) / chunkSize;
+        List<Message> chunks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int offset = i * chunkSize;
+            BytesMessage chunk = context.createBytesMessage();
+            chunk.writeBytes(body, offset, Math.min(chunkSize, body.length - offset));
+            MQMessageUtils.copyHeadersAndProperties(message, chunk);
+            chunk.setStringProperty(GROUP_PROPERTY, group);
+            chunk.setIntProperty(SEQUENCE_PROPERTY, i + 1);
+            chunk.setBooleanProperty(LAST_PROPERTY, i == count - 1);
+            chunk.setStringProperty(BODY_PROPERTY, bodyType);
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+
+    public static boolean isChunk(Message message) throws JMSException {
+        return message instanceof BytesMessage && message.propertyExists(GROUP_PROPERTY);
+    }
+}
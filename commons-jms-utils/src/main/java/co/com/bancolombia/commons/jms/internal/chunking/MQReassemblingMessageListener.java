@@ -0,0 +1,51 @@
+package co.com.bancolombia.commons.jms.internal.chunking;
+
+import javax.jms.JMSException;
+import javax.jms.JMSRuntimeException;
+import javax.jms.Message;
+import javax.jms.MessageListener;
+
+/**
+ * Delivers one message when all the chunks of a group are received, see {@link MQChunkStore}
+ */
+public class MQReassemblingMessageListener implements MessageListener {
+    private final MessageListener listener;
+    private final MQChunkStore chunks;
+
+    public MQReassemblingMessageListener(MessageListener listener, int maxGroups, long groupTimeout) {
+        this(listener, new MQChunkStore(maxGroups, groupTimeout));
+    }
+
+    public MQReassemblingMessageListener(MessageListener listener, MQChunkStore chunks) {
+        this.listener = listener;
+        this.chunks = chunks;
+    }
+
+    @Override
+    public void onMessage(Message message) {
+        Message complete;
+        try {
+            complete = chunks.offer(message);
+        } catch (JMSException e) {
+            throw new JMSRuntimeException(e.getMessage(), e.getErrorCode(), e);
+        }
+        if (complete == null) {
+            return;
+        }
+        boolean delivered = false;
+        try {
+            listener.onMessage(complete);
+            delivered = true;
+        } finally {
+            if (delivered) {
+                chunks.delivered(complete);
+            } else {
+                chunks.failed(complete);
+            }
+        }
+    }
+
+    public int getPendingGroups() {
+        return chunks.getPendingGroups();
+    }
+}
@@ -0,0 +1,48 @@
+package co.com.bancolombia.commons.jms.internal.codec;
+
+import lombok.AllArgsConstructor;
+
+import javax.jms.BytesMessage;
+import javax.jms.JMSException;
+import javax.jms.MessageEOFException;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Reads the BytesMessage body in chunks, so a streaming parser does not need the whole payload in a byte array
+ */
+@AllArgsConstructor
+public class BytesMessageInputStream extends InputStream {
+    private final BytesMessage message;
+
+    @Override
+    public int read() throws IOException {
+        try {
+            return message.readUnsignedByte();
+        } catch (MessageEOFException e) {
+            return -1;
+        } catch (JMSException e) {
+            throw new IOException(e);
+        }
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        try {
+            if (off == 0) {
+                return message.readBytes(b, len);
+            }
+            byte[] chunk = new byte[len];
+            int read = message.readBytes(chunk, len);
+            if (read > 0) {
+                System.arraycopy(chunk, 0, b, off, read);
+            }
+            return read;
+        } catch (JMSException e) {
+            throw new IOException(e);
+        }
+    }
+}
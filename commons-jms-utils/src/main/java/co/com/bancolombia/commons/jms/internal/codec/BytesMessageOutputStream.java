@@ -0,0 +1,35 @@
+package co.com.bancolombia.commons.jms.internal.codec;
+
+import lombok.AllArgsConstructor;
+
+import javax.jms.BytesMessage;
+import javax.jms.JMSException;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes directly into the BytesMessage body, the serializer buffers the chunks so no intermediate copy of the
+ * whole payload is built
+ */
+@AllArgsConstructor
+public class BytesMessageOutputStream extends OutputStream {
+    private final BytesMessage message;
+
+    @Override
+    public void write(int b) throws IOException {
+        try {
+            message.writeByte((byte) b);
+        } catch (JMSException e) {
+            throw new IOException(e);
+        }
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        try {
+            message.writeBytes(b, off, len);
+        } catch (JMSException e) {
+            throw new IOException(e);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package co.com.bancolombia.commons.jms.internal.codec;
+
+import co.com.bancolombia.commons.jms.api.MQMessageCodec;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+
+import javax.jms.BytesMessage;
+import javax.jms.JMSContext;
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.MessageFormatException;
+import javax.jms.TextMessage;
+import java.io.IOException;
+
+/**
+ * Encodes payloads as JSON in a BytesMessage, writing and reading the body as a stream. TextMessages are also
+ * decoded to keep compatibility with producers that send JSON text.
+ */
+@AllArgsConstructor
+public class MQJacksonCodec implements MQMessageCodec {
+    private final ObjectMapper mapper;
+
+    public MQJacksonCodec() {
+        this(new ObjectMapper());
+    }
+
+    @Override
+    public Message encode(JMSContext context, Object payload) throws JMSException {
+        BytesMessage message = context.createBytesMessage();
+        try {
+            mapper.writeValue(new BytesMessageOutputStream(message), payload);
+        } catch (IOException e) {
+            throw formatException("Error encoding payload " + payload.getClass().getName(), e);
+        }
+        return message;
+    }
+
+    @Override
+    public <T> T decode(Message message, Class<T> type) throws JMSException {
+        try {
+            if (message instanceof BytesMessage) {
+                return mapper.readValue(new BytesMessageInputStream((BytesMessage) message), type);
+            }
+            if (message instanceof TextMessage) {
+                return mapper.readValue(((TextMessage) message).getText(), type);
+            }
+        } catch (IOException e) {
+            throw formatException("Error decoding message " + message.getJMSMessageID() + " as " + type.getName(), e);
+        }
+        throw new MessageFormatException("Unsupported message type " + message.getClass().getName());
+    }
+
+    private static JMSException formatException(String reason, IOException cause) {
+        MessageFormatException exception = new MessageFormatException(reason);
+        exception.setLinkedException(cause);
+        exception.initCause(cause);
+        return exception;
+    }
+}
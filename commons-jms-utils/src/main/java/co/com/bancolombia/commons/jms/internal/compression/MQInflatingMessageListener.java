@@ -0,0 +1,25 @@
+package co.com.bancolombia.commons.jms.internal.compression;
+
+import lombok.AllArgsConstructor;
+
+import javax.jms.JMSException;
+import javax.jms.JMSRuntimeException;
+import javax.jms.Message;
+import javax.jms.MessageListener;
+
+/**
+ * Hands the compressed messages to the listener with the body inflated
+ */
+@AllArgsConstructor
+public class MQInflatingMessageListener implements MessageListener {
+    private final MessageListener listener;
+
+    @Override
+    public void onMessage(Message message) {
+        try {
+            listener.onMessage(MQMessageCompressor.inflate(message));
+        } catch (JMSException e) {
+            throw new JMSRuntimeException(e.getMessage(), e.getErrorCode(), e);
+        }
+    }
+}
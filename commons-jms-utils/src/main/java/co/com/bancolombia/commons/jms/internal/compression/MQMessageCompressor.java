@@ -0,0 +1,129 @@
+package co.com.bancolombia.commons.jms.internal.compression;
+
+import co.com.bancolombia.commons.jms.internal.message.MQBytesMessageView;
+import co.com.bancolombia.commons.jms.internal.message.MQTextMessageView;
+import co.com.bancolombia.commons.jms.utils.MQMessageUtils;
+
+import javax.jms.BytesMessage;
+import javax.jms.JMSContext;
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.MessageFormatException;
+import javax.jms.TextMessage;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Deflates the body of text and bytes messages greater than a threshold into a BytesMessage marked with the
+ * {@value #COMPRESSION_PROPERTY} property. It reuses a Deflater, so an instance must be used by one thread at a time,
+ * as each sender context is.
+ */
+public class MQMessageCompressor {
+    public static final String COMPRESSION_PROPERTY = "CommonsJmsCompression";
+    public static final String ORIGINAL_BODY_PROPERTY = "CommonsJmsOriginalBody";
+    public static final String DEFLATE = "deflate";
+    public static final String TEXT_BODY = "text";
+    public static final String BYTES_BODY = "bytes";
+    private static final int BUFFER_SIZE = 8192;
+    private final int threshold;
+    private final Deflater deflater;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+
+    public MQMessageCompressor(int threshold, int level) {
+        this.threshold = threshold;
+        this.deflater = new Deflater(level);
+    }
+
+    public Message compress(JMSContext context, Message message) throws JMSException {
+        if (message instanceof TextMessage) {
+            String text = ((TextMessage) message).getText();
+            // utf-8 takes at most 3 bytes per char, so shorter texts can be skipped without encoding them
+            if (text == null || (long) text.length() * 3 < threshold) {
+                return message;
+            }
+            return compress(context, message, text.getBytes(StandardCharsets.UTF_8), TEXT_BODY);
+        }
+        if (message instanceof BytesMessage) {
+            BytesMessage bytesMessage = (BytesMessage) message;
+            bytesMessage.reset();
+            if (bytesMessage.getBodyLength() < threshold) {
+                return message;
+            }
+            return compress(context, message, MQMessageUtils.readBody(bytesMessage), BYTES_BODY);
+        }
+        return message;
+    }
+
+    private Message compress(JMSContext context, Message message, byte[] body, String originalBody)
+            throws JMSException {
+        if (body.length < threshold) {
+            return message;
+        }
+        byte[] compressed = deflate(body);
+        if (compressed.length >= body.length) {
+            return message;
+        }
+        BytesMessage result = context.createBytesMessage();
+        result.writeBytes(compressed);
+        MQMessageUtils.copyHeadersAndProperties(message, result);
+        result.setStringProperty(COMPRESSION_PROPERTY, DEFLATE);
+        result.setStringProperty(ORIGINAL_BODY_PROPERTY, originalBody);
+        return result;
+    }
+
+    public byte[] deflate(byte[] body) {
+        deflater.reset();
+        deflater.setInput(body);
+        deflater.finish();
+        ByteArrayOutputStream output = new ByteArrayOutputStream(Math.max(BUFFER_SIZE, body.length / 4));
+        while (!deflater.finished()) {
+            int length = deflater.deflate(buffer);
+            output.write(buffer, 0, length);
+        }
+        return output.toByteArray();
+    }
+
+    public static boolean isCompressed(Message message) throws JMSException {
+        return message instanceof BytesMessage && DEFLATE.equals(message.getStringProperty(COMPRESSION_PROPERTY));
+    }
+
+    /**
+     * @return a read only view with the inflated body when the message is compressed, else the same message
+     */
+    public static Message inflate(Message message) throws JMSException {
+        if (!isCompressed(message)) {
+            return message;
+        }
+        byte[] body = inflate(MQMessageUtils.readBody((BytesMessage) message));
+        if (TEXT_BODY.equals(message.getStringProperty(ORIGINAL_BODY_PROPERTY))) {
+            return new MQTextMessageView(message, new String(body, StandardCharsets.UTF_8));
+        }
+        return new MQBytesMessageView(message, body);
+    }
+
+    public static byte[] inflate(byte[] compressed) throws JMSException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            ByteArrayOutputStream output = new ByteArrayOutputStream(compressed.length * 4);
+            byte[] chunk = new byte[BUFFER_SIZE];
+            while (!inflater.finished()) {
+                int length = inflater.inflate(chunk);
+                if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new MessageFormatException("Truncated compressed message body");
+                }
+                output.write(chunk, 0, length);
+            }
+            return output.toByteArray();
+        } catch (DataFormatException e) {
+            MessageFormatException exception = new MessageFormatException(e.getMessage());
+            exception.initCause(e);
+            throw exception;
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package co.com.bancolombia.commons.jms.internal.dedupe;
+
+import co.com.bancolombia.commons.jms.api.MQAsyncMessageListener;
+import co.com.bancolombia.commons.jms.api.MQMessageIdStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import reactor.core.publisher.Mono;
+
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.MessageListener;
+
+/**
+ * Skips the messages whose JMSMessageID was already processed, so they are acknowledged without invoking the listener.
+ * The id is recorded only after the listener succeeds, so a failed message is still redelivered
+ */
+@Log4j2
+@RequiredArgsConstructor
+public class MQDedupe {
+    private final String name;
+    private final MQMessageIdStore store;
+
+    public MessageListener wrap(MessageListener listener) {
+        if (store == null) {
+            return listener;
+        }
+        return message -> {
+            String id = messageId(message);
+            if (isDuplicated(id)) {
+                return;
+            }
+            listener.onMessage(message);
+            record(id);
+        };
+    }
+
+    public MQAsyncMessageListener wrapAsync(MQAsyncMessageListener listener) {
+        if (store == null) {
+            return listener;
+        }
+        return message -> Mono.defer(() -> {
+            String id = messageId(message);
+            if (isDuplicated(id)) {
+                return Mono.empty();
+            }
+            return listener.onMessageAsync(message).doOnSuccess(ignored -> record(id));
+        });
+    }
+
+    private boolean isDuplicated(String id) {
+        if (id != null && store.contains(id)) {
+            log.warn("Skipping duplicated message {} in {}", id, name);
+            return true;
+        }
+        return false;
+    }
+
+    private void record(String id) {
+        if (id != null) {
+            store.add(id);
+        }
+    }
+
+    private static String messageId(Message message) {
+        try {
+            return message.getJMSMessageID();
+        } catch (JMSException e) {
+            log.warn("Message id could not be read, the message will not be deduplicated", e);
+            return null;
+        }
+    }
+}
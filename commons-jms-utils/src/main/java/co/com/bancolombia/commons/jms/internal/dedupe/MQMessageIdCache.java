@@ -0,0 +1,139 @@
+package co.com.bancolombia.commons.jms.internal.dedupe;
+
+import co.com.bancolombia.commons.jms.api.MQMessageIdStore;
+import co.com.bancolombia.commons.jms.utils.MQCorrelationIds;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded set of the most recent MQ message ids, each id is kept as the three longs of its 24 bytes in a ring of
+ * primitive arrays indexed by an open addressing table, so no object is allocated per id. When the ring is full the
+ * oldest id is replaced, and an id older than the window is considered absent. Ids that are not in the MQ format,
+ * ID: followed by 48 hex digits, are never recorded
+ */
+public class MQMessageIdCache implements MQMessageIdStore {
+    private static final String PREFIX = "ID:";
+    private static final int EMPTY = 0;
+    private final int capacity;
+    private final long window;
+    private final LongSupplier clock;
+    private final long[] ids;
+    private final long[] times;
+    private final int[] index;
+    private final int mask;
+    private int next;
+    private int size;
+
+    public MQMessageIdCache(int capacity, long window) {
+        this(capacity, window, System::currentTimeMillis);
+    }
+
+    MQMessageIdCache(int capacity, long window, LongSupplier clock) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity should be positive, you have passed " + capacity);
+        }
+        this.capacity = capacity;
+        this.window = window;
+        this.clock = clock;
+        this.ids = new long[capacity * 3];
+        this.times = new long[capacity];
+        // at most half full, so the probe sequences remain short
+        int tableSize = Integer.highestOneBit(capacity * 2 - 1) << 1;
+        this.index = new int[tableSize];
+        this.mask = tableSize - 1;
+    }
+
+    @Override
+    public synchronized boolean contains(String messageId) {
+        if (!MQCorrelationIds.isMQId(messageId)) {
+            return false;
+        }
+        int slot = find(part(messageId, 0), part(messageId, 1), part(messageId, 2));
+        return slot >= 0 && clock.getAsLong() - times[slot] <= window;
+    }
+
+    @Override
+    public synchronized void add(String messageId) {
+        if (!MQCorrelationIds.isMQId(messageId)) {
+            return;
+        }
+        long first = part(messageId, 0);
+        long second = part(messageId, 1);
+        long third = part(messageId, 2);
+        int slot = find(first, second, third);
+        if (slot >= 0) {
+            times[slot] = clock.getAsLong();
+            return;
+        }
+        slot = next;
+        if (size == capacity) {
+            remove(slot);
+        } else {
+            size++;
+        }
+        ids[slot * 3] = first;
+        ids[slot * 3 + 1] = second;
+        ids[slot * 3 + 2] = third;
+        times[slot] = clock.getAsLong();
+        int position = hash(first, second, third) & mask;
+        while (index[position] != EMPTY) {
+            position = (position + 1) & mask;
+        }
+        index[position] = slot + 1;
+        next = (next + 1) % capacity;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    private int find(long first, long second, long third) {
+        int position = hash(first, second, third) & mask;
+        while (index[position] != EMPTY) {
+            int slot = index[position] - 1;
+            if (ids[slot * 3] == first && ids[slot * 3 + 1] == second && ids[slot * 3 + 2] == third) {
+                return slot;
+            }
+            position = (position + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Removes the slot from the index shifting back the next entries of its probe sequence, so no tombstones are needed
+     */
+    private void remove(int slot) {
+        int hole = hash(ids[slot * 3], ids[slot * 3 + 1], ids[slot * 3 + 2]) & mask;
+        while (index[hole] != slot + 1) {
+            hole = (hole + 1) & mask;
+        }
+        int position = (hole + 1) & mask;
+        while (index[position] != EMPTY) {
+            int current = index[position] - 1;
+            int home = hash(ids[current * 3], ids[current * 3 + 1], ids[current * 3 + 2]) & mask;
+            if (((position - home) & mask) >= ((position - hole) & mask)) {
+                index[hole] = index[position];
+                hole = position;
+            }
+            position = (position + 1) & mask;
+        }
+        index[hole] = EMPTY;
+    }
+
+    private static int hash(long first, long second, long third) {
+        long h = first * 0x9E3779B97F4A7C15L ^ second * 0xC2B2AE3D27D4EB4FL ^ third * 0x165667B19E3779F9L;
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+
+    private static long part(String messageId, int part) {
+        long value = 0;
+        int start = PREFIX.length() + part * 16;
+        for (int i = start; i < start + 16; i++) {
+            value = (value << 4) | Character.digit(messageId.charAt(i), 16);
+        }
+        return value;
+    }
+}
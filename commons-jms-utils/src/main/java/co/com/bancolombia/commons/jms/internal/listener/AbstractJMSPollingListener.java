@@ -0,0 +1,166 @@
+package co.com.bancolombia.commons.jms.internal.listener;
+
+import co.com.bancolombia.commons.jms.api.MQBrokerUtils;
+import co.com.bancolombia.commons.jms.api.MQQueuesContainer;
+import co.com.bancolombia.commons.jms.internal.models.MQListenerConfig;
+import co.com.bancolombia.commons.jms.internal.reconnect.AbstractJMSReconnectable;
+import co.com.bancolombia.commons.jms.utils.MQQueueUtils;
+import lombok.experimental.SuperBuilder;
+import lombok.extern.log4j.Log4j2;
+
+import javax.jms.ConnectionFactory;
+import javax.jms.Destination;
+import javax.jms.JMSConsumer;
+import javax.jms.JMSContext;
+import javax.jms.JMSException;
+import javax.jms.Queue;
+
+/**
+ * Fixed queue listener that receives from its own thread instead of registering a MessageListener, so the
+ * subclasses control when the messages are acknowledged or committed. The polling thread survives reconnections, it
+ * always receives from the last connected consumer.
+ */
+@Log4j2
+@SuperBuilder
+public abstract class AbstractJMSPollingListener<T> extends AbstractJMSReconnectable<T> implements MQListenerControl {
+    protected static final long POLL_TIMEOUT = 1000L;
+    private static final long ERROR_PAUSE = 1000L;
+    private final ConnectionFactory connectionFactory;
+    private final MQListenerConfig config;
+    private final MQQueuesContainer container;
+    private final MQBrokerUtils utils;
+    private volatile JMSContext context;
+    private volatile JMSConsumer consumer;
+    private volatile boolean running;
+    private volatile boolean paused;
+    private Thread poller;
+
+    protected abstract int sessionMode();
+
+    /**
+     * Called in a loop from the polling thread, it should wait at most some seconds for messages
+     */
+    protected abstract void poll(JMSContext context, JMSConsumer consumer);
+
+    protected abstract T self();
+
+    /**
+     * Called with each new context before the polling starts or resumes
+     */
+    protected void onConnected(JMSContext context) {
+    }
+
+    @Override
+    protected String name() {
+        String[] parts = this.toString().split("\\.");
+        return parts[parts.length - 1] + "[" + config.getQueue() + "]";
+    }
+
+    @Override
+    protected T connect() {
+        log.info("Starting listener {}", getProcess());
+        JMSContext newContext = connectionFactory.createContext(sessionMode());
+        Destination destination = MQQueueUtils.setupFixedQueue(newContext, config);
+        container.registerQueue(config.getQueue(), (Queue) destination);
+        utils.setQueueManager(newContext, (Queue) destination);
+        JMSConsumer newConsumer = newContext.createConsumer(destination);//NOSONAR
+        newContext.setExceptionListener(this);
+        onConnected(newContext);
+        if (paused) {
+            newContext.stop();
+        }
+        this.context = newContext;
+        this.consumer = newConsumer;
+        startPolling();
+        log.info("Listener {} started successfully", getProcess());
+        return self();
+    }
+
+    private synchronized void startPolling() {
+        if (!running) {
+            running = true;
+            startPoller();
+        }
+    }
+
+    /**
+     * Starts a thread that calls poll in a loop, subclasses can schedule the polling in other threads
+     */
+    protected synchronized void startPoller() {
+        poller = new Thread(this::pollLoop, "mq-poller-" + getProcess());
+        poller.setDaemon(true);
+        poller.start();
+    }
+
+    protected JMSContext getContext() {
+        return context;
+    }
+
+    protected JMSConsumer getConsumer() {
+        return consumer;
+    }
+
+    @Override
+    public void start() {
+        call();
+    }
+
+    @Override
+    public synchronized void pause() {
+        paused = true;
+        if (context != null) {
+            context.stop();
+        }
+    }
+
+    @Override
+    public synchronized void resume() {
+        paused = false;
+        if (context != null) {
+            context.start();
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        if (poller != null) {
+            poller.interrupt();
+            poller = null;
+        }
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    @Override
+    public void onException(JMSException exception) {
+        if (running) {
+            super.onException(exception);
+        }
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void pollLoop() {
+        while (running && !Thread.currentThread().isInterrupted()) {
+            try {
+                poll(context, consumer);
+            } catch (Exception e) { //NOSONAR
+                // the reconnection is handled by the exception listener, the loop waits for the new consumer
+                log.warn("Error receiving messages in {}", getProcess(), e);
+                waitBeforeRetry();
+            }
+        }
+    }
+
+    private void waitBeforeRetry() {
+        try {
+            Thread.sleep(ERROR_PAUSE);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
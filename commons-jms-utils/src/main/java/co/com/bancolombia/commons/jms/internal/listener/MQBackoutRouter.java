@@ -0,0 +1,57 @@
+package co.com.bancolombia.commons.jms.internal.listener;
+
+import co.com.bancolombia.commons.jms.api.MQQueueMessageSenderSync;
+import co.com.bancolombia.commons.jms.utils.MQMessageUtils;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+import javax.jms.JMSContext;
+import javax.jms.JMSException;
+import javax.jms.Message;
+
+/**
+ * Forwards the messages that exhausted their retries to a backout queue through a pooled sender, with the failure as
+ * properties, so poison messages leave the listened queue without being lost. When the forward fails the error is
+ * thrown, so the message is rolled back to the listened queue
+ */
+@Log4j2
+@RequiredArgsConstructor
+public class MQBackoutRouter {
+    public static final String SOURCE_QUEUE = "BackoutSourceQueue";
+    public static final String EXCEPTION = "BackoutException";
+    public static final String REASON = "BackoutReason";
+    public static final String DELIVERY_COUNT = "BackoutDeliveryCount";
+    public static final String TIMESTAMP = "BackoutTimestamp";
+    private static final String JMSX_DELIVERY_COUNT = "JMSXDeliveryCount";
+    private static final int MAX_REASON_LENGTH = 1024;
+    private final MQQueueMessageSenderSync sender;
+    private final String sourceQueue;
+    @Getter
+    private final String backoutQueue;
+
+    public void route(Message message, Throwable error) throws JMSException {
+        String id = sender.sendToQueue(backoutQueue, context -> withFailure(context, message, error));
+        log.warn("Message {} moved from {} to {} as {}", message.getJMSMessageID(), sourceQueue, backoutQueue, id);
+        log.warn("Cause", error);
+    }
+
+    private Message withFailure(JMSContext context, Message message, Throwable error) throws JMSException {
+        Message copy = MQMessageUtils.copyReceived(context, message);
+        if (copy == message) {
+            // stream messages are forwarded as received, the failure can not be added to their read only properties
+            return message;
+        }
+        copy.setStringProperty(SOURCE_QUEUE, sourceQueue);
+        copy.setStringProperty(EXCEPTION, error.getClass().getName());
+        copy.setStringProperty(REASON, reason(error));
+        copy.setIntProperty(DELIVERY_COUNT, message.getIntProperty(JMSX_DELIVERY_COUNT));
+        copy.setLongProperty(TIMESTAMP, System.currentTimeMillis());
+        return copy;
+    }
+
+    private static String reason(Throwable error) {
+        String reason = String.valueOf(error.getMessage());
+        return reason.length() > MAX_REASON_LENGTH ? reason.substring(0, MAX_REASON_LENGTH) : reason;
+    }
+}
@@ -0,0 +1,150 @@
+package co.com.bancolombia.commons.jms.internal.listener;
+
+import co.com.bancolombia.commons.jms.api.MQBatchMessageListener;
+import co.com.bancolombia.commons.jms.internal.chunking.MQChunkStore;
+import co.com.bancolombia.commons.jms.internal.compression.MQMessageCompressor;
+import lombok.Builder;
+import lombok.experimental.SuperBuilder;
+import lombok.extern.log4j.Log4j2;
+
+import javax.jms.JMSConsumer;
+import javax.jms.JMSContext;
+import javax.jms.JMSException;
+import javax.jms.JMSRuntimeException;
+import javax.jms.Message;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Receives up to batchSize messages or waits batchTimeout milliseconds since the first one in a transacted context,
+ * hands them to the listener and commits them together. When the listener fails the batch is rolled back, and once its
+ * first message was delivered more than maxRetries times its messages are moved to the backout queue, or discarded when
+ * there is no backout router. The chunks are buffered in the chunks store and their message is handed to the listener in
+ * the batch that receives the last of them.
+ */
+@Log4j2
+@SuperBuilder
+public class MQContextBatchListener extends AbstractJMSPollingListener<MQContextBatchListener> {
+    private static final String JMSX_DELIVERY_COUNT = "JMSXDeliveryCount";
+    private final MQBatchMessageListener listener;
+    @Builder.Default
+    private final int batchSize = 100;
+    @Builder.Default
+    private final long batchTimeout = 1000;
+    @Builder.Default
+    private final int maxRetries = -1;
+    @Builder.Default
+    private final MQChunkStore chunks = new MQChunkStore(100, 60000);
+    private final MQBackoutRouter backout;
+
+    @Override
+    protected int sessionMode() {
+        return JMSContext.SESSION_TRANSACTED;
+    }
+
+    @Override
+    protected MQContextBatchListener self() {
+        return this;
+    }
+
+    @Override
+    protected void poll(JMSContext context, JMSConsumer consumer) {
+        Message first = consumer.receive(POLL_TIMEOUT);
+        if (first == null) {
+            return;
+        }
+        List<Message> batch = new ArrayList<>(batchSize);
+        batch.add(first);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(batchTimeout);
+        while (batch.size() < batchSize) {
+            long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            Message next = remaining > 0 ? consumer.receive(remaining) : consumer.receiveNoWait();
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        process(context, batch);
+    }
+
+    private void process(JMSContext context, List<Message> batch) {
+        List<Message> messages = new ArrayList<>(batch.size());
+        try {
+            assemble(batch, messages);
+            if (!messages.isEmpty()) {
+                listener.onMessages(inflate(messages));
+            }
+            context.commit();
+            messages.forEach(chunks::delivered);
+        } catch (Exception error) {
+            if (shouldDiscard(batch.get(0))) {
+                discard(context, batch, messages, error);
+            } else {
+                log.warn("Batch of {} messages will be retried", batch.size(), error);
+                rollback(context, messages);
+            }
+        }
+    }
+
+    /**
+     * Commits a batch that exhausted its retries once its messages were moved to the backout queue, when one of them
+     * can not be moved the batch is rolled back and retried, so it is not lost
+     */
+    private void discard(JMSContext context, List<Message> batch, List<Message> messages, Exception error) {
+        if (backout == null) {
+            log.warn("Discarding batch of {} messages after {} retries", batch.size(), maxRetries, error);
+        } else {
+            try {
+                for (Message message : batch) {
+                    backout.route(message, error);
+                }
+            } catch (Exception e) { //NOSONAR
+                log.warn("Batch of {} messages could not be moved to {}, it will be retried", batch.size(),
+                        backout.getBackoutQueue(), e);
+                rollback(context, messages);
+                return;
+            }
+        }
+        context.commit();
+        messages.forEach(chunks::delivered);
+    }
+
+    private void rollback(JMSContext context, List<Message> messages) {
+        context.rollback();
+        messages.forEach(chunks::failed);
+    }
+
+    /**
+     * Adds to messages the received ones and the chunked ones completed by this batch
+     */
+    private void assemble(List<Message> batch, List<Message> messages) throws JMSException {
+        for (Message message : batch) {
+            Message complete = chunks.offer(message);
+            if (complete != null) {
+                messages.add(complete);
+            }
+        }
+    }
+
+    private boolean shouldDiscard(Message message) {
+        try {
+            return maxRetries != -1 && maxRetries < message.getIntProperty(JMSX_DELIVERY_COUNT);
+        } catch (JMSException e) {
+            throw new JMSRuntimeException(e.getMessage(), e.getErrorCode(), e);
+        }
+    }
+
+    private static List<Message> inflate(List<Message> batch) {
+        List<Message> messages = new ArrayList<>(batch.size());
+        try {
+            for (Message message : batch) {
+                messages.add(MQMessageCompressor.inflate(message));
+            }
+        } catch (JMSException e) {
+            throw new JMSRuntimeException(e.getMessage(), e.getErrorCode(), e);
+        }
+        return messages;
+    }
+}
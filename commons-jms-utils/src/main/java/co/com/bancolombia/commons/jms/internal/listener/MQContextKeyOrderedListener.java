@@ -0,0 +1,189 @@
+package co.com.bancolombia.commons.jms.internal.listener;
+
+import co.com.bancolombia.commons.jms.internal.chunking.MQChunkStore;
+import co.com.bancolombia.commons.jms.internal.compression.MQMessageCompressor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.experimental.SuperBuilder;
+import lombok.extern.log4j.Log4j2;
+
+import javax.jms.JMSConsumer;
+import javax.jms.JMSContext;
+import javax.jms.JMSException;
+import javax.jms.JMSRuntimeException;
+import javax.jms.Message;
+import javax.jms.MessageListener;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hands the messages of a single client acknowledge consumer to worker lanes chosen by hashing a key, so the messages
+ * of the same key are processed in order while different keys are processed in parallel. The key is read from the
+ * keyProperty, which can be JMSCorrelationID or any string property like JMSXGroupID, messages without key are
+ * distributed among lanes. Each lane is a bounded queue, the consumer blocks while the chosen lane is full. The session
+ * is acknowledged when every delivered message is completed, when some of them fails the pending messages are skipped
+ * and the session is recovered, so they are redelivered keeping their order. Chunks keep the key of their message, so
+ * they are reassembled in the chunks store by the lane of that key.
+ */
+@Log4j2
+@SuperBuilder
+public class MQContextKeyOrderedListener extends AbstractJMSPollingListener<MQContextKeyOrderedListener> {
+    public static final String CORRELATION_ID = "JMSCorrelationID";
+    public static final String GROUP_ID = "JMSXGroupID";
+    private final MessageListener listener;
+    @Builder.Default
+    private final int lanes = 1;
+    @Builder.Default
+    private final int laneCapacity = 256;
+    @Builder.Default
+    private final String keyProperty = GROUP_ID;
+    @Builder.Default
+    private final MQChunkStore chunks = new MQChunkStore(100, 60000);
+    private final MQOrderedAckTracker tracker = new MQOrderedAckTracker();
+    private Lane[] workers;
+    private Thread[] threads;
+
+    @Override
+    protected int sessionMode() {
+        return JMSContext.CLIENT_ACKNOWLEDGE;
+    }
+
+    @Override
+    protected MQContextKeyOrderedListener self() {
+        return this;
+    }
+
+    @Override
+    protected synchronized void onConnected(JMSContext context) {
+        tracker.reset();
+        if (workers == null) {
+            workers = new Lane[lanes];
+            threads = new Thread[lanes];
+            for (int i = 0; i < lanes; i++) {
+                workers[i] = new Lane(new ArrayBlockingQueue<>(laneCapacity));
+                threads[i] = new Thread(workers[i], "mq-lane-" + getProcess() + "-" + i);
+                threads[i].setDaemon(true);
+                threads[i].start();
+            }
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        super.stop();
+        if (threads != null) {
+            for (Thread thread : threads) {
+                thread.interrupt();
+            }
+        }
+    }
+
+    @Override
+    protected void poll(JMSContext context, JMSConsumer consumer) {
+        if (mustDrain() && !awaitCompleted()) {
+            return;
+        }
+        tracker.settle(context);
+        Message message = consumer.receive(POLL_TIMEOUT);
+        if (message == null) {
+            return;
+        }
+        long sequence = tracker.register(message);
+        BlockingQueue<Task> lane = workers[laneOf(message, sequence)].queue;
+        Task task = new Task(message, sequence);
+        try {
+            while (!lane.offer(task, POLL_TIMEOUT, TimeUnit.MILLISECONDS)) {
+                if (!isRunning()) {
+                    tracker.fail(sequence);
+                    return;
+                }
+                log.debug("Lane is full in {}, waiting", getProcess());
+            }
+        } catch (InterruptedException e) {
+            tracker.fail(sequence);
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean mustDrain() {
+        return tracker.hasFailures() || tracker.getUnsettled() >= (long) lanes * laneCapacity;
+    }
+
+    private boolean awaitCompleted() {
+        try {
+            return tracker.awaitCompleted(POLL_TIMEOUT);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    protected int laneOf(Message message, long sequence) {
+        String key = key(message);
+        if (key == null) {
+            return (int) (sequence % lanes);
+        }
+        return Math.floorMod(key.hashCode(), lanes);
+    }
+
+    private String key(Message message) {
+        try {
+            if (CORRELATION_ID.equals(keyProperty)) {
+                return message.getJMSCorrelationID();
+            }
+            return message.getStringProperty(keyProperty);
+        } catch (JMSException e) {
+            throw new JMSRuntimeException(e.getMessage(), e.getErrorCode(), e);
+        }
+    }
+
+    public MQOrderedAckTracker getTracker() {
+        return tracker;
+    }
+
+    @AllArgsConstructor
+    private static class Task {
+        private final Message message;
+        private final long sequence;
+    }
+
+    @AllArgsConstructor
+    private class Lane implements Runnable {
+        private final BlockingQueue<Task> queue;
+
+        @Override
+        public void run() {
+            try {
+                while (!Thread.currentThread().isInterrupted()) {
+                    process(queue.take());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void process(Task task) {
+            if (tracker.hasFailures()) {
+                // the session will be recovered, processing it now would break the order of its key
+                tracker.fail(task.sequence);
+                return;
+            }
+            Message complete = null;
+            try {
+                complete = chunks.offer(task.message);
+                if (complete != null) {
+                    listener.onMessage(MQMessageCompressor.inflate(complete));
+                    chunks.delivered(complete);
+                }
+                tracker.complete(task.sequence);
+            } catch (Exception e) {
+                log.warn("Message will be redelivered after recovering {}", getProcess(), e);
+                if (complete != null) {
+                    chunks.failed(complete);
+                }
+                tracker.fail(task.sequence);
+            }
+        }
+    }
+}
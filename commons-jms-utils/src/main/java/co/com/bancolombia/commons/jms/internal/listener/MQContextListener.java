@@ -12,17 +12,21 @@ import javax.jms.ConnectionFactory;
 import javax.jms.Destination;
 import javax.jms.JMSConsumer;
 import javax.jms.JMSContext;
+import javax.jms.JMSException;
 import javax.jms.MessageListener;
 import javax.jms.Queue;
 
 @Log4j2
 @SuperBuilder
-public class MQContextListener extends AbstractJMSReconnectable<MQContextListener> {
+public class MQContextListener extends AbstractJMSReconnectable<MQContextListener> implements MQListenerControl {
     private final ConnectionFactory connectionFactory;
     private final MessageListener listener;
     private final MQListenerConfig config;
     private final MQQueuesContainer container;
     private final MQBrokerUtils utils;
+    private JMSContext context;
+    private volatile boolean stopped;
+    private volatile boolean paused;
 
     @Override
     protected String name() {
@@ -33,16 +37,56 @@ public class MQContextListener extends AbstractJMSReconnectable<MQContextListene
     }
 
     @Override
-    protected MQContextListener connect() {
+    protected synchronized MQContextListener connect() {
         log.info("Starting listener {}", getProcess());
-        JMSContext context = connectionFactory.createContext();
+        context = connectionFactory.createContext();
         Destination destination = MQQueueUtils.setupFixedQueue(context, config);
         JMSConsumer consumer = context.createConsumer(destination);//NOSONAR
         container.registerQueue(config.getQueue(), (Queue) destination);
         utils.setQueueManager(context, (Queue) destination);
         consumer.setMessageListener(listener);
         context.setExceptionListener(this);
+        if (paused) {
+            context.stop();
+        }
         log.info("Listener {} started successfully", getProcess());
         return this;
     }
+
+    @Override
+    public void onException(JMSException exception) {
+        if (!stopped) {
+            super.onException(exception);
+        }
+    }
+
+    @Override
+    public void start() {
+        call();
+    }
+
+    @Override
+    public synchronized void pause() {
+        paused = true;
+        if (context != null) {
+            context.stop();
+        }
+    }
+
+    @Override
+    public synchronized void resume() {
+        paused = false;
+        if (context != null) {
+            context.start();
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        stopped = true;
+        if (context != null) {
+            log.info("Stopping listener {}", getProcess());
+            context.close();
+        }
+    }
 }
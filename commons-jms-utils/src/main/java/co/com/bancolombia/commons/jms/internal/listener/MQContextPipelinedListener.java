@@ -0,0 +1,122 @@
+package co.com.bancolombia.commons.jms.internal.listener;
+
+import co.com.bancolombia.commons.jms.api.MQAsyncMessageListener;
+import co.com.bancolombia.commons.jms.internal.chunking.MQChunkStore;
+import co.com.bancolombia.commons.jms.internal.compression.MQMessageCompressor;
+import lombok.Builder;
+import lombok.extern.log4j.Log4j2;
+import lombok.experimental.SuperBuilder;
+
+import javax.jms.JMSConsumer;
+import javax.jms.JMSContext;
+import javax.jms.Message;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps up to maxInFlight messages of a client acknowledge context in process at the same time. The session is
+ * acknowledged each time all the delivered messages are completed, and recovered when some of them failed so they are
+ * redelivered, this means that the messages completed in the same window are processed again. When the unsettled
+ * messages reach the ack window the consumer stops receiving until the in-flight ones complete. Chunked messages
+ * are reassembled in the chunks store before they are dispatched.
+ */
+@Log4j2
+@SuperBuilder
+public class MQContextPipelinedListener extends AbstractJMSPollingListener<MQContextPipelinedListener> {
+    private static final int ACK_WINDOW_FACTOR = 4;
+    private final MQAsyncMessageListener listener;
+    @Builder.Default
+    private final int maxInFlight = 1;
+    @Builder.Default
+    private final MQChunkStore chunks = new MQChunkStore(100, 60000);
+    private final MQOrderedAckTracker tracker = new MQOrderedAckTracker();
+    private Semaphore permits;
+
+    @Override
+    protected int sessionMode() {
+        return JMSContext.CLIENT_ACKNOWLEDGE;
+    }
+
+    @Override
+    protected MQContextPipelinedListener self() {
+        return this;
+    }
+
+    @Override
+    protected synchronized void onConnected(JMSContext context) {
+        tracker.reset();
+        if (permits == null) {
+            permits = new Semaphore(maxInFlight);
+        }
+    }
+
+    @Override
+    protected void poll(JMSContext context, JMSConsumer consumer) {
+        if (mustDrain() && !awaitCompleted()) {
+            return;
+        }
+        tracker.settle(context);
+        if (!acquire()) {
+            return;
+        }
+        Message message = consumer.receive(POLL_TIMEOUT);
+        if (message == null) {
+            permits.release();
+            return;
+        }
+        dispatch(message, tracker.register(message));
+    }
+
+    private boolean mustDrain() {
+        return tracker.hasFailures() || tracker.getUnsettled() >= (long) maxInFlight * ACK_WINDOW_FACTOR;
+    }
+
+    private void dispatch(Message message, long sequence) {
+        Message complete = null;
+        try {
+            complete = chunks.offer(message);
+            if (complete == null) {
+                // the chunk was buffered, its group is delivered with the last one
+                tracker.complete(sequence);
+                permits.release();
+                return;
+            }
+            Message assembled = complete;
+            listener.onMessageAsync(MQMessageCompressor.inflate(assembled))
+                    .doOnSuccess(ignored -> chunks.delivered(assembled))
+                    .doOnError(error -> chunks.failed(assembled))
+                    .doFinally(signal -> permits.release())
+                    .subscribe(ignored -> {
+                    }, error -> tracker.fail(sequence), () -> tracker.complete(sequence));
+        } catch (Exception e) { //NOSONAR
+            log.warn("Error dispatching message in {}", getProcess(), e);
+            if (complete != null) {
+                chunks.failed(complete);
+            }
+            tracker.fail(sequence);
+            permits.release();
+        }
+    }
+
+    private boolean acquire() {
+        try {
+            return permits.tryAcquire(POLL_TIMEOUT, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private boolean awaitCompleted() {
+        try {
+            return tracker.awaitCompleted(POLL_TIMEOUT);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public MQOrderedAckTracker getTracker() {
+        return tracker;
+    }
+}
@@ -0,0 +1,104 @@
+package co.com.bancolombia.commons.jms.internal.listener;
+
+import lombok.Builder;
+import lombok.experimental.SuperBuilder;
+import lombok.extern.log4j.Log4j2;
+
+import javax.jms.JMSConsumer;
+import javax.jms.JMSContext;
+import javax.jms.Message;
+import javax.jms.MessageListener;
+
+/**
+ * Receives the messages of a client acknowledge context in library owned threads instead of the provider dispatcher
+ * ones. Each message is acknowledged after the listener returns and the session is recovered when it throws. After a
+ * message is received the available ones are drained with receiveNoWait up to burstSize. With a MQPollingEngine the
+ * drain steps are scheduled in its shared threads, waiting between minBackoff and maxBackoff milliseconds, doubling the
+ * wait while the queue is idle. Without it the listener uses its own thread blocked in receive.
+ */
+@Log4j2
+@SuperBuilder
+public class MQContextPollingListener extends AbstractJMSPollingListener<MQContextPollingListener> {
+    private final MessageListener listener;
+    private final MQPollingEngine engine;
+    @Builder.Default
+    private final int burstSize = 100;
+    @Builder.Default
+    private final long minBackoff = 1;
+    @Builder.Default
+    private final long maxBackoff = 1000;
+    private volatile long backoff;
+
+    @Override
+    protected int sessionMode() {
+        return JMSContext.CLIENT_ACKNOWLEDGE;
+    }
+
+    @Override
+    protected MQContextPollingListener self() {
+        return this;
+    }
+
+    @Override
+    protected synchronized void startPoller() {
+        if (engine == null) {
+            super.startPoller();
+        } else {
+            engine.schedule(this::step, 0);
+        }
+    }
+
+    @Override
+    protected void poll(JMSContext context, JMSConsumer consumer) {
+        Message message = consumer.receive(POLL_TIMEOUT);
+        if (message != null) {
+            process(context, message);
+            drain(context, consumer, burstSize - 1);
+        }
+    }
+
+    private void step() {
+        if (!isRunning()) {
+            return;
+        }
+        try {
+            int received = drain(getContext(), getConsumer(), burstSize);
+            backoff = received > 0 ? 0 : nextBackoff();
+        } catch (Exception e) { //NOSONAR
+            // the reconnection is handled by the exception listener
+            log.warn("Error receiving messages in {}", getProcess(), e);
+            backoff = maxBackoff;
+        } finally {
+            engine.schedule(this::step, backoff);
+        }
+    }
+
+    private long nextBackoff() {
+        return backoff == 0 ? minBackoff : Math.min(backoff * 2, maxBackoff);
+    }
+
+    protected int drain(JMSContext context, JMSConsumer consumer, int max) {
+        int received = 0;
+        Message message;
+        while (received < max && isRunning() && (message = consumer.receiveNoWait()) != null) {
+            received++;
+            process(context, message);
+        }
+        return received;
+    }
+
+    private void process(JMSContext context, Message message) {
+        try {
+            listener.onMessage(message);
+            context.acknowledge();
+        } catch (Exception e) { //NOSONAR
+            // checked exceptions can be thrown sneaky by the listener methods
+            log.warn("Message will be redelivered after recovering {}", getProcess(), e);
+            context.recover();
+        }
+    }
+
+    long getBackoff() {
+        return backoff;
+    }
+}
@@ -0,0 +1,55 @@
+package co.com.bancolombia.commons.jms.internal.listener;
+
+import co.com.bancolombia.commons.jms.api.MQDelayedMessageSenderSync;
+import co.com.bancolombia.commons.jms.internal.models.MQDelayedRetryConfig;
+import co.com.bancolombia.commons.jms.utils.MQMessageUtils;
+import lombok.extern.log4j.Log4j2;
+
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.StreamMessage;
+
+/**
+ * Publishes a copy of a failed message with a JMS 2.0 delivery delay and the attempt in a property, so the listener
+ * can return and the failed message is acknowledged. While the copy waits in the queue manager it does not occupy any
+ * consumer. When the attempts are exhausted the failure goes on as usual
+ */
+@Log4j2
+public class MQDelayedRetry {
+    public static final String ATTEMPT = "DelayedRetryAttempt";
+    private final MQDelayedMessageSenderSync sender;
+    private final MQDelayedRetryConfig config;
+    private final String queue;
+
+    public MQDelayedRetry(MQDelayedMessageSenderSync sender, MQDelayedRetryConfig config, String sourceQueue) {
+        this.sender = sender;
+        this.config = config;
+        this.queue = config.getQueue().isEmpty() ? sourceQueue : config.getQueue();
+    }
+
+    /**
+     * @return true when the message was published again and the failure should not be propagated
+     */
+    public boolean retry(Message message, Throwable error) throws JMSException {
+        int attempt = message.propertyExists(ATTEMPT) ? message.getIntProperty(ATTEMPT) : 0;
+        if (attempt >= config.getRetries() || message instanceof StreamMessage) {
+            // stream messages are not copied, so the attempt can not be added to their read only properties
+            return false;
+        }
+        long delay = delay(attempt);
+        String id = sender.sendToQueue(queue, context -> {
+            Message copy = MQMessageUtils.copyReceived(context, message);
+            copy.setIntProperty(ATTEMPT, attempt + 1);
+            return copy;
+        }, delay);
+        log.warn("Message {} published again to {} as {} with a delay of {}ms, attempt {}", message.getJMSMessageID(),
+                queue, id, delay, attempt + 1);
+        log.warn("Cause", error);
+        return true;
+    }
+
+    long delay(int attempt) {
+        double delay = config.getDelay() * Math.pow(config.getMultiplier(), attempt);
+        return (long) Math.min(delay, config.getMaxDelay());
+    }
+}
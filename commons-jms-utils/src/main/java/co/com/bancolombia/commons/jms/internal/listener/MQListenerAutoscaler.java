@@ -0,0 +1,86 @@
+package co.com.bancolombia.commons.jms.internal.listener;
+
+import co.com.bancolombia.commons.jms.api.MQQueueDepthProbe;
+import co.com.bancolombia.commons.jms.internal.models.MQAutoscaleConfig;
+import lombok.Builder;
+import lombok.extern.log4j.Log4j2;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Changes the concurrency of a MQListenerContainer between min and max. Listeners are added when the average age of
+ * the received messages exceeds the target, or when the queue depth times the handler latency needs more listeners to
+ * be drained within the target age. They are removed one by one when the age is below half of the target and the depth
+ * does not need them. Each direction waits its own cooldown since the last change.
+ */
+@Log4j2
+@Builder
+public class MQListenerAutoscaler {
+    private final MQListenerContainer container;
+    private final MQObservedMessageListener observed;
+    private final MQQueueDepthProbe probe;
+    private final int minConcurrency;
+    private final int maxConcurrency;
+    private final MQAutoscaleConfig config;
+    private long lastScale;
+    private ScheduledExecutorService scheduler;
+
+    public synchronized void start() {
+        if (scheduler == null) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "mq-autoscaler-" + container.getConfig().getQueue());
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.scheduleWithFixedDelay(this::evaluate, config.getInterval(), config.getInterval(),
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    public void evaluate() {
+        try {
+            evaluate(System.currentTimeMillis());
+        } catch (RuntimeException e) {
+            log.warn("Error evaluating concurrency of {}", container.getConfig().getQueue(), e);
+        }
+    }
+
+    synchronized int evaluate(long now) {
+        int current = container.getConcurrency();
+        int desired = desired(current, observed.snapshot(), depth());
+        long cooldown = desired > current ? config.getScaleUpCooldown() : config.getScaleDownCooldown();
+        if (desired != current && now - lastScale >= cooldown) {
+            lastScale = now;
+            container.scale(desired);
+            return desired;
+        }
+        return current;
+    }
+
+    int desired(int current, MQObservedMessageListener.Snapshot snapshot, int depth) {
+        long targetAge = config.getTargetMessageAge();
+        int needed = depth >= 0 && snapshot.getMessages() > 0
+                ? (int) Math.min(Integer.MAX_VALUE, (depth * snapshot.getAverageLatency() + targetAge - 1) / targetAge)
+                : -1;
+        int desired = current;
+        if (snapshot.getAverageAge() > targetAge || needed > current) {
+            desired = Math.max(current + 1, needed);
+        } else if (snapshot.getAverageAge() < targetAge / 2 && needed < current) {
+            desired = current - 1;
+        }
+        return Math.max(minConcurrency, Math.min(maxConcurrency, desired));
+    }
+
+    private int depth() {
+        return probe != null ? probe.getDepth(container.getConfig().getQueue()) : -1;
+    }
+}
@@ -0,0 +1,136 @@
+package co.com.bancolombia.commons.jms.internal.listener;
+
+import co.com.bancolombia.commons.jms.internal.models.MQListenerConfig;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * Group of listeners of a queue created with the factory, each one owns its JMS connection or context. Its size can
+ * change at runtime when it is scalable, by hand or by its autoscaler, and all of them can be paused and resumed.
+ */
+@Log4j2
+@Builder
+public class MQListenerContainer {
+    @Getter
+    private final MQListenerConfig config;
+    private final Supplier<MQListenerControl> factory;
+    /**
+     * Starts the listeners in background threads, otherwise start errors are thrown to the caller
+     */
+    @Builder.Default
+    private final boolean async = true;
+    @Getter
+    @Builder.Default
+    private final boolean scalable = true;
+    private final Deque<MQListenerControl> listeners = new ArrayDeque<>();
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    @Getter
+    private boolean paused;
+    private MQListenerAutoscaler autoscaler;
+
+    /**
+     * Changes the concurrency, when the container is autoscaled the autoscaler is stopped so the value is kept
+     */
+    public void setConcurrency(int concurrency) {
+        MQListenerAutoscaler stopped = detachAutoscaler();
+        if (stopped != null) {
+            log.info("Autoscaling of {} stopped by a manual concurrency change", name());
+            stopped.stop();
+        }
+        changeConcurrency(concurrency);
+    }
+
+    private synchronized void changeConcurrency(int concurrency) {
+        if (!scalable && !listeners.isEmpty() && concurrency != listeners.size()) {
+            throw new IllegalStateException("The concurrency of the listener for " + name() + " can not be changed");
+        }
+        resize(concurrency);
+    }
+
+    /**
+     * Starts the autoscaler, which is stopped with the container or when the concurrency is changed manually
+     */
+    public synchronized void autoscale(MQListenerAutoscaler autoscaler) {
+        this.autoscaler = autoscaler;
+        autoscaler.start();
+    }
+
+    /**
+     * Concurrency changes of the autoscaler, ignored once it was detached
+     */
+    synchronized void scale(int concurrency) {
+        if (autoscaler != null) {
+            resize(concurrency);
+        }
+    }
+
+    public synchronized boolean isAutoscaled() {
+        return autoscaler != null;
+    }
+
+    // the autoscaler is stopped outside the container lock, it holds its own lock while it calls scale
+    private synchronized MQListenerAutoscaler detachAutoscaler() {
+        MQListenerAutoscaler detached = autoscaler;
+        autoscaler = null;
+        return detached;
+    }
+
+    private void resize(int concurrency) {
+        if (concurrency != listeners.size()) {
+            log.info("Changing concurrency of {} from {} to {}", name(), listeners.size(), concurrency);
+        }
+        while (listeners.size() < concurrency) {
+            MQListenerControl listener = factory.get();
+            listeners.addLast(listener);
+            if (paused) {
+                listener.pause();
+            }
+            if (async) {
+                executor.submit(listener::start);
+            } else {
+                listener.start();
+            }
+        }
+        while (listeners.size() > Math.max(concurrency, 0)) {
+            listeners.removeLast().stop();
+        }
+    }
+
+    public synchronized int getConcurrency() {
+        return listeners.size();
+    }
+
+    public synchronized void pause() {
+        paused = true;
+        listeners.forEach(MQListenerControl::pause);
+    }
+
+    public synchronized void resume() {
+        paused = false;
+        listeners.forEach(MQListenerControl::resume);
+    }
+
+    public void stop() {
+        MQListenerAutoscaler stopped = detachAutoscaler();
+        if (stopped != null) {
+            stopped.stop();
+        }
+        stopListeners();
+    }
+
+    private synchronized void stopListeners() {
+        resize(0);
+        executor.shutdown();
+    }
+
+    public String name() {
+        return config.getQueue() != null && !config.getQueue().isEmpty() ? config.getQueue() : config.getTempQueueAlias();
+    }
+}
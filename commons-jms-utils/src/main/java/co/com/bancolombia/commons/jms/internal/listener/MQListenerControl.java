@@ -0,0 +1,23 @@
+package co.com.bancolombia.commons.jms.internal.listener;
+
+/**
+ * Listener owning its JMS connection or context, managed by a MQListenerContainer
+ */
+public interface MQListenerControl {
+    /**
+     * Connects and starts receiving messages
+     */
+    void start();
+
+    /**
+     * Stops the delivery of messages keeping the connection open
+     */
+    void pause();
+
+    void resume();
+
+    /**
+     * Closes the connection, the listener is not reconnected after it
+     */
+    void stop();
+}
@@ -0,0 +1,69 @@
+package co.com.bancolombia.commons.jms.internal.listener;
+
+import co.com.bancolombia.commons.jms.api.MQAsyncMessageListener;
+import co.com.bancolombia.commons.jms.internal.models.MQRetryConfig;
+import io.github.resilience4j.core.IntervalFunction;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import lombok.SneakyThrows;
+import lombok.extern.log4j.Log4j2;
+import reactor.core.publisher.Mono;
+
+import javax.jms.Message;
+import javax.jms.MessageListener;
+import java.time.Duration;
+
+/**
+ * Retries a failed message in process before the failure reaches the session and the message is rolled back to the
+ * queue manager, waiting an exponential backoff with jitter between the attempts. Blocking listeners wait in the
+ * consumer thread, asynchronous listeners are resubscribed after a non-blocking delay
+ */
+@Log4j2
+public class MQLocalRetry {
+    private final String name;
+    private final int maxAttempts;
+    private final IntervalFunction interval;
+    private final RetryConfig retryConfig;
+
+    public MQLocalRetry(String name, MQRetryConfig config) {
+        this.name = name;
+        this.maxAttempts = config.getRetries() + 1;
+        this.interval = IntervalFunction.ofExponentialRandomBackoff(config.getBackoff(), config.getMultiplier(),
+                config.getJitter(), config.getMaxBackoff());
+        this.retryConfig = RetryConfig.custom()
+                .maxAttempts(maxAttempts)
+                .intervalFunction(interval)
+                .build();
+    }
+
+    public MessageListener wrap(MessageListener listener) {
+        if (maxAttempts <= 1) {
+            return listener;
+        }
+        Retry retry = Retry.of(name, retryConfig);
+        retry.getEventPublisher().onRetry(event -> log.warn("Retrying message in {} after {}ms, attempt {}", name,
+                event.getWaitInterval().toMillis(), event.getNumberOfRetryAttempts()));
+        return message -> onMessage(retry, listener, message);
+    }
+
+    public MQAsyncMessageListener wrapAsync(MQAsyncMessageListener listener) {
+        if (maxAttempts <= 1) {
+            return listener;
+        }
+        reactor.util.retry.Retry retry = reactor.util.retry.Retry.from(signals -> signals.concatMap(signal -> {
+            int attempt = (int) signal.totalRetries() + 1;
+            if (attempt >= maxAttempts) {
+                return Mono.error(signal.failure());
+            }
+            long wait = interval.apply(attempt);
+            log.warn("Retrying message in {} after {}ms, attempt {}", name, wait, attempt);
+            return Mono.delay(Duration.ofMillis(wait));
+        }));
+        return message -> Mono.defer(() -> listener.onMessageAsync(message)).retryWhen(retry);
+    }
+
+    @SneakyThrows
+    private static void onMessage(Retry retry, MessageListener listener, Message message) {
+        Retry.decorateCheckedRunnable(retry, () -> listener.onMessage(message)).run();
+    }
+}
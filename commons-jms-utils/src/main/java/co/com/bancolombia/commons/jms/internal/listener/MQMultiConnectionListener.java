@@ -18,12 +18,15 @@ import java.util.concurrent.Executors;
 
 @Log4j2
 @SuperBuilder
-public class MQMultiConnectionListener extends AbstractJMSReconnectable<MQMultiConnectionListener> {
+public class MQMultiConnectionListener extends AbstractJMSReconnectable<MQMultiConnectionListener> implements MQListenerControl {
     private final ConnectionFactory connectionFactory;
     private final MessageListener listener;
     private final MQQueuesContainer container;
     private final MQListenerConfig config;
     private ExecutorService service;
+    private Connection connection;
+    private volatile boolean stopped;
+    private volatile boolean paused;
 
     @Override
     protected String name() {
@@ -32,13 +35,13 @@ public class MQMultiConnectionListener extends AbstractJMSReconnectable<MQMultiC
 
     @Override
     @SuppressWarnings("resource")
-    protected MQMultiConnectionListener connect() {
+    protected synchronized MQMultiConnectionListener connect() {
         log.info("Starting listener {}", getProcess());
         if (service != null && !service.isTerminated() && !service.isShutdown()) {
             service.shutdown();
         }
         try {
-            Connection connection = connectionFactory.createConnection();//NOSONAR
+            connection = connectionFactory.createConnection();//NOSONAR
             connection.setExceptionListener(this);
             TemporaryQueue destination = MQQueueUtils.setupTemporaryQueue(connection.createSession(), config);
             container.registerQueue(config.getTempQueueAlias(), destination);
@@ -52,7 +55,9 @@ public class MQMultiConnectionListener extends AbstractJMSReconnectable<MQMultiC
                         .sequence(i)
                         .build());
             }
-            connection.start();
+            if (!paused) {
+                connection.start();
+            }
             if (log.isInfoEnabled()) {
                 log.info("{} listeners created for {} with queue {}", config.getConcurrency(), getProcess(), destination.getQueueName());
             }
@@ -61,4 +66,51 @@ public class MQMultiConnectionListener extends AbstractJMSReconnectable<MQMultiC
         }
         return this;
     }
+
+    @Override
+    public void start() {
+        call();
+    }
+
+    @Override
+    public synchronized void pause() {
+        paused = true;
+        runOnConnection(Connection::stop);
+    }
+
+    @Override
+    public synchronized void resume() {
+        paused = false;
+        runOnConnection(Connection::start);
+    }
+
+    @Override
+    public synchronized void stop() {
+        stopped = true;
+        runOnConnection(Connection::close);
+        if (service != null) {
+            service.shutdown();
+        }
+    }
+
+    @Override
+    public void onException(JMSException exception) {
+        if (!stopped) {
+            super.onException(exception);
+        }
+    }
+
+    private void runOnConnection(ConnectionAction action) {
+        if (connection != null) {
+            try {
+                action.run(connection);
+            } catch (JMSException e) {
+                throw new JMSRuntimeException(e.getMessage(), e.getErrorCode(), e);
+            }
+        }
+    }
+
+    private interface ConnectionAction {
+        void run(Connection connection) throws JMSException;
+    }
 }
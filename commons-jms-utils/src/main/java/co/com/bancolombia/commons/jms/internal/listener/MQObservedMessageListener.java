@@ -0,0 +1,61 @@
+package co.com.bancolombia.commons.jms.internal.listener;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.MessageListener;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records the age of the received messages, taken from its JMSTimestamp, and the latency of the listener in windows
+ * that are reset each time a snapshot is taken
+ */
+@RequiredArgsConstructor
+public class MQObservedMessageListener implements MessageListener {
+    private final MessageListener listener;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder ageSum = new LongAdder();
+    private final LongAdder latencySum = new LongAdder();
+
+    @Override
+    public void onMessage(Message message) {
+        long start = System.currentTimeMillis();
+        count.increment();
+        ageSum.add(age(message, start));
+        try {
+            listener.onMessage(message);
+        } finally {
+            latencySum.add(System.currentTimeMillis() - start);
+        }
+    }
+
+    public synchronized Snapshot snapshot() {
+        long messages = count.sumThenReset();
+        long ages = ageSum.sumThenReset();
+        long latencies = latencySum.sumThenReset();
+        if (messages == 0) {
+            return new Snapshot(0, 0, 0);
+        }
+        return new Snapshot(messages, ages / messages, latencies / messages);
+    }
+
+    private static long age(Message message, long now) {
+        try {
+            long timestamp = message.getJMSTimestamp();
+            return timestamp > 0 ? Math.max(0, now - timestamp) : 0;
+        } catch (JMSException e) {
+            return 0;
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Snapshot {
+        private final long messages;
+        private final long averageAge;
+        private final long averageLatency;
+    }
+}
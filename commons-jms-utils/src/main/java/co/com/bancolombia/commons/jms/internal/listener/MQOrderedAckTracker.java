@@ -0,0 +1,125 @@
+package co.com.bancolombia.commons.jms.internal.listener;
+
+import lombok.extern.log4j.Log4j2;
+
+import javax.jms.JMSContext;
+import javax.jms.Message;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Tracks the messages delivered to a client acknowledge session and the contiguous prefix of them already completed.
+ * Since a JMS acknowledge covers every message consumed by the session, the tracker only allows settling the session
+ * once the completed prefix reaches the last delivered message: it is acknowledged when every message succeeded and
+ * recovered when some of them failed.
+ */
+@Log4j2
+public class MQOrderedAckTracker {
+    public enum Settlement {
+        NONE, ACKNOWLEDGE, RECOVER
+    }
+
+    private final Set<Long> completedAhead = new HashSet<>();
+    private long delivered;
+    private long completedPrefix;
+    private long settled;
+    private boolean failed;
+    private Message last;
+
+    public synchronized long register(Message message) {
+        last = message;
+        return ++delivered;
+    }
+
+    public synchronized void complete(long sequence) {
+        markDone(sequence);
+    }
+
+    public synchronized void fail(long sequence) {
+        if (sequence > settled) {
+            failed = true;
+        }
+        markDone(sequence);
+    }
+
+    private void markDone(long sequence) {
+        if (sequence <= completedPrefix) {
+            return;
+        }
+        completedAhead.add(sequence);
+        while (completedAhead.remove(completedPrefix + 1)) {
+            completedPrefix++;
+        }
+        if (completedPrefix == delivered) {
+            notifyAll();
+        }
+    }
+
+    /**
+     * Decides what to do with the session, it should be called from the thread that owns it
+     */
+    public synchronized Settlement settle() {
+        if (settled == delivered || completedPrefix < delivered) {
+            return Settlement.NONE;
+        }
+        settled = delivered;
+        Settlement settlement = failed ? Settlement.RECOVER : Settlement.ACKNOWLEDGE;
+        failed = false;
+        return settlement;
+    }
+
+    /**
+     * Acknowledges or recovers the session when the delivered messages are completed
+     */
+    public void settle(JMSContext context) {
+        Settlement settlement = settle();
+        if (settlement == Settlement.ACKNOWLEDGE) {
+            context.acknowledge();
+        } else if (settlement == Settlement.RECOVER) {
+            log.warn("Recovering session to redeliver failed messages");
+            context.recover();
+        }
+    }
+
+    /**
+     * Waits until every delivered message is completed
+     *
+     * @return true when the messages are completed before the timeout
+     */
+    public synchronized boolean awaitCompleted(long timeout) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeout;
+        long remaining = timeout;
+        while (completedPrefix < delivered && remaining > 0) {
+            wait(remaining);
+            remaining = deadline - System.currentTimeMillis();
+        }
+        return completedPrefix == delivered;
+    }
+
+    /**
+     * Forgets the messages of a previous session, their late completions are ignored
+     */
+    public synchronized void reset() {
+        completedAhead.clear();
+        completedPrefix = delivered;
+        settled = delivered;
+        failed = false;
+        last = null;
+    }
+
+    public synchronized Message getLast() {
+        return last;
+    }
+
+    public synchronized long getUnsettled() {
+        return delivered - settled;
+    }
+
+    public synchronized long getInFlight() {
+        return delivered - completedPrefix;
+    }
+
+    public synchronized boolean hasFailures() {
+        return failed;
+    }
+}
@@ -0,0 +1,31 @@
+package co.com.bancolombia.commons.jms.internal.listener;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pool of threads shared by polling listeners, each listener schedules short non-blocking drain steps so the same
+ * threads serve many consumers
+ */
+public class MQPollingEngine {
+    private final ScheduledExecutorService scheduler;
+
+    public MQPollingEngine(int threads) {
+        AtomicInteger sequence = new AtomicInteger();
+        this.scheduler = Executors.newScheduledThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "mq-polling-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void schedule(Runnable step, long delay) {
+        scheduler.schedule(step, delay, TimeUnit.MILLISECONDS);
+    }
+
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+}
@@ -2,8 +2,10 @@ package co.com.bancolombia.commons.jms.internal.listener.selector;
 
 import co.com.bancolombia.commons.jms.api.MQMessageSelectorListenerSync;
 import co.com.bancolombia.commons.jms.api.exceptions.ReceiveTimeoutException;
+import co.com.bancolombia.commons.jms.internal.compression.MQMessageCompressor;
 import co.com.bancolombia.commons.jms.internal.models.MQListenerConfig;
 import co.com.bancolombia.commons.jms.internal.reconnect.AbstractJMSReconnectable;
+import co.com.bancolombia.commons.jms.utils.MQCorrelationIds;
 import co.com.bancolombia.commons.jms.utils.MQQueueUtils;
 import lombok.experimental.SuperBuilder;
 
@@ -11,11 +13,23 @@ import javax.jms.ConnectionFactory;
 import javax.jms.Destination;
 import javax.jms.JMSConsumer;
 import javax.jms.JMSContext;
+import javax.jms.JMSException;
+import javax.jms.JMSRuntimeException;
 import javax.jms.Message;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @SuperBuilder
 public class MQContextMessageSelectorListenerSync extends AbstractJMSReconnectable<MQContextMessageSelectorListenerSync> implements MQMessageSelectorListenerSync {
     public static final long DEFAULT_TIMEOUT = 5000L;
+    /**
+     * Max correlation ids by selector, keeping it far from the max selector length
+     */
+    public static final int MAX_SELECTOR_IDS = 50;
     private final ConnectionFactory connectionFactory;
     private final MQListenerConfig config;
     private Destination destination;
@@ -45,12 +59,65 @@ public class MQContextMessageSelectorListenerSync extends AbstractJMSReconnectab
             if (message == null) {
                 throw new ReceiveTimeoutException("Message not received in " + timeout);
             }
-            return message;
+            return MQMessageCompressor.inflate(message);
+        } catch (JMSException e) {
+            throw new JMSRuntimeException(e.getMessage(), e.getErrorCode(), e);
+        }
+    }
+
+    /**
+     * Receives by each 50 ids with a JMSCorrelationID IN selector. IBM MQ only resolves with its correlation id index
+     * the selectors of one ID: correlation id, so with binary correlation ids each id is received with its own consumer
+     * sharing the deadline, waiting for one id does not delay the others because they are kept in the queue
+     */
+    @Override
+    public List<Message> getMessages(Collection<String> correlationIds, long timeout, Destination destination) {
+        if (config.isBinaryCorrelationId()) {
+            return MQMessageSelectorListenerSync.super.getMessages(correlationIds, timeout, destination);
+        }
+        long deadline = System.currentTimeMillis() + timeout;
+        List<String> ids = correlationIds.stream()
+                .map(this::correlationId)
+                .distinct()
+                .collect(Collectors.toList());
+        List<Message> messages = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += MAX_SELECTOR_IDS) {
+            Set<String> pending = new LinkedHashSet<>(ids.subList(from, Math.min(from + MAX_SELECTOR_IDS, ids.size())));
+            receiveAll(pending, deadline, destination, messages);
+        }
+        return messages;
+    }
+
+    /**
+     * Receives the pending ids with one consumer, after the deadline only the messages already available are received
+     */
+    private void receiveAll(Set<String> pending, long deadline, Destination destination, List<Message> messages) {
+        try (JMSConsumer consumer = context.createConsumer(destination, buildSelector(pending))) {
+            while (!pending.isEmpty()) {
+                long remaining = deadline - System.currentTimeMillis();
+                Message message = remaining > 0 ? consumer.receive(remaining) : consumer.receiveNoWait();
+                if (message == null) {
+                    return;
+                }
+                pending.remove(message.getJMSCorrelationID());
+                messages.add(MQMessageCompressor.inflate(message));
+            }
+        } catch (JMSException e) {
+            throw new JMSRuntimeException(e.getMessage(), e.getErrorCode(), e);
         }
     }
 
     private String buildSelector(String correlationId) {
-        return "JMSCorrelationID='" + correlationId + "'";
+        return "JMSCorrelationID='" + correlationId(correlationId) + "'";
+    }
+
+    private String correlationId(String correlationId) {
+        return config.isBinaryCorrelationId() ? MQCorrelationIds.toMQId(correlationId) : correlationId;
+    }
+
+    private String buildSelector(Collection<String> correlationIds) {
+        return correlationIds.stream()
+                .collect(Collectors.joining("','", "JMSCorrelationID IN ('", "')"));
     }
 
 }
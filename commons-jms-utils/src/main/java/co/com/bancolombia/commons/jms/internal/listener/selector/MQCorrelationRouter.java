@@ -0,0 +1,167 @@
+package co.com.bancolombia.commons.jms.internal.listener.selector;
+
+import co.com.bancolombia.commons.jms.api.exceptions.ReceiveTimeoutException;
+import co.com.bancolombia.commons.jms.utils.MQCorrelationIds;
+import lombok.AllArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.MessageListener;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Dispatches the messages received by long-lived consumers to the callers waiting for their JMSCorrelationID. A
+ * message that arrives before its caller is parked in a mailbox bounded by mailboxSize, where it waits up to
+ * mailboxTtl milliseconds, when the mailbox is full the oldest message is dropped
+ */
+@Log4j2
+public class MQCorrelationRouter implements MessageListener {
+    private final Map<String, Sinks.One<Message>> waiters = new HashMap<>();
+    private final LinkedHashMap<String, Parked> mailbox = new LinkedHashMap<>();
+    private final int mailboxSize;
+    private final long mailboxTtl;
+    private final boolean binaryCorrelationId;
+    private final LongSupplier clock;
+
+    public MQCorrelationRouter(int mailboxSize, long mailboxTtl) {
+        this(mailboxSize, mailboxTtl, false);
+    }
+
+    /**
+     * @param binaryCorrelationId the replies carry the correlation ids encoded with MQCorrelationIds
+     */
+    public MQCorrelationRouter(int mailboxSize, long mailboxTtl, boolean binaryCorrelationId) {
+        this(mailboxSize, mailboxTtl, binaryCorrelationId, System::currentTimeMillis);
+    }
+
+    MQCorrelationRouter(int mailboxSize, long mailboxTtl, LongSupplier clock) {
+        this(mailboxSize, mailboxTtl, false, clock);
+    }
+
+    MQCorrelationRouter(int mailboxSize, long mailboxTtl, boolean binaryCorrelationId, LongSupplier clock) {
+        this.mailboxSize = mailboxSize;
+        this.mailboxTtl = mailboxTtl;
+        this.binaryCorrelationId = binaryCorrelationId;
+        this.clock = clock;
+    }
+
+    /**
+     * @return a Mono that completes with the message when it arrives, or fails with a ReceiveTimeoutException after
+     * timeout milliseconds
+     */
+    public Mono<Message> wait(String correlationId, long timeout) {
+        return Mono.defer(() -> {
+            String key = binaryCorrelationId ? MQCorrelationIds.toMQId(correlationId) : correlationId;
+            Sinks.One<Message> sink = Sinks.one();
+            Message parked = register(key, sink);
+            if (parked != null) {
+                return Mono.just(parked);
+            }
+            return sink.asMono()
+                    .timeout(Duration.ofMillis(timeout),
+                            Mono.error(() -> new ReceiveTimeoutException("Message not received in " + timeout)))
+                    .doFinally(signal -> unregister(key, sink));
+        });
+    }
+
+    /**
+     * @return a Flux of the messages in arrival order, it completes when all of them arrive or after timeout
+     * milliseconds with the ones arrived
+     */
+    public Flux<Message> waitAll(Collection<String> correlationIds, long timeout) {
+        return Flux.defer(() -> Flux.fromIterable(new LinkedHashSet<>(correlationIds)))
+                .flatMap(correlationId -> wait(correlationId, timeout)
+                        .onErrorResume(ReceiveTimeoutException.class, e -> Mono.empty()), Integer.MAX_VALUE);
+    }
+
+    @Override
+    public void onMessage(Message message) {
+        String correlationId = correlationId(message);
+        if (correlationId == null) {
+            log.warn("Discarding message without JMSCorrelationID");
+            return;
+        }
+        Sinks.One<Message> sink;
+        synchronized (this) {
+            sink = waiters.remove(correlationId);
+            if (sink == null) {
+                park(correlationId, message);
+                return;
+            }
+        }
+        sink.tryEmitValue(message);
+    }
+
+    synchronized int parked() {
+        return mailbox.size();
+    }
+
+    synchronized int waiting() {
+        return waiters.size();
+    }
+
+    private synchronized Message register(String correlationId, Sinks.One<Message> sink) {
+        expire();
+        Parked parked = mailbox.remove(correlationId);
+        if (parked != null) {
+            return parked.message;
+        }
+        if (waiters.put(correlationId, sink) != null) {
+            log.warn("Replacing caller waiting for {}", correlationId);
+        }
+        return null;
+    }
+
+    private synchronized void unregister(String correlationId, Sinks.One<Message> sink) {
+        waiters.remove(correlationId, sink);
+    }
+
+    private void park(String correlationId, Message message) {
+        expire();
+        if (mailbox.size() >= mailboxSize) {
+            Iterator<String> eldest = mailbox.keySet().iterator();
+            log.warn("Mailbox full, discarding message {}", eldest.next());
+            eldest.remove();
+        }
+        mailbox.put(correlationId, new Parked(message, clock.getAsLong()));
+    }
+
+    private void expire() {
+        long limit = clock.getAsLong() - mailboxTtl;
+        Iterator<Map.Entry<String, Parked>> entries = mailbox.entrySet().iterator();
+        while (entries.hasNext()) {
+            Map.Entry<String, Parked> entry = entries.next();
+            if (entry.getValue().arrival >= limit) {
+                return;
+            }
+            log.warn("Discarding message {} not requested in {}ms", entry.getKey(), mailboxTtl);
+            entries.remove();
+        }
+    }
+
+    private static String correlationId(Message message) {
+        try {
+            return message.getJMSCorrelationID();
+        } catch (JMSException e) {
+            log.warn("Correlation id could not be read", e);
+            return null;
+        }
+    }
+
+    @AllArgsConstructor
+    private static final class Parked {
+        private final Message message;
+        private final long arrival;
+    }
+}
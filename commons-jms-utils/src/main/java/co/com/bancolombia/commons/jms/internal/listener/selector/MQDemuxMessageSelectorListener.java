@@ -0,0 +1,47 @@
+package co.com.bancolombia.commons.jms.internal.listener.selector;
+
+import co.com.bancolombia.commons.jms.api.MQMessageSelectorListener;
+import lombok.AllArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import javax.jms.Destination;
+import javax.jms.Message;
+import java.util.Collection;
+
+import static co.com.bancolombia.commons.jms.internal.listener.selector.MQContextMessageSelectorListenerSync.DEFAULT_TIMEOUT;
+
+/**
+ * Waits the messages of the demux listener without holding a thread, the Mono completes from the consumer callback
+ * and the timeout is scheduled in the shared reactor timer. Only calls for other destinations block a
+ * boundedElastic thread in a selector receive
+ */
+@AllArgsConstructor
+public class MQDemuxMessageSelectorListener implements MQMessageSelectorListener {
+    private final MQDemuxMessageSelectorListenerSync listenerSync;
+
+    @Override
+    public Mono<Message> getMessage(String correlationId) {
+        return listenerSync.getRouter().wait(correlationId, DEFAULT_TIMEOUT);
+    }
+
+    @Override
+    public Mono<Message> getMessage(String correlationId, long timeout, Destination destination) {
+        if (listenerSync.isListened(destination)) {
+            return listenerSync.getRouter().wait(correlationId, timeout);
+        }
+        return Mono.fromCallable(() -> listenerSync.selectorListener().getMessage(correlationId, timeout, destination))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @Override
+    public Flux<Message> getMessages(Collection<String> correlationIds, long timeout, Destination destination) {
+        if (listenerSync.isListened(destination)) {
+            return listenerSync.getRouter().waitAll(correlationIds, timeout);
+        }
+        return Flux.defer(() -> Flux.fromIterable(listenerSync.selectorListener()
+                        .getMessages(correlationIds, timeout, destination)))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+}
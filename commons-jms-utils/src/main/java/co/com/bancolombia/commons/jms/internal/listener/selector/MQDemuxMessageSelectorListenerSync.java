@@ -0,0 +1,99 @@
+package co.com.bancolombia.commons.jms.internal.listener.selector;
+
+import co.com.bancolombia.commons.jms.api.MQBrokerUtils;
+import co.com.bancolombia.commons.jms.api.MQMessageSelectorListenerSync;
+import co.com.bancolombia.commons.jms.api.MQQueuesContainer;
+import co.com.bancolombia.commons.jms.api.exceptions.MQHealthListener;
+import co.com.bancolombia.commons.jms.internal.listener.MQListenerContainer;
+import co.com.bancolombia.commons.jms.internal.models.MQListenerConfig;
+import co.com.bancolombia.commons.jms.utils.MQMessageListenerUtils;
+import lombok.Getter;
+
+import javax.jms.ConnectionFactory;
+import javax.jms.Destination;
+import javax.jms.JMSException;
+import javax.jms.JMSRuntimeException;
+import javax.jms.Message;
+import javax.jms.Queue;
+import java.util.Collection;
+import java.util.List;
+
+import static co.com.bancolombia.commons.jms.internal.listener.selector.MQContextMessageSelectorListenerSync.DEFAULT_TIMEOUT;
+
+/**
+ * Listens the configured queue with concurrency long-lived consumers and hands each message to the caller waiting for
+ * its correlation id, instead of opening a consumer with a selector for each call. The queue should be exclusive to
+ * this application instance, because messages of other instances would be consumed and discarded. Calls for other
+ * destinations are served with a selector as usual
+ */
+public class MQDemuxMessageSelectorListenerSync implements MQMessageSelectorListenerSync {
+    private final ConnectionFactory connectionFactory;
+    private final MQListenerConfig config;
+    private final MQHealthListener healthListener;
+    private final MQQueuesContainer container;
+    private final MQBrokerUtils utils;
+    @Getter
+    private final MQCorrelationRouter router;
+    private MQListenerContainer listeners;
+    private MQMessageSelectorListenerSync selectorListener;
+
+    public MQDemuxMessageSelectorListenerSync(ConnectionFactory connectionFactory, MQListenerConfig config,
+                                              MQHealthListener healthListener, MQQueuesContainer container,
+                                              MQBrokerUtils utils, MQCorrelationRouter router) {
+        this.connectionFactory = connectionFactory;
+        this.config = config;
+        this.healthListener = healthListener;
+        this.container = container;
+        this.utils = utils;
+        this.router = router;
+        start();
+    }
+
+    public void start() {
+        listeners = MQMessageListenerUtils.createListeners(connectionFactory, router, container, utils, config,
+                healthListener);
+    }
+
+    public void stop() {
+        listeners.stop();
+    }
+
+    public Message getMessage(String correlationId) {
+        return getMessage(correlationId, DEFAULT_TIMEOUT, null);
+    }
+
+    public Message getMessage(String correlationId, long timeout, Destination destination) {
+        if (!isListened(destination)) {
+            return selectorListener().getMessage(correlationId, timeout, destination);
+        }
+        return router.wait(correlationId, timeout).block();
+    }
+
+    public List<Message> getMessages(Collection<String> correlationIds, long timeout, Destination destination) {
+        if (!isListened(destination)) {
+            return selectorListener().getMessages(correlationIds, timeout, destination);
+        }
+        return router.waitAll(correlationIds, timeout).collectList().block();
+    }
+
+    public boolean isListened(Destination destination) {
+        try {
+            return destination == null
+                    || (destination instanceof Queue && config.getQueue().equals(((Queue) destination).getQueueName()));
+        } catch (JMSException e) {
+            throw new JMSRuntimeException(e.getMessage(), e.getErrorCode(), e);
+        }
+    }
+
+    public synchronized MQMessageSelectorListenerSync selectorListener() {
+        if (selectorListener == null) {
+            selectorListener = MQContextMessageSelectorListenerSync.builder()
+                    .connectionFactory(connectionFactory)
+                    .config(config)
+                    .healthListener(healthListener)
+                    .build()
+                    .call();
+        }
+        return selectorListener;
+    }
+}
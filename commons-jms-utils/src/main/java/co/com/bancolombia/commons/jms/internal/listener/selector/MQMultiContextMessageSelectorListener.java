@@ -3,11 +3,13 @@ package co.com.bancolombia.commons.jms.internal.listener.selector;
 import co.com.bancolombia.commons.jms.api.MQMessageSelectorListener;
 import co.com.bancolombia.commons.jms.api.MQMessageSelectorListenerSync;
 import lombok.AllArgsConstructor;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
 import javax.jms.Destination;
 import javax.jms.Message;
+import java.util.Collection;
 
 @AllArgsConstructor
 public class MQMultiContextMessageSelectorListener implements MQMessageSelectorListener {
@@ -24,4 +26,10 @@ public class MQMultiContextMessageSelectorListener implements MQMessageSelectorL
         return Mono.defer(() -> Mono.just(listenerSync.getMessage(correlationId, timeout, destination)))
                 .subscribeOn(Schedulers.boundedElastic());
     }
+
+    @Override
+    public Flux<Message> getMessages(Collection<String> correlationIds, long timeout, Destination destination) {
+        return Flux.defer(() -> Flux.fromIterable(listenerSync.getMessages(correlationIds, timeout, destination)))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
 }
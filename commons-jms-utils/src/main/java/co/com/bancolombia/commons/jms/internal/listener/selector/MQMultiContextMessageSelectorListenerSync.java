@@ -7,6 +7,7 @@ import co.com.bancolombia.commons.jms.internal.models.MQListenerConfig;
 import javax.jms.ConnectionFactory;
 import javax.jms.Destination;
 import javax.jms.Message;
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -46,4 +47,9 @@ public class MQMultiContextMessageSelectorListenerSync implements MQMessageSelec
         return adapterList.get(selectIndex).getMessage(correlationId, timeout, destination);
     }
 
+    public List<Message> getMessages(Collection<String> correlationIds, long timeout, Destination destination) {
+        int selectIndex = (int) (System.currentTimeMillis() % config.getConcurrency());
+        return adapterList.get(selectIndex).getMessages(correlationIds, timeout, destination);
+    }
+
 }
@@ -0,0 +1,211 @@
+package co.com.bancolombia.commons.jms.internal.message;
+
+import lombok.experimental.Delegate;
+
+import javax.jms.BytesMessage;
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.MessageEOFException;
+import javax.jms.MessageFormatException;
+import javax.jms.MessageNotWriteableException;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Enumeration;
+
+/**
+ * Read only BytesMessage with the headers and properties of the received message and a replaced body
+ */
+public class MQBytesMessageView implements BytesMessage {
+    private static final String READ_ONLY = "Received message is read only";
+    @Delegate(types = Message.class, excludes = {MessageBody.class, MessagePropertyNames.class})
+    private final Message delegate;
+    private final byte[] body;
+    private DataInputStream input;
+
+    public MQBytesMessageView(Message delegate, byte[] body) {
+        this.delegate = delegate;
+        this.body = body;
+        reset();
+    }
+
+    @Override
+    public long getBodyLength() {
+        return body.length;
+    }
+
+    @Override
+    public boolean readBoolean() throws JMSException {
+        return read(DataInputStream::readBoolean);
+    }
+
+    @Override
+    public byte readByte() throws JMSException {
+        return read(DataInputStream::readByte);
+    }
+
+    @Override
+    public int readUnsignedByte() throws JMSException {
+        return read(DataInputStream::readUnsignedByte);
+    }
+
+    @Override
+    public short readShort() throws JMSException {
+        return read(DataInputStream::readShort);
+    }
+
+    @Override
+    public int readUnsignedShort() throws JMSException {
+        return read(DataInputStream::readUnsignedShort);
+    }
+
+    @Override
+    public char readChar() throws JMSException {
+        return read(DataInputStream::readChar);
+    }
+
+    @Override
+    public int readInt() throws JMSException {
+        return read(DataInputStream::readInt);
+    }
+
+    @Override
+    public long readLong() throws JMSException {
+        return read(DataInputStream::readLong);
+    }
+
+    @Override
+    public float readFloat() throws JMSException {
+        return read(DataInputStream::readFloat);
+    }
+
+    @Override
+    public double readDouble() throws JMSException {
+        return read(DataInputStream::readDouble);
+    }
+
+    @Override
+    public String readUTF() throws JMSException {
+        return read(stream -> stream.readUTF());
+    }
+
+    @Override
+    public int readBytes(byte[] value) throws JMSException {
+        return readBytes(value, value.length);
+    }
+
+    @Override
+    public int readBytes(byte[] value, int length) throws JMSException {
+        return read(stream -> stream.read(value, 0, Math.min(length, value.length)));
+    }
+
+    @Override
+    public void writeBoolean(boolean value) throws JMSException {
+        throw new MessageNotWriteableException(READ_ONLY);
+    }
+
+    @Override
+    public void writeByte(byte value) throws JMSException {
+        throw new MessageNotWriteableException(READ_ONLY);
+    }
+
+    @Override
+    public void writeShort(short value) throws JMSException {
+        throw new MessageNotWriteableException(READ_ONLY);
+    }
+
+    @Override
+    public void writeChar(char value) throws JMSException {
+        throw new MessageNotWriteableException(READ_ONLY);
+    }
+
+    @Override
+    public void writeInt(int value) throws JMSException {
+        throw new MessageNotWriteableException(READ_ONLY);
+    }
+
+    @Override
+    public void writeLong(long value) throws JMSException {
+        throw new MessageNotWriteableException(READ_ONLY);
+    }
+
+    @Override
+    public void writeFloat(float value) throws JMSException {
+        throw new MessageNotWriteableException(READ_ONLY);
+    }
+
+    @Override
+    public void writeDouble(double value) throws JMSException {
+        throw new MessageNotWriteableException(READ_ONLY);
+    }
+
+    @Override
+    public void writeUTF(String value) throws JMSException {
+        throw new MessageNotWriteableException(READ_ONLY);
+    }
+
+    @Override
+    public void writeBytes(byte[] value) throws JMSException {
+        throw new MessageNotWriteableException(READ_ONLY);
+    }
+
+    @Override
+    public void writeBytes(byte[] value, int offset, int length) throws JMSException {
+        throw new MessageNotWriteableException(READ_ONLY);
+    }
+
+    @Override
+    public void writeObject(Object value) throws JMSException {
+        throw new MessageNotWriteableException(READ_ONLY);
+    }
+
+    @Override
+    public final void reset() {
+        input = new DataInputStream(new ByteArrayInputStream(body));
+    }
+
+    @Override
+    public <T> T getBody(Class<T> c) throws JMSException {
+        if (!isBodyAssignableTo(c)) {
+            throw new MessageFormatException("Body of type byte[] is not assignable to " + c.getName());
+        }
+        return c.cast(Arrays.copyOf(body, body.length));
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public boolean isBodyAssignableTo(Class c) {
+        return ((Class<?>) c).isAssignableFrom(byte[].class);
+    }
+
+    @Override
+    public void clearBody() throws JMSException {
+        throw new MessageNotWriteableException(READ_ONLY);
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public Enumeration getPropertyNames() throws JMSException {
+        return delegate.getPropertyNames();
+    }
+
+    private <T> T read(StreamReader<T> reader) throws JMSException {
+        try {
+            return reader.read(input);
+        } catch (EOFException e) {
+            MessageEOFException exception = new MessageEOFException("Unexpected end of message body");
+            exception.initCause(e);
+            throw exception;
+        } catch (IOException e) {
+            MessageFormatException exception = new MessageFormatException(e.getMessage());
+            exception.initCause(e);
+            throw exception;
+        }
+    }
+
+    private interface StreamReader<T> {
+        T read(DataInputStream stream) throws IOException;
+    }
+}
@@ -0,0 +1,56 @@
+package co.com.bancolombia.commons.jms.internal.message;
+
+import lombok.AllArgsConstructor;
+import lombok.experimental.Delegate;
+
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.MessageFormatException;
+import javax.jms.MessageNotWriteableException;
+import javax.jms.TextMessage;
+import java.util.Enumeration;
+
+/**
+ * Read only TextMessage with the headers and properties of the received message and a replaced body
+ */
+@AllArgsConstructor
+public class MQTextMessageView implements TextMessage {
+    @Delegate(types = Message.class, excludes = {MessageBody.class, MessagePropertyNames.class})
+    private final Message delegate;
+    private final String text;
+
+    @Override
+    public String getText() {
+        return text;
+    }
+
+    @Override
+    public void setText(String string) throws JMSException {
+        throw new MessageNotWriteableException("Received message is read only");
+    }
+
+    @Override
+    public <T> T getBody(Class<T> c) throws JMSException {
+        if (!isBodyAssignableTo(c)) {
+            throw new MessageFormatException("Body of type String is not assignable to " + c.getName());
+        }
+        return c.cast(text);
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public boolean isBodyAssignableTo(Class c) {
+        return text == null || ((Class<?>) c).isAssignableFrom(String.class);
+    }
+
+    @Override
+    public void clearBody() throws JMSException {
+        throw new MessageNotWriteableException("Received message is read only");
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public Enumeration getPropertyNames() throws JMSException {
+        return delegate.getPropertyNames();
+    }
+}
@@ -0,0 +1,15 @@
+package co.com.bancolombia.commons.jms.internal.message;
+
+import javax.jms.JMSException;
+
+/**
+ * Body methods of javax.jms.Message implemented by the message views instead of being delegated
+ */
+interface MessageBody {
+    <T> T getBody(Class<T> c) throws JMSException;
+
+    @SuppressWarnings("rawtypes")
+    boolean isBodyAssignableTo(Class c) throws JMSException;
+
+    void clearBody() throws JMSException;
+}
@@ -0,0 +1,13 @@
+package co.com.bancolombia.commons.jms.internal.message;
+
+import javax.jms.JMSException;
+import java.util.Enumeration;
+
+/**
+ * Property names method of javax.jms.Message implemented by the message views instead of being delegated, so its raw
+ * return type is declared once with the warning suppressed
+ */
+interface MessagePropertyNames {
+    @SuppressWarnings("rawtypes")
+    Enumeration getPropertyNames() throws JMSException;
+}
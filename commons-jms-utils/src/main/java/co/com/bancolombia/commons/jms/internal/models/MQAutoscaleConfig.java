@@ -0,0 +1,29 @@
+package co.com.bancolombia.commons.jms.internal.models;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder(toBuilder = true)
+public class MQAutoscaleConfig {
+    /**
+     * Milliseconds between scaling evaluations
+     */
+    @Builder.Default
+    private final long interval = 5000; //NOSONAR
+    /**
+     * Average age of the received messages above which listeners are added
+     */
+    @Builder.Default
+    private final long targetMessageAge = 1000; //NOSONAR
+    /**
+     * Min milliseconds since the last scaling before adding listeners
+     */
+    @Builder.Default
+    private final long scaleUpCooldown = 30000; //NOSONAR
+    /**
+     * Min milliseconds since the last scaling before removing listeners
+     */
+    @Builder.Default
+    private final long scaleDownCooldown = 120000; //NOSONAR
+}
@@ -0,0 +1,34 @@
+package co.com.bancolombia.commons.jms.internal.models;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder(toBuilder = true)
+public class MQDelayedRetryConfig {
+    /**
+     * Times a failed message is published again with a delivery delay before rolling it back
+     */
+    @Builder.Default
+    private final int retries = 0; //NOSONAR
+    /**
+     * Milliseconds to delay the first retry
+     */
+    @Builder.Default
+    private final long delay = 60000; //NOSONAR
+    /**
+     * Factor applied to the delay of each next retry
+     */
+    @Builder.Default
+    private final double multiplier = 1; //NOSONAR
+    /**
+     * Max milliseconds to delay a retry
+     */
+    @Builder.Default
+    private final long maxDelay = 3600000; //NOSONAR
+    /**
+     * Queue where the retries are published, default empty to publish them to the listened queue
+     */
+    @Builder.Default
+    private final String queue = ""; //NOSONAR
+}
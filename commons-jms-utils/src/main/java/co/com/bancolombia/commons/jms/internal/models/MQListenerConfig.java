@@ -1,7 +1,11 @@
 package co.com.bancolombia.commons.jms.internal.models;
 
+import co.com.bancolombia.commons.jms.api.MQMessageIdStore;
 import co.com.bancolombia.commons.jms.api.MQQueueCustomizer;
+import co.com.bancolombia.commons.jms.api.MQQueueDepthProbe;
 import co.com.bancolombia.commons.jms.api.MQQueueManagerSetter;
+import co.com.bancolombia.commons.jms.internal.listener.MQBackoutRouter;
+import co.com.bancolombia.commons.jms.internal.listener.MQPollingEngine;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -22,5 +26,45 @@ public class MQListenerConfig {
     @Builder.Default
     private final int maxRetries = -1; //NOSONAR
     @Builder.Default
+    private final String backoutQueue = ""; //NOSONAR
+    @Builder.Default
     private final MQQueueManagerSetter qmSetter = (ctx, queue) -> {}; //NOSONAR
+    @Builder.Default
+    private final int maxChunkGroups = 100; //NOSONAR
+    @Builder.Default
+    private final long chunkGroupTimeout = 60000; //NOSONAR
+    @Builder.Default
+    private final int batchSize = 0; //NOSONAR
+    @Builder.Default
+    private final long batchTimeout = 1000; //NOSONAR
+    @Builder.Default
+    private final int maxInFlight = 1; //NOSONAR
+    @Builder.Default
+    private final int lanes = 0; //NOSONAR
+    @Builder.Default
+    private final String laneKey = "JMSXGroupID"; //NOSONAR
+    @Builder.Default
+    private final int laneCapacity = 256; //NOSONAR
+    @Builder.Default
+    private final int maxConcurrency = 0; //NOSONAR
+    @Builder.Default
+    private final MQAutoscaleConfig autoscale = MQAutoscaleConfig.builder().build(); //NOSONAR
+    private final MQQueueDepthProbe depthProbe;
+    @Builder.Default
+    private final boolean polling = false; //NOSONAR
+    @Builder.Default
+    private final int pollingBurst = 100; //NOSONAR
+    @Builder.Default
+    private final long pollingMinBackoff = 1; //NOSONAR
+    @Builder.Default
+    private final long pollingMaxBackoff = 1000; //NOSONAR
+    private final MQPollingEngine pollingEngine;
+    @Builder.Default
+    private final MQRetryConfig localRetry = MQRetryConfig.builder().build(); //NOSONAR
+    @Builder.Default
+    private final MQDelayedRetryConfig delayedRetry = MQDelayedRetryConfig.builder().build(); //NOSONAR
+    private final MQMessageIdStore messageIdStore;
+    private final MQBackoutRouter backoutRouter;
+    @Builder.Default
+    private final boolean binaryCorrelationId = false; //NOSONAR
 }
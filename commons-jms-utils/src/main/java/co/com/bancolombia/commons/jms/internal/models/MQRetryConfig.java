@@ -0,0 +1,34 @@
+package co.com.bancolombia.commons.jms.internal.models;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder(toBuilder = true)
+public class MQRetryConfig {
+    /**
+     * Retries of a failed message in process before rolling it back to the queue manager
+     */
+    @Builder.Default
+    private final int retries = 0; //NOSONAR
+    /**
+     * Milliseconds to wait before the first retry
+     */
+    @Builder.Default
+    private final long backoff = 100; //NOSONAR
+    /**
+     * Factor applied to the wait of each next retry
+     */
+    @Builder.Default
+    private final double multiplier = 2; //NOSONAR
+    /**
+     * Random fraction of the wait added or subtracted to each retry, between 0 and 1
+     */
+    @Builder.Default
+    private final double jitter = 0.5; //NOSONAR
+    /**
+     * Max milliseconds to wait before a retry
+     */
+    @Builder.Default
+    private final long maxBackoff = 10000; //NOSONAR
+}
@@ -0,0 +1,97 @@
+package co.com.bancolombia.commons.jms.internal.models;
+
+import co.com.bancolombia.commons.jms.api.MQMessageCodec;
+import co.com.bancolombia.commons.jms.api.MQQueueCustomizer;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.zip.Deflater;
+
+@Getter
+@Builder(toBuilder = true)
+public class MQSenderConfig {
+    @Builder.Default
+    private final int concurrency = 1; //NOSONAR
+    /**
+     * Max milliseconds to wait for a free sender context, 0 fails immediately and a negative value waits indefinitely
+     */
+    @Builder.Default
+    private final long checkoutTimeout = -1; //NOSONAR
+    /**
+     * Amount of JMSContext.SESSION_TRANSACTED contexts used by sendBatch, 0 sends batches without transaction
+     */
+    @Builder.Default
+    private final int transactedConcurrency = 0; //NOSONAR
+    /**
+     * Messages committed per transaction in sendBatch
+     */
+    @Builder.Default
+    private final int batchSize = 100; //NOSONAR
+    /**
+     * Max milliseconds to wait for completing a batch when sending from a Flux
+     */
+    @Builder.Default
+    private final long batchWindow = 100; //NOSONAR
+    /**
+     * Puts concurrent sends under a single transaction on a transacted context, each send completes after commit
+     */
+    @Builder.Default
+    private final boolean groupCommit = false; //NOSONAR
+    @Builder.Default
+    private final int groupCommitSize = 64; //NOSONAR
+    /**
+     * Max milliseconds that the first message of a group waits for other sends before commit
+     */
+    @Builder.Default
+    private final long groupCommitWindow = 1; //NOSONAR
+    /**
+     * Max milliseconds that a blocking send waits for the commit of its group
+     */
+    @Builder.Default
+    private final long groupCommitTimeout = 30000; //NOSONAR
+    /**
+     * Sends in flight per context in sendMany, the upstream is requested only when one of them completes
+     */
+    @Builder.Default
+    private final int maxInFlightPerContext = 1; //NOSONAR
+    /**
+     * Max elements requested each time from the sendMany upstream, 0 requests as many as sends can be in flight
+     */
+    @Builder.Default
+    private final int streamPrefetch = 0; //NOSONAR
+    /**
+     * Emits the sendMany message ids in the same order of the upstream
+     */
+    @Builder.Default
+    private final boolean streamOrdered = true; //NOSONAR
+    /**
+     * Customizer applied to the queues created when sending by queue name
+     */
+    private final MQQueueCustomizer queueCustomizer;
+    /**
+     * Max queues created by name cached per context, 0 disables the cache
+     */
+    @Builder.Default
+    private final int destinationCacheSize = 100; //NOSONAR
+    /**
+     * Codec used to send objects
+     */
+    private final MQMessageCodec codec;
+    /**
+     * Min body size in bytes that is deflated before sending, 0 disables the compression
+     */
+    @Builder.Default
+    private final int compressionThreshold = 0; //NOSONAR
+    @Builder.Default
+    private final int compressionLevel = Deflater.DEFAULT_COMPRESSION; //NOSONAR
+    /**
+     * Max body size in bytes of each message, greater bodies are split in chunks, 0 disables the chunking
+     */
+    @Builder.Default
+    private final int chunkSize = 0; //NOSONAR
+    /**
+     * Sends the correlation ids as the 24 bytes MQ correlation id, see MQCorrelationIds
+     */
+    @Builder.Default
+    private final boolean binaryCorrelationId = false; //NOSONAR
+}
@@ -0,0 +1,28 @@
+package co.com.bancolombia.commons.jms.internal.sender;
+
+import lombok.AllArgsConstructor;
+import reactor.core.publisher.MonoSink;
+
+import javax.jms.CompletionListener;
+import javax.jms.JMSException;
+import javax.jms.JMSRuntimeException;
+import javax.jms.Message;
+
+@AllArgsConstructor
+public class MQCompletionListener implements CompletionListener {
+    private final MonoSink<String> sink;
+
+    @Override
+    public void onCompletion(Message message) {
+        try {
+            sink.success(message.getJMSMessageID());
+        } catch (JMSException e) {
+            sink.error(new JMSRuntimeException(e.getMessage(), e.getErrorCode(), e));
+        }
+    }
+
+    @Override
+    public void onException(Message message, Exception exception) {
+        sink.error(exception);
+    }
+}
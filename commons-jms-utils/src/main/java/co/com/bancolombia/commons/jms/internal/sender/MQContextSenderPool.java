@@ -0,0 +1,84 @@
+package co.com.bancolombia.commons.jms.internal.sender;
+
+import javax.jms.JMSRuntimeException;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * Lends each sender context exclusively to a single caller, JMSContext and JMSProducer are not thread safe.
+ * Free contexts are kept in a lock-free queue and the semaphore only parks callers when all contexts are busy.
+ */
+public class MQContextSenderPool {
+    private final List<MQContextSenderSync> senders;
+    private final Queue<Integer> available = new ConcurrentLinkedQueue<>();
+    private final Semaphore permits;
+    private final AtomicLongArray usages;
+    private final long checkoutTimeout;
+
+    public MQContextSenderPool(List<MQContextSenderSync> senders, long checkoutTimeout) {
+        this.senders = senders;
+        this.checkoutTimeout = checkoutTimeout;
+        this.permits = new Semaphore(senders.size());
+        this.usages = new AtomicLongArray(senders.size());
+        IntStream.range(0, senders.size()).forEach(available::offer);
+    }
+
+    public <T> T execute(Function<MQContextSenderSync, T> task) {
+        int index = checkout();
+        try {
+            usages.incrementAndGet(index);
+            return task.apply(senders.get(index));
+        } finally {
+            available.offer(index);
+            permits.release();
+        }
+    }
+
+    public int size() {
+        return senders.size();
+    }
+
+    public int getAvailable() {
+        return permits.availablePermits();
+    }
+
+    /**
+     * @return amount of checkouts served by each context
+     */
+    public long[] getUsages() {
+        long[] result = new long[usages.length()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = usages.get(i);
+        }
+        return result;
+    }
+
+    private int checkout() {
+        if (!acquire()) {
+            throw new JMSRuntimeException("No sender context available after " + checkoutTimeout + "ms");
+        }
+        return available.poll();
+    }
+
+    private boolean acquire() {
+        if (permits.tryAcquire()) {
+            return true;
+        }
+        try {
+            if (checkoutTimeout < 0) {
+                permits.acquire();
+                return true;
+            }
+            return permits.tryAcquire(checkoutTimeout, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JMSRuntimeException("Interrupted while waiting for a sender context");
+        }
+    }
+}
@@ -1,13 +1,24 @@
 package co.com.bancolombia.commons.jms.internal.sender;
 
+import co.com.bancolombia.commons.jms.api.MQDelayedMessageSenderSync;
 import co.com.bancolombia.commons.jms.api.MQDestinationProvider;
+import co.com.bancolombia.commons.jms.api.MQMessageCodec;
 import co.com.bancolombia.commons.jms.api.MQMessageCreator;
-import co.com.bancolombia.commons.jms.api.MQMessageSenderSync;
+import co.com.bancolombia.commons.jms.api.MQPayloadMessageSenderSync;
 import co.com.bancolombia.commons.jms.api.MQProducerCustomizer;
+import co.com.bancolombia.commons.jms.api.MQQueueCustomizer;
+import co.com.bancolombia.commons.jms.api.MQQueueMessageSenderSync;
+import co.com.bancolombia.commons.jms.internal.chunking.MQMessageChunker;
+import co.com.bancolombia.commons.jms.internal.compression.MQMessageCompressor;
+import co.com.bancolombia.commons.jms.internal.models.MQListenerConfig;
 import co.com.bancolombia.commons.jms.internal.reconnect.AbstractJMSReconnectable;
+import co.com.bancolombia.commons.jms.utils.MQCorrelationIds;
+import co.com.bancolombia.commons.jms.utils.MQQueueUtils;
+import lombok.Builder;
 import lombok.experimental.SuperBuilder;
 import lombok.extern.log4j.Log4j2;
 
+import javax.jms.CompletionListener;
 import javax.jms.ConnectionFactory;
 import javax.jms.Destination;
 import javax.jms.JMSContext;
@@ -15,17 +26,40 @@ import javax.jms.JMSException;
 import javax.jms.JMSProducer;
 import javax.jms.JMSRuntimeException;
 import javax.jms.Message;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.Deflater;
 
 @Log4j2
 @SuperBuilder
-public class MQContextSenderSync extends AbstractJMSReconnectable<MQContextSenderSync> implements MQMessageSenderSync {
+public class MQContextSenderSync extends AbstractJMSReconnectable<MQContextSenderSync>
+        implements MQQueueMessageSenderSync, MQPayloadMessageSenderSync, MQDelayedMessageSenderSync {
     private final ConnectionFactory connectionFactory;
     private final MQDestinationProvider provider;
     private final MQProducerCustomizer customizer;
+    private final MQQueueCustomizer queueCustomizer;
+    private final MQMessageCodec codec;
+    @Builder.Default
+    private final int destinationCacheSize = 100;
+    @Builder.Default
+    private final int compressionThreshold = 0;
+    @Builder.Default
+    private final int compressionLevel = Deflater.DEFAULT_COMPRESSION;
+    @Builder.Default
+    private final int chunkSize = 0;
+    @Builder.Default
+    private final boolean binaryCorrelationId = false;
+    @Builder.Default
+    private final boolean transacted = false;
+    @Builder.Default
+    private final int commitInterval = 1;
 
     private JMSContext context;
     private JMSProducer producer;
     private Destination defaultDestination;
+    private MQDestinationCache destinations;
+    private MQMessageCompressor compressor;
+    private MQMessageChunker chunker;
 
     @Override
     protected String name() {
@@ -36,11 +70,20 @@ public class MQContextSenderSync extends AbstractJMSReconnectable<MQContextSende
     @Override
     protected MQContextSenderSync connect() {
         log.info("Starting sender {}", getProcess());
-        this.context = connectionFactory.createContext();
+        this.context = transacted ? connectionFactory.createContext(JMSContext.SESSION_TRANSACTED)
+                : connectionFactory.createContext();
         this.context.setExceptionListener(this);
         this.producer = context.createProducer();
         customizer.customize(producer);
         this.defaultDestination = provider.create(context);
+        // queues created in the previous context are discarded on reconnection
+        this.destinations = new MQDestinationCache(destinationCacheSize);
+        if (compressionThreshold > 0 && compressor == null) {
+            this.compressor = new MQMessageCompressor(compressionThreshold, compressionLevel);
+        }
+        if (chunkSize > 0) {
+            this.chunker = new MQMessageChunker(chunkSize);
+        }
         log.info("Sender {} started successfully", getProcess());
         return this;
     }
@@ -50,14 +93,155 @@ public class MQContextSenderSync extends AbstractJMSReconnectable<MQContextSende
         return send(defaultDestination, messageCreator);
     }
 
+    @Override
+    public String send(Object payload) {
+        return send(requireCodec(codec).creator(payload));
+    }
+
+    @Override
+    public String send(Destination destination, Object payload) {
+        return send(destination, requireCodec(codec).creator(payload));
+    }
+
+    @Override
+    public String sendToQueue(String queueName, MQMessageCreator messageCreator) {
+        return send(destination(queueName), messageCreator);
+    }
+
+    @Override
+    public String sendToQueue(String queueName, MQMessageCreator messageCreator, long deliveryDelay) {
+        // JMSProducer is a lightweight object, a new one keeps the delay out of the shared producer
+        JMSProducer delayedProducer = context.createProducer();
+        customizer.customize(delayedProducer);
+        delayedProducer.setDeliveryDelay(deliveryDelay);
+        return send(delayedProducer, destination(queueName), messageCreator);
+    }
+
     @Override
     public String send(Destination destination, MQMessageCreator messageCreator) {
+        return send(producer, destination, messageCreator);
+    }
+
+    private String send(JMSProducer target, Destination destination, MQMessageCreator messageCreator) {
         try {
-            Message message = messageCreator.create(context);
-            producer.send(destination, message);
+            Message message = create(messageCreator);
+            if (chunker != null) {
+                return sendChunks(target, destination, chunker.split(context, message)).getJMSMessageID();
+            }
+            target.send(destination, message);
             return message.getJMSMessageID();
         } catch (JMSException e) {
             throw new JMSRuntimeException(e.getMessage(), e.getErrorCode(), e);
         }
     }
+
+    @Override
+    public List<String> sendBatch(List<MQMessageCreator> messageCreators) {
+        return sendBatch(defaultDestination, messageCreators);
+    }
+
+    /**
+     * In a transacted context commits once each commitInterval messages, on error the pending messages are rolled
+     * back while the previously committed remain in the destination
+     */
+    @Override
+    public List<String> sendBatch(Destination destination, List<MQMessageCreator> messageCreators) {
+        if (!transacted) {
+            return MQDelayedMessageSenderSync.super.sendBatch(destination, messageCreators);
+        }
+        List<String> ids = new ArrayList<>(messageCreators.size());
+        try {
+            for (MQMessageCreator messageCreator : messageCreators) {
+                ids.add(send(destination, messageCreator));
+                if (ids.size() % commitInterval == 0) {
+                    context.commit();
+                }
+            }
+            if (ids.size() % commitInterval != 0) {
+                context.commit();
+            }
+            return ids;
+        } catch (Exception e) { //NOSONAR
+            // message creators can fail with any runtime or sneaky thrown exception
+            context.rollback();
+            throw e;
+        }
+    }
+
+    public void commit() {
+        context.commit();
+    }
+
+    public void rollback() {
+        context.rollback();
+    }
+
+    public void sendAsync(MQMessageCreator messageCreator, CompletionListener listener) {
+        sendAsync(defaultDestination, messageCreator, listener);
+    }
+
+    public void sendToQueueAsync(String queueName, MQMessageCreator messageCreator, CompletionListener listener) {
+        sendAsync(destination(queueName), messageCreator, listener);
+    }
+
+    public void sendAsync(Destination destination, MQMessageCreator messageCreator, CompletionListener listener) {
+        try {
+            Message message = create(messageCreator);
+            if (chunker != null) {
+                List<Message> chunks = chunker.split(context, message);
+                if (chunks.size() > 1) {
+                    // chunks are sent synchronously so the completion is notified once all of them are sent
+                    listener.onCompletion(sendChunks(producer, destination, chunks));
+                    return;
+                }
+            }
+            // JMSProducer is a lightweight object, a new one avoids switching the shared producer to async mode
+            JMSProducer asyncProducer = context.createProducer();
+            customizer.customize(asyncProducer);
+            asyncProducer.setAsync(listener).send(destination, message);
+        } catch (JMSException e) {
+            throw new JMSRuntimeException(e.getMessage(), e.getErrorCode(), e);
+        }
+    }
+
+    /**
+     * @return the first chunk, its message id identifies the whole message
+     */
+    private Message sendChunks(JMSProducer target, Destination destination, List<Message> chunks) {
+        chunks.forEach(chunk -> target.send(destination, chunk));
+        return chunks.get(0);
+    }
+
+    private Message create(MQMessageCreator messageCreator) throws JMSException {
+        Message message = messageCreator.create(context);
+        if (compressor != null) {
+            message = compressor.compress(context, message);
+        }
+        // after the compression, which copies the correlation id as text
+        if (binaryCorrelationId && message.getJMSCorrelationID() != null) {
+            MQCorrelationIds.setCorrelationId(message, message.getJMSCorrelationID());
+        }
+        return message;
+    }
+
+    static MQMessageCodec requireCodec(MQMessageCodec codec) {
+        if (codec == null) {
+            throw new IllegalStateException("A MQMessageCodec is required to send objects");
+        }
+        return codec;
+    }
+
+    private Destination destination(String queueName) {
+        if (destinationCacheSize < 1) {
+            return createQueue(queueName);
+        }
+        return destinations.computeIfAbsent(queueName, this::createQueue);
+    }
+
+    private Destination createQueue(String queueName) {
+        return MQQueueUtils.setupFixedQueue(context, MQListenerConfig.builder()
+                .queue(queueName)
+                .customizer(queueCustomizer)
+                .build());
+    }
 }
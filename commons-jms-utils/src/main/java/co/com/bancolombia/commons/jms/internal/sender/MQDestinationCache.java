@@ -0,0 +1,37 @@
+package co.com.bancolombia.commons.jms.internal.sender;
+
+import javax.jms.Destination;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Least recently used cache of the destinations created by name in a context, it is not thread safe because each
+ * context is used by one thread at a time
+ */
+public class MQDestinationCache {
+    private final Map<String, Destination> destinations;
+
+    public MQDestinationCache(int maxSize) {
+        this.destinations = new LinkedHashMap<String, Destination>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Destination> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public Destination get(String queueName) {
+        return destinations.get(queueName);
+    }
+
+    public Destination computeIfAbsent(String queueName, Function<String, Destination> factory) {
+        return destinations.computeIfAbsent(queueName, factory);
+    }
+
+    public void clear() {
+        destinations.clear();
+    }
+}
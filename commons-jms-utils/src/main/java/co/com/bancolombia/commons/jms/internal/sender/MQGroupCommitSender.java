@@ -0,0 +1,175 @@
+package co.com.bancolombia.commons.jms.internal.sender;
+
+import co.com.bancolombia.commons.jms.api.MQMessageCreator;
+import lombok.AllArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+
+import javax.jms.Destination;
+import javax.jms.JMSRuntimeException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Groups concurrent sends arriving within a window, puts them under one transaction in a pooled transacted context
+ * and completes each send after the commit, as in log group commit.
+ */
+@Log4j2
+public class MQGroupCommitSender {
+    private final MQContextSenderPool pool;
+    private final int groupSize;
+    private final long groupWindowNanos;
+    private final BlockingQueue<PendingMessage> pending = new LinkedBlockingQueue<>();
+    private ExecutorService service;
+    private volatile boolean stopped;
+
+    public MQGroupCommitSender(MQContextSenderPool pool, int groupSize, long groupWindowMillis) {
+        this.pool = pool;
+        this.groupSize = groupSize;
+        this.groupWindowNanos = TimeUnit.MILLISECONDS.toNanos(groupWindowMillis);
+    }
+
+    public MQGroupCommitSender start() {
+        AtomicInteger sequence = new AtomicInteger();
+        service = Executors.newFixedThreadPool(pool.size(), runnable -> {
+            Thread thread = new Thread(runnable, "mq-group-commit-" + sequence.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < pool.size(); i++) {
+            service.submit(this::flushGroups);
+        }
+        return this;
+    }
+
+    /**
+     * Stops the flushing threads and fails the sends that are still waiting for a group
+     */
+    public void stop() {
+        stopped = true;
+        if (service != null) {
+            service.shutdownNow();
+        }
+        failPending();
+    }
+
+    public CompletableFuture<String> send(MQMessageCreator messageCreator) {
+        return enqueue(sender -> sender.send(messageCreator));
+    }
+
+    public CompletableFuture<String> send(Destination destination, MQMessageCreator messageCreator) {
+        return enqueue(sender -> sender.send(destination, messageCreator));
+    }
+
+    public CompletableFuture<String> sendToQueue(String queueName, MQMessageCreator messageCreator) {
+        return enqueue(sender -> sender.sendToQueue(queueName, messageCreator));
+    }
+
+    private CompletableFuture<String> enqueue(Function<MQContextSenderSync, String> action) {
+        PendingMessage message = new PendingMessage(action, new CompletableFuture<>());
+        pending.add(message);
+        if (stopped) {
+            failPending();
+        }
+        return message.result;
+    }
+
+    private void failPending() {
+        PendingMessage message;
+        while ((message = pending.poll()) != null) {
+            message.result.completeExceptionally(new JMSRuntimeException("Group commit sender stopped"));
+        }
+    }
+
+    private void flushGroups() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                List<PendingMessage> group = nextGroup();
+                executeGroup(group);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void executeGroup(List<PendingMessage> group) {
+        try {
+            pool.execute(sender -> {
+                commitGroup(sender, group);
+                return null;
+            });
+        } catch (RuntimeException e) {
+            log.warn("Unexpected error committing messages group", e);
+            group.forEach(message -> message.result.completeExceptionally(e));
+        }
+    }
+
+    private List<PendingMessage> nextGroup() throws InterruptedException {
+        List<PendingMessage> group = new ArrayList<>(groupSize);
+        group.add(pending.take());
+        long deadline = System.nanoTime() + groupWindowNanos;
+        while (group.size() < groupSize) {
+            long remaining = deadline - System.nanoTime();
+            PendingMessage next = remaining > 0 ? pending.poll(remaining, TimeUnit.NANOSECONDS) : pending.poll();
+            if (next == null) {
+                return group;
+            }
+            group.add(next);
+        }
+        return group;
+    }
+
+    private void commitGroup(MQContextSenderSync sender, List<PendingMessage> group) {
+        List<PendingMessage> remaining = new ArrayList<>(group);
+        while (!remaining.isEmpty()) {
+            List<String> ids = new ArrayList<>(remaining.size());
+            PendingMessage current = null;
+            try {
+                for (PendingMessage message : remaining) {
+                    current = message;
+                    ids.add(message.send(sender));
+                }
+                current = null;
+                sender.commit();
+                for (int i = 0; i < remaining.size(); i++) {
+                    remaining.get(i).result.complete(ids.get(i));
+                }
+                return;
+            } catch (Exception e) { // NOSONAR creators can throw any exception, also sneaky checked ones
+                rollbackQuietly(sender);
+                if (current == null) {
+                    remaining.forEach(message -> message.result.completeExceptionally(e));
+                    return;
+                }
+                // a message that fails is excluded and the rest of the group is put again in a new transaction
+                current.result.completeExceptionally(e);
+                remaining.remove(current);
+            }
+        }
+    }
+
+    private static void rollbackQuietly(MQContextSenderSync sender) {
+        try {
+            sender.rollback();
+        } catch (RuntimeException e) {
+            log.warn("Error rolling back messages group", e);
+        }
+    }
+
+    @AllArgsConstructor
+    private static class PendingMessage {
+        private final Function<MQContextSenderSync, String> action;
+        private final CompletableFuture<String> result;
+
+        private String send(MQContextSenderSync sender) {
+            return action.apply(sender);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package co.com.bancolombia.commons.jms.internal.sender;
+
+import co.com.bancolombia.commons.jms.api.MQMessageCreator;
+import co.com.bancolombia.commons.jms.internal.models.MQSenderConfig;
+import reactor.core.publisher.Mono;
+
+import javax.jms.Destination;
+
+public class MQMultiContextAsyncSender extends MQMultiContextSender {
+    private final MQMultiContextSenderSync senderSync;
+
+    public MQMultiContextAsyncSender(MQMultiContextSenderSync senderSync) {
+        this(senderSync, MQSenderConfig.builder().build());
+    }
+
+    public MQMultiContextAsyncSender(MQMultiContextSenderSync senderSync, MQSenderConfig config) {
+        super(senderSync, config);
+        this.senderSync = senderSync;
+    }
+
+    @Override
+    public Mono<String> send(MQMessageCreator messageCreator) {
+        return senderSync.sendAsync(messageCreator);
+    }
+
+    @Override
+    public Mono<String> send(Destination destination, MQMessageCreator messageCreator) {
+        return senderSync.sendAsync(destination, messageCreator);
+    }
+
+    @Override
+    public Mono<String> send(Destination destination, Object payload) {
+        return Mono.defer(() -> senderSync.sendAsync(destination, senderSync.creator(payload)));
+    }
+
+    @Override
+    public Mono<String> send(Object payload) {
+        return Mono.defer(() -> senderSync.sendAsync(senderSync.creator(payload)));
+    }
+
+    @Override
+    public Mono<String> sendToQueue(String queueName, MQMessageCreator messageCreator) {
+        return senderSync.sendToQueueAsync(queueName, messageCreator);
+    }
+}
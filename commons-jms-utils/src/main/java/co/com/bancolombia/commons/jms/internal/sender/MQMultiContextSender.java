@@ -1,17 +1,30 @@
 package co.com.bancolombia.commons.jms.internal.sender;
 
 import co.com.bancolombia.commons.jms.api.MQMessageCreator;
-import co.com.bancolombia.commons.jms.api.MQMessageSender;
 import co.com.bancolombia.commons.jms.api.MQMessageSenderSync;
+import co.com.bancolombia.commons.jms.api.MQPayloadMessageSender;
+import co.com.bancolombia.commons.jms.api.MQPayloadMessageSenderSync;
+import co.com.bancolombia.commons.jms.api.MQQueueMessageSender;
+import co.com.bancolombia.commons.jms.api.MQQueueMessageSenderSync;
+import co.com.bancolombia.commons.jms.internal.models.MQSenderConfig;
 import lombok.AllArgsConstructor;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
 import javax.jms.Destination;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Function;
 
 @AllArgsConstructor
-public class MQMultiContextSender implements MQMessageSender {
+public class MQMultiContextSender implements MQQueueMessageSender, MQPayloadMessageSender {
     private final MQMessageSenderSync senderSync; // MQMultiContextSenderSync
+    private final MQSenderConfig config;
+
+    public MQMultiContextSender(MQMessageSenderSync senderSync) {
+        this(senderSync, MQSenderConfig.builder().build());
+    }
 
     @Override
     public Mono<String> send(MQMessageCreator messageCreator) {
@@ -24,4 +37,75 @@ public class MQMultiContextSender implements MQMessageSender {
         return Mono.defer(() -> Mono.just(senderSync.send(destination, messageCreator)))
                 .subscribeOn(Schedulers.boundedElastic());
     }
+
+    @Override
+    public Mono<String> send(Destination destination, Object payload) {
+        return Mono.defer(() -> Mono.just(payloadSender().send(destination, payload)))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @Override
+    public Mono<String> send(Object payload) {
+        return Mono.defer(() -> Mono.just(payloadSender().send(payload)))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @Override
+    public Mono<String> sendToQueue(String queueName, MQMessageCreator messageCreator) {
+        return Mono.defer(() -> Mono.just(queueSender().sendToQueue(queueName, messageCreator)))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @Override
+    public Flux<String> sendBatch(Destination destination, Flux<MQMessageCreator> messageCreators) {
+        return sendBatches(messageCreators, batch -> senderSync.sendBatch(destination, batch));
+    }
+
+    @Override
+    public Flux<String> sendBatch(Flux<MQMessageCreator> messageCreators) {
+        return sendBatches(messageCreators, senderSync::sendBatch);
+    }
+
+    @Override
+    public Flux<String> sendMany(Destination destination, Flux<MQMessageCreator> messageCreators) {
+        return sendStream(messageCreators, messageCreator -> send(destination, messageCreator));
+    }
+
+    @Override
+    public Flux<String> sendMany(Flux<MQMessageCreator> messageCreators) {
+        return sendStream(messageCreators, this::send);
+    }
+
+    private MQQueueMessageSenderSync queueSender() {
+        if (!(senderSync instanceof MQQueueMessageSenderSync)) {
+            throw new IllegalStateException("A MQQueueMessageSenderSync is required to send by queue name, "
+                    + senderSync.getClass().getName() + " does not support it");
+        }
+        return (MQQueueMessageSenderSync) senderSync;
+    }
+
+    private MQPayloadMessageSenderSync payloadSender() {
+        if (!(senderSync instanceof MQPayloadMessageSenderSync)) {
+            throw new IllegalStateException("A MQPayloadMessageSenderSync is required to send objects, "
+                    + senderSync.getClass().getName() + " does not support it");
+        }
+        return (MQPayloadMessageSenderSync) senderSync;
+    }
+
+    private Flux<String> sendStream(Flux<MQMessageCreator> messageCreators,
+                                    Function<MQMessageCreator, Mono<String>> sender) {
+        int maxInFlight = Math.max(1, config.getConcurrency() * config.getMaxInFlightPerContext());
+        Flux<MQMessageCreator> source = config.getStreamPrefetch() > 0
+                ? messageCreators.limitRate(config.getStreamPrefetch()) : messageCreators;
+        return config.isStreamOrdered() ? source.flatMapSequential(sender, maxInFlight)
+                : source.flatMap(sender, maxInFlight);
+    }
+
+    private Flux<String> sendBatches(Flux<MQMessageCreator> messageCreators,
+                                     Function<List<MQMessageCreator>, List<String>> batchSender) {
+        return messageCreators.bufferTimeout(config.getBatchSize(), Duration.ofMillis(config.getBatchWindow()))
+                .concatMap(batch -> Mono.defer(() -> Mono.just(batchSender.apply(batch)))
+                        .subscribeOn(Schedulers.boundedElastic()))
+                .flatMapIterable(ids -> ids);
+    }
 }
@@ -1,30 +1,52 @@
 package co.com.bancolombia.commons.jms.internal.sender;
 
+import co.com.bancolombia.commons.jms.api.MQDelayedMessageSenderSync;
 import co.com.bancolombia.commons.jms.api.MQDestinationProvider;
 import co.com.bancolombia.commons.jms.api.MQMessageCreator;
-import co.com.bancolombia.commons.jms.api.MQMessageSenderSync;
+import co.com.bancolombia.commons.jms.api.MQPayloadMessageSenderSync;
 import co.com.bancolombia.commons.jms.api.MQProducerCustomizer;
+import co.com.bancolombia.commons.jms.api.MQQueueMessageSenderSync;
 import co.com.bancolombia.commons.jms.api.exceptions.MQHealthListener;
+import co.com.bancolombia.commons.jms.internal.models.MQSenderConfig;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import javax.jms.CompletionListener;
 import javax.jms.ConnectionFactory;
 import javax.jms.Destination;
+import javax.jms.JMSRuntimeException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
-public class MQMultiContextSenderSync implements MQMessageSenderSync {
+public class MQMultiContextSenderSync
+        implements MQQueueMessageSenderSync, MQPayloadMessageSenderSync, MQDelayedMessageSenderSync {
     private final ConnectionFactory connectionFactory;
-    private List<MQMessageSenderSync> adapterList;
-    private final int connections;
+    private final MQSenderConfig config;
     private final MQDestinationProvider provider;
     private final MQProducerCustomizer customizer;
     private final MQHealthListener healthListener;
+    private MQContextSenderPool pool;
+    private MQContextSenderPool transactedPool;
+    private MQGroupCommitSender groupCommitSender;
 
     public MQMultiContextSenderSync(ConnectionFactory connectionFactory, int connections,
                                     MQDestinationProvider provider, MQProducerCustomizer customizer,
                                     MQHealthListener healthListener) {
+        this(connectionFactory, MQSenderConfig.builder().concurrency(connections).build(), provider, customizer,
+                healthListener);
+    }
+
+    public MQMultiContextSenderSync(ConnectionFactory connectionFactory, MQSenderConfig config,
+                                    MQDestinationProvider provider, MQProducerCustomizer customizer,
+                                    MQHealthListener healthListener) {
         this.connectionFactory = connectionFactory;
-        this.connections = connections;
+        this.config = config;
         this.provider = provider;
         this.customizer = customizer;
         this.healthListener = healthListener;
@@ -32,12 +54,44 @@ public class MQMultiContextSenderSync implements MQMessageSenderSync {
     }
 
     public void start() {
-        adapterList = IntStream.range(0, connections)
+        pool = new MQContextSenderPool(createSenders(config.getConcurrency(), false), config.getCheckoutTimeout());
+        int transactedConcurrency = config.isGroupCommit() ? Math.max(1, config.getTransactedConcurrency())
+                : config.getTransactedConcurrency();
+        if (transactedConcurrency > 0) {
+            transactedPool = new MQContextSenderPool(createSenders(transactedConcurrency, true),
+                    config.getCheckoutTimeout());
+        }
+        if (config.isGroupCommit()) {
+            groupCommitSender = new MQGroupCommitSender(transactedPool, config.getGroupCommitSize(),
+                    config.getGroupCommitWindow()).start();
+        }
+    }
+
+    /**
+     * Stops the group commit threads, registered as the destroy method of the sender beans
+     */
+    public void close() {
+        if (groupCommitSender != null) {
+            groupCommitSender.stop();
+        }
+    }
+
+    private List<MQContextSenderSync> createSenders(int amount, boolean transacted) {
+        return IntStream.range(0, amount)
                 .mapToObj(idx -> MQContextSenderSync.builder()
                         .connectionFactory(connectionFactory)
                         .customizer(customizer)
                         .provider(provider)
                         .healthListener(healthListener)
+                        .queueCustomizer(config.getQueueCustomizer())
+                        .codec(config.getCodec())
+                        .compressionThreshold(config.getCompressionThreshold())
+                        .compressionLevel(config.getCompressionLevel())
+                        .chunkSize(config.getChunkSize())
+                        .binaryCorrelationId(config.isBinaryCorrelationId())
+                        .destinationCacheSize(config.getDestinationCacheSize())
+                        .transacted(transacted)
+                        .commitInterval(config.getBatchSize())
                         .build()
                         .call())
                 .collect(Collectors.toList());
@@ -45,13 +99,117 @@ public class MQMultiContextSenderSync implements MQMessageSenderSync {
 
     @Override
     public String send(Destination destination, MQMessageCreator messageCreator) {
-        int selectIndex = (int) (System.currentTimeMillis() % connections);
-        return adapterList.get(selectIndex).send(destination, messageCreator);
+        if (groupCommitSender != null) {
+            return await(groupCommitSender.send(destination, messageCreator));
+        }
+        return pool.execute(sender -> sender.send(destination, messageCreator));
+    }
+
+    @Override
+    public String send(Destination destination, Object payload) {
+        return send(destination, creator(payload));
+    }
+
+    @Override
+    public String send(Object payload) {
+        return send(creator(payload));
+    }
+
+    @Override
+    public String sendToQueue(String queueName, MQMessageCreator messageCreator) {
+        if (groupCommitSender != null) {
+            return await(groupCommitSender.sendToQueue(queueName, messageCreator));
+        }
+        return pool.execute(sender -> sender.sendToQueue(queueName, messageCreator));
+    }
+
+    /**
+     * Delayed messages are sent by the non transacted senders, also when group commit is enabled
+     */
+    @Override
+    public String sendToQueue(String queueName, MQMessageCreator messageCreator, long deliveryDelay) {
+        return pool.execute(sender -> sender.sendToQueue(queueName, messageCreator, deliveryDelay));
     }
 
     @Override
     public String send(MQMessageCreator messageCreator) {
-        int selectIndex = (int) (System.currentTimeMillis() % connections);
-        return adapterList.get(selectIndex).send(messageCreator);
+        if (groupCommitSender != null) {
+            return await(groupCommitSender.send(messageCreator));
+        }
+        return pool.execute(sender -> sender.send(messageCreator));
+    }
+
+    @Override
+    public List<String> sendBatch(Destination destination, List<MQMessageCreator> messageCreators) {
+        return batchPool().execute(sender -> sender.sendBatch(destination, messageCreators));
+    }
+
+    @Override
+    public List<String> sendBatch(List<MQMessageCreator> messageCreators) {
+        return batchPool().execute(sender -> sender.sendBatch(messageCreators));
+    }
+
+    private MQContextSenderPool batchPool() {
+        return transactedPool != null ? transactedPool : pool;
+    }
+
+    /**
+     * Sends using JMS 2.0 async send, the sender context is only borrowed while the message is handed to the
+     * provider and the returned Mono completes from the provider CompletionListener callback
+     */
+    public Mono<String> sendAsync(Destination destination, MQMessageCreator messageCreator) {
+        if (groupCommitSender != null) {
+            return Mono.fromFuture(() -> groupCommitSender.send(destination, messageCreator));
+        }
+        return sendAsync((sender, listener) -> sender.sendAsync(destination, messageCreator, listener));
+    }
+
+    public Mono<String> sendToQueueAsync(String queueName, MQMessageCreator messageCreator) {
+        if (groupCommitSender != null) {
+            return Mono.fromFuture(() -> groupCommitSender.sendToQueue(queueName, messageCreator));
+        }
+        return sendAsync((sender, listener) -> sender.sendToQueueAsync(queueName, messageCreator, listener));
+    }
+
+    public Mono<String> sendAsync(MQMessageCreator messageCreator) {
+        if (groupCommitSender != null) {
+            return Mono.fromFuture(() -> groupCommitSender.send(messageCreator));
+        }
+        return sendAsync((sender, listener) -> sender.sendAsync(messageCreator, listener));
+    }
+
+    /**
+     * The checkout waits for a free context up to the checkout timeout, so it is done on the bounded elastic
+     * scheduler instead of the subscriber thread
+     */
+    private Mono<String> sendAsync(BiConsumer<MQContextSenderSync, CompletionListener> send) {
+        return Mono.<String>create(sink -> pool.execute(sender -> {
+            send.accept(sender, new MQCompletionListener(sink));
+            return null;
+        })).subscribeOn(Schedulers.boundedElastic());
+    }
+
+    public MQMessageCreator creator(Object payload) {
+        return MQContextSenderSync.requireCodec(config.getCodec()).creator(payload);
+    }
+
+    public long[] getUsages() {
+        return pool.getUsages();
+    }
+
+    private String await(CompletableFuture<String> result) {
+        try {
+            return result.get(config.getGroupCommitTimeout(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new JMSRuntimeException(e.getCause().getMessage());
+        } catch (TimeoutException e) {
+            throw new JMSRuntimeException("Message group not committed after " + config.getGroupCommitTimeout() + "ms");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JMSRuntimeException("Interrupted while waiting for the message group commit");
+        }
     }
 }
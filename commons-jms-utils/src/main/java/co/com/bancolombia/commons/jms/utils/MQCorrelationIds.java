@@ -0,0 +1,82 @@
+package co.com.bancolombia.commons.jms.utils;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import javax.jms.JMSException;
+import javax.jms.Message;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+
+/**
+ * Encodes correlation ids as the 24 bytes of the MQ CorrelId, so selectors take the ID: form that IBM MQ resolves with
+ * its correlation id index instead of scanning the queue. Ids already in the ID: form are decoded, ids up to 24 UTF-8
+ * bytes are padded with zeros and longer ids are replaced by the first 24 bytes of their SHA-256
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class MQCorrelationIds {
+    public static final int LENGTH = 24;
+    private static final String PREFIX = "ID:";
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    public static void setCorrelationId(Message message, String correlationId) throws JMSException {
+        message.setJMSCorrelationIDAsBytes(toBytes(correlationId));
+    }
+
+    /**
+     * @return the id as returned by getJMSCorrelationID for a message sent with setCorrelationId
+     */
+    public static String toMQId(String correlationId) {
+        if (isMQId(correlationId)) {
+            return PREFIX + correlationId.substring(PREFIX.length()).toLowerCase();
+        }
+        byte[] bytes = toBytes(correlationId);
+        char[] chars = new char[PREFIX.length() + LENGTH * 2];
+        PREFIX.getChars(0, PREFIX.length(), chars, 0);
+        for (int i = 0; i < LENGTH; i++) {
+            chars[PREFIX.length() + i * 2] = HEX[(bytes[i] >> 4) & 0xF];
+            chars[PREFIX.length() + i * 2 + 1] = HEX[bytes[i] & 0xF];
+        }
+        return new String(chars);
+    }
+
+    public static byte[] toBytes(String correlationId) {
+        if (isMQId(correlationId)) {
+            byte[] bytes = new byte[LENGTH];
+            for (int i = 0; i < LENGTH; i++) {
+                int offset = PREFIX.length() + i * 2;
+                bytes[i] = (byte) ((Character.digit(correlationId.charAt(offset), 16) << 4)
+                        | Character.digit(correlationId.charAt(offset + 1), 16));
+            }
+            return bytes;
+        }
+        byte[] text = correlationId.getBytes(StandardCharsets.UTF_8);
+        return text.length <= LENGTH ? Arrays.copyOf(text, LENGTH) : Arrays.copyOf(sha256(text), LENGTH);
+    }
+
+    /**
+     * @return true when the id is ID: followed by the 48 hex digits of 24 bytes, as the MQ message ids
+     */
+    public static boolean isMQId(String correlationId) {
+        if (correlationId == null || correlationId.length() != PREFIX.length() + LENGTH * 2
+                || !correlationId.startsWith(PREFIX)) {
+            return false;
+        }
+        for (int i = PREFIX.length(); i < correlationId.length(); i++) {
+            if (Character.digit(correlationId.charAt(i), 16) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static byte[] sha256(byte[] text) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(text);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
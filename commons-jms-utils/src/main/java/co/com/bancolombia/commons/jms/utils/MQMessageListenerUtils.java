@@ -1,10 +1,24 @@
 package co.com.bancolombia.commons.jms.utils;
 
+import co.com.bancolombia.commons.jms.api.MQAsyncMessageListener;
+import co.com.bancolombia.commons.jms.api.MQBatchMessageListener;
 import co.com.bancolombia.commons.jms.api.MQBrokerUtils;
 import co.com.bancolombia.commons.jms.api.MQQueuesContainer;
 import co.com.bancolombia.commons.jms.api.exceptions.MQHealthListener;
+import co.com.bancolombia.commons.jms.internal.chunking.MQChunkStore;
+import co.com.bancolombia.commons.jms.internal.chunking.MQReassemblingMessageListener;
+import co.com.bancolombia.commons.jms.internal.compression.MQInflatingMessageListener;
+import co.com.bancolombia.commons.jms.internal.dedupe.MQDedupe;
+import co.com.bancolombia.commons.jms.internal.listener.MQContextBatchListener;
+import co.com.bancolombia.commons.jms.internal.listener.MQContextKeyOrderedListener;
 import co.com.bancolombia.commons.jms.internal.listener.MQContextListener;
+import co.com.bancolombia.commons.jms.internal.listener.MQContextPipelinedListener;
+import co.com.bancolombia.commons.jms.internal.listener.MQContextPollingListener;
+import co.com.bancolombia.commons.jms.internal.listener.MQListenerAutoscaler;
+import co.com.bancolombia.commons.jms.internal.listener.MQListenerContainer;
+import co.com.bancolombia.commons.jms.internal.listener.MQLocalRetry;
 import co.com.bancolombia.commons.jms.internal.listener.MQMultiConnectionListener;
+import co.com.bancolombia.commons.jms.internal.listener.MQObservedMessageListener;
 import co.com.bancolombia.commons.jms.internal.models.MQListenerConfig;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
@@ -13,65 +27,214 @@ import org.apache.commons.lang3.StringUtils;
 
 import javax.jms.ConnectionFactory;
 import javax.jms.MessageListener;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.stream.IntStream;
 
 @Log4j2
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class MQMessageListenerUtils {
 
-    public static void createListeners(ConnectionFactory cf,
-                                       MessageListener listener,
-                                       MQQueuesContainer container,
-                                       MQBrokerUtils utils,
-                                       MQListenerConfig config,
-                                       MQHealthListener healthListener) {
+    public static MQListenerContainer createListeners(ConnectionFactory cf,
+                                                      MessageListener listener,
+                                                      MQQueuesContainer container,
+                                                      MQBrokerUtils utils,
+                                                      MQListenerConfig config,
+                                                      MQHealthListener healthListener) {
         if (log.isInfoEnabled()) {
             log.info("Creating {} listeners", config.getConcurrency());
         }
+        MessageListener retrying = dedupe(config).wrap(localRetry(config).wrap(listener));
+        MessageListener effective = new MQReassemblingMessageListener(new MQInflatingMessageListener(retrying),
+                chunks(config));
         if (StringUtils.isNotBlank(config.getTempQueueAlias())) {
-            createListenersTemp(cf, listener, container, config, healthListener);
-        } else {
-            createListenersFixed(cf, listener, container, utils, config, healthListener);
+            return createListenersTemp(cf, effective, container, config, healthListener);
         }
+        return createListenersFixed(cf, effective, container, utils, config, healthListener);
     }
 
-    private static void createListenersFixed(ConnectionFactory cf,
-                                             MessageListener listener,
-                                             MQQueuesContainer container,
-                                             MQBrokerUtils utils,
-                                             MQListenerConfig config,
-                                             MQHealthListener healthListener) {
-        ExecutorService service = Executors.newFixedThreadPool(config.getConcurrency());
-        IntStream.range(0, config.getConcurrency())
-                .mapToObj(number -> MQContextListener.builder()
+    private static MQListenerContainer createListenersFixed(ConnectionFactory cf,
+                                                            MessageListener listener,
+                                                            MQQueuesContainer container,
+                                                            MQBrokerUtils utils,
+                                                            MQListenerConfig config,
+                                                            MQHealthListener healthListener) {
+        boolean elastic = config.getMaxConcurrency() > config.getConcurrency();
+        MQObservedMessageListener observed = elastic ? new MQObservedMessageListener(listener) : null;
+        MessageListener effective = elastic ? observed : listener;
+        MQListenerContainer listenerContainer = MQListenerContainer.builder()
+                .config(config)
+                .factory(() -> config.isPolling() ? MQContextPollingListener.builder()
                         .connectionFactory(cf)
                         .utils(utils)
                         .config(config)
-                        .listener(listener)
+                        .listener(effective)
+                        .engine(config.getPollingEngine())
+                        .burstSize(config.getPollingBurst())
+                        .minBackoff(config.getPollingMinBackoff())
+                        .maxBackoff(config.getPollingMaxBackoff())
+                        .healthListener(healthListener)
+                        .container(container)
+                        .build() : MQContextListener.builder()
+                        .connectionFactory(cf)
+                        .utils(utils)
+                        .config(config)
+                        .listener(effective)
                         .healthListener(healthListener)
                         .container(container)
                         .build())
-                .forEach(service::submit);
+                .build();
+        listenerContainer.setConcurrency(config.getConcurrency());
+        if (elastic) {
+            listenerContainer.autoscale(MQListenerAutoscaler.builder()
+                    .container(listenerContainer)
+                    .observed(observed)
+                    .probe(config.getDepthProbe())
+                    .minConcurrency(config.getConcurrency())
+                    .maxConcurrency(config.getMaxConcurrency())
+                    .config(config.getAutoscale())
+                    .build());
+        }
         if (log.isInfoEnabled()) {
             log.info("{} listeners created for {}", config.getConcurrency(), config.getQueue());
         }
+        return listenerContainer;
+    }
+
+    public static MQListenerContainer createBatchListeners(ConnectionFactory cf,
+                                                           MQBatchMessageListener listener,
+                                                           MQQueuesContainer container,
+                                                           MQBrokerUtils utils,
+                                                           MQListenerConfig config,
+                                                           MQHealthListener healthListener) {
+        if (log.isInfoEnabled()) {
+            log.info("Creating {} batch listeners", config.getConcurrency());
+        }
+        MQChunkStore chunks = chunks(config);
+        MQListenerContainer listenerContainer = MQListenerContainer.builder()
+                .config(config)
+                .async(false)
+                .factory(() -> MQContextBatchListener.builder()
+                        .connectionFactory(cf)
+                        .utils(utils)
+                        .config(config)
+                        .listener(listener)
+                        .batchSize(config.getBatchSize())
+                        .batchTimeout(config.getBatchTimeout())
+                        .maxRetries(config.getMaxRetries())
+                        .backout(config.getBackoutRouter())
+                        .chunks(chunks)
+                        .healthListener(healthListener)
+                        .container(container)
+                        .build())
+                .build();
+        listenerContainer.setConcurrency(config.getConcurrency());
+        if (log.isInfoEnabled()) {
+            log.info("{} batch listeners created for {}", config.getConcurrency(), config.getQueue());
+        }
+        return listenerContainer;
+    }
+
+    public static MQListenerContainer createPipelinedListeners(ConnectionFactory cf,
+                                                               MQAsyncMessageListener listener,
+                                                               MQQueuesContainer container,
+                                                               MQBrokerUtils utils,
+                                                               MQListenerConfig config,
+                                                               MQHealthListener healthListener) {
+        if (log.isInfoEnabled()) {
+            log.info("Creating {} pipelined listeners with {} messages in flight", config.getConcurrency(),
+                    config.getMaxInFlight());
+        }
+        MQAsyncMessageListener retrying = dedupe(config).wrapAsync(localRetry(config).wrapAsync(listener));
+        MQChunkStore chunks = chunks(config);
+        MQListenerContainer listenerContainer = MQListenerContainer.builder()
+                .config(config)
+                .async(false)
+                .factory(() -> MQContextPipelinedListener.builder()
+                        .connectionFactory(cf)
+                        .utils(utils)
+                        .config(config)
+                        .listener(retrying)
+                        .maxInFlight(config.getMaxInFlight())
+                        .chunks(chunks)
+                        .healthListener(healthListener)
+                        .container(container)
+                        .build())
+                .build();
+        listenerContainer.setConcurrency(config.getConcurrency());
+        if (log.isInfoEnabled()) {
+            log.info("{} pipelined listeners created for {}", config.getConcurrency(), config.getQueue());
+        }
+        return listenerContainer;
+    }
+
+    public static MQListenerContainer createKeyOrderedListener(ConnectionFactory cf,
+                                                               MessageListener listener,
+                                                               MQQueuesContainer container,
+                                                               MQBrokerUtils utils,
+                                                               MQListenerConfig config,
+                                                               MQHealthListener healthListener) {
+        if (log.isInfoEnabled()) {
+            log.info("Creating listener with {} lanes by {} for {}", config.getLanes(), config.getLaneKey(),
+                    config.getQueue());
+        }
+        MessageListener retrying = dedupe(config).wrap(localRetry(config).wrap(listener));
+        MQChunkStore chunks = chunks(config);
+        MQListenerContainer listenerContainer = MQListenerContainer.builder()
+                .config(config)
+                .async(false)
+                .scalable(false)
+                .factory(() -> MQContextKeyOrderedListener.builder()
+                        .connectionFactory(cf)
+                        .utils(utils)
+                        .config(config)
+                        .listener(retrying)
+                        .lanes(config.getLanes())
+                        .laneCapacity(config.getLaneCapacity())
+                        .keyProperty(config.getLaneKey())
+                        .chunks(chunks)
+                        .healthListener(healthListener)
+                        .container(container)
+                        .build())
+                .build();
+        listenerContainer.setConcurrency(1);
+        return listenerContainer;
+    }
+
+    private static MQChunkStore chunks(MQListenerConfig config) {
+        // shared by the consumers of the container, the chunks of a message can reach any of them
+        return new MQChunkStore(config.getMaxChunkGroups(), config.getChunkGroupTimeout());
+    }
+
+    private static MQLocalRetry localRetry(MQListenerConfig config) {
+        return new MQLocalRetry(name(config), config.getLocalRetry());
+    }
+
+    private static MQDedupe dedupe(MQListenerConfig config) {
+        return new MQDedupe(name(config), config.getMessageIdStore());
     }
 
-    private static void createListenersTemp(ConnectionFactory cf,
-                                            MessageListener listener,
-                                            MQQueuesContainer container,
-                                            MQListenerConfig config,
-                                            MQHealthListener healthListener) {
-        MQMultiConnectionListener.builder()
-                .connectionFactory(cf)
+    private static String name(MQListenerConfig config) {
+        return StringUtils.isNotBlank(config.getTempQueueAlias()) ? config.getTempQueueAlias() : config.getQueue();
+    }
+
+    private static MQListenerContainer createListenersTemp(ConnectionFactory cf,
+                                                           MessageListener listener,
+                                                           MQQueuesContainer container,
+                                                           MQListenerConfig config,
+                                                           MQHealthListener healthListener) {
+        MQListenerContainer listenerContainer = MQListenerContainer.builder()
                 .config(config)
-                .listener(listener)
-                .container(container)
-                .healthListener(healthListener)
-                .build()
-                .call();
+                .async(false)
+                .scalable(false)
+                .factory(() -> MQMultiConnectionListener.builder()
+                        .connectionFactory(cf)
+                        .config(config)
+                        .listener(listener)
+                        .container(container)
+                        .healthListener(healthListener)
+                        .build())
+                .build();
+        listenerContainer.setConcurrency(1);
+        return listenerContainer;
     }
 
 }
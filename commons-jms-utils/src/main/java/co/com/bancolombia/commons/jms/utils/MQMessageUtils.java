@@ -0,0 +1,101 @@
+package co.com.bancolombia.commons.jms.utils;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import javax.jms.BytesMessage;
+import javax.jms.JMSContext;
+import javax.jms.JMSException;
+import javax.jms.MapMessage;
+import javax.jms.Message;
+import javax.jms.ObjectMessage;
+import javax.jms.StreamMessage;
+import javax.jms.TextMessage;
+import java.util.Enumeration;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class MQMessageUtils {
+    private static final String LIBRARY_PROPERTIES = "CommonsJms";
+
+    /**
+     * Copies the client settable headers and the properties of a message, the rest of the headers are set by the
+     * provider on send
+     */
+    public static void copyHeadersAndProperties(Message source, Message target) throws JMSException {
+        if (source.getJMSCorrelationID() != null) {
+            target.setJMSCorrelationID(source.getJMSCorrelationID());
+        }
+        if (source.getJMSReplyTo() != null) {
+            target.setJMSReplyTo(source.getJMSReplyTo());
+        }
+        if (source.getJMSType() != null) {
+            target.setJMSType(source.getJMSType());
+        }
+        Enumeration<?> names = source.getPropertyNames();
+        while (names.hasMoreElements()) {
+            String name = (String) names.nextElement();
+            target.setObjectProperty(name, source.getObjectProperty(name));
+        }
+    }
+
+    /**
+     * Creates in the context a writable copy of a received message with its body, client settable headers and
+     * application properties, the JMSX and provider properties are set again by the provider on send. The compression
+     * and chunking properties are not copied because the received message has the inflated and reassembled body.
+     * Stream messages are not copied and the received message is returned
+     */
+    public static Message copyReceived(JMSContext context, Message source) throws JMSException {
+        Message target;
+        if (source instanceof TextMessage) {
+            target = context.createTextMessage(((TextMessage) source).getText());
+        } else if (source instanceof BytesMessage) {
+            target = context.createBytesMessage();
+            ((BytesMessage) target).writeBytes(readBody((BytesMessage) source));
+        } else if (source instanceof ObjectMessage) {
+            target = context.createObjectMessage(((ObjectMessage) source).getObject());
+        } else if (source instanceof MapMessage) {
+            target = copyMap(context, (MapMessage) source);
+        } else if (source instanceof StreamMessage) {
+            return source;
+        } else {
+            target = context.createMessage();
+        }
+        if (source.getJMSCorrelationID() != null) {
+            target.setJMSCorrelationID(source.getJMSCorrelationID());
+        }
+        if (source.getJMSReplyTo() != null) {
+            target.setJMSReplyTo(source.getJMSReplyTo());
+        }
+        if (source.getJMSType() != null) {
+            target.setJMSType(source.getJMSType());
+        }
+        Enumeration<?> names = source.getPropertyNames();
+        while (names.hasMoreElements()) {
+            String name = (String) names.nextElement();
+            if (!name.startsWith("JMSX") && !name.startsWith("JMS_") && !name.startsWith(LIBRARY_PROPERTIES)) {
+                target.setObjectProperty(name, source.getObjectProperty(name));
+            }
+        }
+        return target;
+    }
+
+    private static Message copyMap(JMSContext context, MapMessage source) throws JMSException {
+        MapMessage target = context.createMapMessage();
+        Enumeration<?> names = source.getMapNames();
+        while (names.hasMoreElements()) {
+            String name = (String) names.nextElement();
+            target.setObject(name, source.getObject(name));
+        }
+        return target;
+    }
+
+    /**
+     * Reads the whole body of a BytesMessage from the beginning, leaving it in read only mode
+     */
+    public static byte[] readBody(BytesMessage message) throws JMSException {
+        message.reset();
+        byte[] body = new byte[(int) message.getBodyLength()];
+        message.readBytes(body);
+        return body;
+    }
+}
@@ -0,0 +1,42 @@
+package co.com.bancolombia.commons.jms.internal.chunking;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import javax.jms.BytesMessage;
+import javax.jms.JMSException;
+import java.nio.charset.StandardCharsets;
+
+import static co.com.bancolombia.commons.jms.internal.chunking.MQMessageChunker.BODY_PROPERTY;
+import static co.com.bancolombia.commons.jms.internal.chunking.MQMessageChunker.GROUP_PROPERTY;
+import static co.com.bancolombia.commons.jms.internal.chunking.MQMessageChunker.LAST_PROPERTY;
+import static co.com.bancolombia.commons.jms.internal.chunking.MQMessageChunker.SEQUENCE_PROPERTY;
+import static co.com.bancolombia.commons.jms.internal.chunking.MQMessageChunker.TEXT_BODY;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class ChunkMocks {
+    public static BytesMessage chunk(String group, int sequence, boolean last, String body) throws JMSException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        BytesMessage chunk = mock(BytesMessage.class);
+        lenient().when(chunk.propertyExists(GROUP_PROPERTY)).thenReturn(true);
+        lenient().when(chunk.getStringProperty(GROUP_PROPERTY)).thenReturn(group);
+        lenient().when(chunk.getIntProperty(SEQUENCE_PROPERTY)).thenReturn(sequence);
+        lenient().when(chunk.getBooleanProperty(LAST_PROPERTY)).thenReturn(last);
+        lenient().when(chunk.getBodyLength()).thenReturn((long) bytes.length);
+        lenient().when(chunk.readBytes(any(byte[].class))).thenAnswer(invocation -> {
+            byte[] target = invocation.getArgument(0);
+            System.arraycopy(bytes, 0, target, 0, bytes.length);
+            return bytes.length;
+        });
+        return chunk;
+    }
+
+    public static BytesMessage textChunk(String group, int sequence, boolean last, String body) throws JMSException {
+        BytesMessage chunk = chunk(group, sequence, last, body);
+        lenient().when(chunk.getStringProperty(BODY_PROPERTY)).thenReturn(TEXT_BODY);
+        return chunk;
+    }
+}
@@ -0,0 +1,64 @@
+package co.com.bancolombia.commons.jms.internal.chunking;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.jms.BytesMessage;
+import javax.jms.JMSContext;
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.TextMessage;
+import java.util.Collections;
+import java.util.List;
+
+import static co.com.bancolombia.commons.jms.internal.chunking.MQMessageChunker.LAST_PROPERTY;
+import static co.com.bancolombia.commons.jms.internal.chunking.MQMessageChunker.SEQUENCE_PROPERTY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MQMessageChunkerTest {
+    @Mock
+    private JMSContext context;
+    @Mock
+    private TextMessage textMessage;
+    @Mock
+    private BytesMessage chunk;
+    private final MQMessageChunker chunker = new MQMessageChunker(10);
+
+    @Test
+    void shouldSplitTextInChunks() throws JMSException {
+        // Arrange
+        when(textMessage.getText()).thenReturn("0123456789012345678901234");
+        when(textMessage.getPropertyNames()).thenReturn(Collections.emptyEnumeration());
+        when(context.createBytesMessage()).thenReturn(chunk);
+        // Act
+        List<Message> chunks = chunker.split(context, textMessage);
+        // Assert
+        assertEquals(3, chunks.size());
+        verify(chunk).writeBytes(any(byte[].class), eq(0), eq(10));
+        verify(chunk).writeBytes(any(byte[].class), eq(10), eq(10));
+        verify(chunk).writeBytes(any(byte[].class), eq(20), eq(5));
+        verify(chunk).setIntProperty(SEQUENCE_PROPERTY, 3);
+        verify(chunk, times(2)).setBooleanProperty(LAST_PROPERTY, false);
+        verify(chunk).setBooleanProperty(LAST_PROPERTY, true);
+    }
+
+    @Test
+    void shouldNotSplitSmallText() throws JMSException {
+        // Arrange
+        when(textMessage.getText()).thenReturn("012");
+        // Act
+        List<Message> chunks = chunker.split(context, textMessage);
+        // Assert
+        assertEquals(1, chunks.size());
+        assertSame(textMessage, chunks.get(0));
+    }
+}
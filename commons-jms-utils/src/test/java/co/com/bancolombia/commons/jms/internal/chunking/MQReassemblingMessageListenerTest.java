@@ -0,0 +1,101 @@
+package co.com.bancolombia.commons.jms.internal.chunking;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.jms.BytesMessage;
+import javax.jms.JMSException;
+import javax.jms.JMSRuntimeException;
+import javax.jms.Message;
+import javax.jms.MessageListener;
+import javax.jms.TextMessage;
+
+import static co.com.bancolombia.commons.jms.internal.chunking.ChunkMocks.chunk;
+import static co.com.bancolombia.commons.jms.internal.chunking.MQMessageChunker.BODY_PROPERTY;
+import static co.com.bancolombia.commons.jms.internal.chunking.MQMessageChunker.TEXT_BODY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MQReassemblingMessageListenerTest {
+    @Mock
+    private MessageListener listener;
+    @Mock
+    private TextMessage textMessage;
+    private MQReassemblingMessageListener reassembling;
+
+    @BeforeEach
+    void setup() {
+        reassembling = new MQReassemblingMessageListener(listener, 1, 60000);
+    }
+
+    @Test
+    void shouldPassNotChunkedMessages() {
+        // Arrange
+        // Act
+        reassembling.onMessage(textMessage);
+        // Assert
+        verify(listener).onMessage(textMessage);
+    }
+
+    @Test
+    void shouldDeliverOneMessageWhenAllChunksReceived() throws JMSException {
+        // Arrange
+        BytesMessage first = chunk("group", 1, false, "hello ");
+        BytesMessage second = chunk("group", 2, false, "chunked ");
+        BytesMessage third = chunk("group", 3, true, "world");
+        when(first.getStringProperty(BODY_PROPERTY)).thenReturn(TEXT_BODY);
+        when(first.getJMSMessageID()).thenReturn("ID:1");
+        // Act
+        reassembling.onMessage(third);
+        reassembling.onMessage(first);
+        reassembling.onMessage(second);
+        // Assert
+        ArgumentCaptor<Message> captor = ArgumentCaptor.forClass(Message.class);
+        verify(listener, times(1)).onMessage(captor.capture());
+        TextMessage message = (TextMessage) captor.getValue();
+        assertEquals("hello chunked world", message.getText());
+        assertEquals("ID:1", message.getJMSMessageID());
+        assertEquals(0, reassembling.getPendingGroups());
+    }
+
+    @Test
+    void shouldKeepGroupWhenListenerFailsSoRedeliveredChunkCompletesIt() throws JMSException {
+        // Arrange
+        BytesMessage first = chunk("group", 1, false, "hello ");
+        BytesMessage last = chunk("group", 2, true, "world");
+        when(first.getStringProperty(BODY_PROPERTY)).thenReturn(TEXT_BODY);
+        doThrow(new JMSRuntimeException("handler failed")).doNothing().when(listener).onMessage(any());
+        reassembling.onMessage(first);
+        assertThrows(JMSRuntimeException.class, () -> reassembling.onMessage(last));
+        assertEquals(1, reassembling.getPendingGroups());
+        // Act
+        reassembling.onMessage(last);
+        // Assert
+        ArgumentCaptor<Message> captor = ArgumentCaptor.forClass(Message.class);
+        verify(listener, times(2)).onMessage(captor.capture());
+        assertEquals("hello world", ((TextMessage) captor.getValue()).getText());
+        assertEquals(0, reassembling.getPendingGroups());
+    }
+
+    @Test
+    void shouldRejectChunksWhenStoreIsFull() throws JMSException {
+        // Arrange
+        reassembling.onMessage(chunk("group-1", 1, false, "a"));
+        BytesMessage other = chunk("group-2", 1, false, "b");
+        // Act
+        // Assert
+        assertThrows(JMSRuntimeException.class, () -> reassembling.onMessage(other));
+        verify(listener, never()).onMessage(any());
+    }
+}
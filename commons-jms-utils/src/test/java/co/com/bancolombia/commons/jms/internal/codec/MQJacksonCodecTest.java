@@ -0,0 +1,84 @@
+package co.com.bancolombia.commons.jms.internal.codec;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.jms.BytesMessage;
+import javax.jms.JMSContext;
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.MessageFormatException;
+import javax.jms.TextMessage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MQJacksonCodecTest {
+    @Mock
+    private JMSContext context;
+    @Mock
+    private BytesMessage bytesMessage;
+    @Mock
+    private TextMessage textMessage;
+    private final MQJacksonCodec codec = new MQJacksonCodec();
+
+    @Test
+    void shouldEncodeAndDecodeThroughTheMessageBody() throws JMSException {
+        // Arrange
+        when(context.createBytesMessage()).thenReturn(bytesMessage);
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        doAnswer(invocation -> {
+            body.write(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2));
+            return null;
+        }).when(bytesMessage).writeBytes(any(byte[].class), anyInt(), anyInt());
+        // Act
+        Message encoded = codec.encode(context, new Sample("name", 10));
+        ByteArrayInputStream input = new ByteArrayInputStream(body.toByteArray());
+        when(bytesMessage.readBytes(any(byte[].class), anyInt())).thenAnswer(invocation ->
+                input.read(invocation.getArgument(0), 0, invocation.getArgument(1)));
+        Sample decoded = codec.decode(encoded, Sample.class);
+        // Assert
+        assertSame(bytesMessage, encoded);
+        assertEquals(new Sample("name", 10), decoded);
+    }
+
+    @Test
+    void shouldDecodeTextMessage() throws JMSException {
+        // Arrange
+        when(textMessage.getText()).thenReturn("{\"name\":\"text\",\"value\":1}");
+        // Act
+        Sample decoded = codec.decode(textMessage, Sample.class);
+        // Assert
+        assertEquals(new Sample("text", 1), decoded);
+    }
+
+    @Test
+    void shouldFailWhenInvalidBody() throws JMSException {
+        // Arrange
+        when(textMessage.getText()).thenReturn("not-json");
+        // Act
+        // Assert
+        assertThrows(MessageFormatException.class, () -> codec.decode(textMessage, Sample.class));
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Sample {
+        private String name;
+        private int value;
+    }
+}
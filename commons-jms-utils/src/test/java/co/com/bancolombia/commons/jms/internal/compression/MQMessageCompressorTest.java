@@ -0,0 +1,101 @@
+package co.com.bancolombia.commons.jms.internal.compression;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.jms.BytesMessage;
+import javax.jms.JMSContext;
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.TextMessage;
+import java.io.ByteArrayInputStream;
+import java.util.Collections;
+
+import static co.com.bancolombia.commons.jms.internal.compression.MQMessageCompressor.COMPRESSION_PROPERTY;
+import static co.com.bancolombia.commons.jms.internal.compression.MQMessageCompressor.DEFLATE;
+import static co.com.bancolombia.commons.jms.internal.compression.MQMessageCompressor.ORIGINAL_BODY_PROPERTY;
+import static co.com.bancolombia.commons.jms.internal.compression.MQMessageCompressor.TEXT_BODY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MQMessageCompressorTest {
+    private static final String TEXT = String.join("", Collections.nCopies(200, "{\"field\":\"value\"}"));
+    @Mock
+    private JMSContext context;
+    @Mock
+    private TextMessage textMessage;
+    @Mock
+    private BytesMessage bytesMessage;
+    private final MQMessageCompressor compressor = new MQMessageCompressor(1024, 6);
+
+    @Test
+    void shouldCompressTextAboveThreshold() throws JMSException {
+        // Arrange
+        when(textMessage.getText()).thenReturn(TEXT);
+        when(textMessage.getJMSCorrelationID()).thenReturn("correlation");
+        when(textMessage.getPropertyNames()).thenReturn(Collections.enumeration(Collections.singletonList("key")));
+        when(textMessage.getObjectProperty("key")).thenReturn("value");
+        when(context.createBytesMessage()).thenReturn(bytesMessage);
+        // Act
+        Message compressed = compressor.compress(context, textMessage);
+        // Assert
+        ArgumentCaptor<byte[]> body = ArgumentCaptor.forClass(byte[].class);
+        verify(bytesMessage).writeBytes(body.capture());
+        assertSame(bytesMessage, compressed);
+        assertTrue(body.getValue().length < TEXT.length());
+        verify(bytesMessage).setJMSCorrelationID("correlation");
+        verify(bytesMessage).setObjectProperty("key", "value");
+        verify(bytesMessage).setStringProperty(COMPRESSION_PROPERTY, DEFLATE);
+        verify(bytesMessage).setStringProperty(ORIGINAL_BODY_PROPERTY, TEXT_BODY);
+    }
+
+    @Test
+    void shouldNotCompressTextBelowThreshold() throws JMSException {
+        // Arrange
+        when(textMessage.getText()).thenReturn("small");
+        // Act
+        Message result = compressor.compress(context, textMessage);
+        // Assert
+        assertSame(textMessage, result);
+        verify(context, never()).createBytesMessage();
+    }
+
+    @Test
+    void shouldInflateToTextMessage() throws JMSException {
+        // Arrange
+        byte[] compressed = compressor.deflate(TEXT.getBytes());
+        ByteArrayInputStream input = new ByteArrayInputStream(compressed);
+        when(bytesMessage.getStringProperty(COMPRESSION_PROPERTY)).thenReturn(DEFLATE);
+        when(bytesMessage.getStringProperty(ORIGINAL_BODY_PROPERTY)).thenReturn(TEXT_BODY);
+        when(bytesMessage.getBodyLength()).thenReturn((long) compressed.length);
+        when(bytesMessage.readBytes(any(byte[].class))).thenAnswer(invocation -> {
+            byte[] target = invocation.getArgument(0);
+            return input.read(target, 0, target.length);
+        });
+        when(bytesMessage.getJMSMessageID()).thenReturn("ID:1");
+        // Act
+        Message inflated = MQMessageCompressor.inflate(bytesMessage);
+        // Assert
+        assertTrue(inflated instanceof TextMessage);
+        assertEquals(TEXT, ((TextMessage) inflated).getText());
+        assertEquals("ID:1", inflated.getJMSMessageID());
+    }
+
+    @Test
+    void shouldKeepNotCompressedMessage() throws JMSException {
+        // Arrange
+        // Act
+        Message result = MQMessageCompressor.inflate(textMessage);
+        // Assert
+        assertSame(textMessage, result);
+    }
+}
@@ -0,0 +1,102 @@
+package co.com.bancolombia.commons.jms.internal.dedupe;
+
+import co.com.bancolombia.commons.jms.api.MQAsyncMessageListener;
+import co.com.bancolombia.commons.jms.api.MQMessageIdStore;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.MessageListener;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MQDedupeTest {
+    private static final String ID = "ID:414d5120514d31202020202020202020000000000000000a";
+    @Mock
+    private MQMessageIdStore store;
+    @Mock
+    private MessageListener listener;
+    @Mock
+    private MQAsyncMessageListener asyncListener;
+    @Mock
+    private Message message;
+
+    @Test
+    void shouldNotWrapWithoutStore() {
+        // Act
+        MessageListener wrapped = new MQDedupe("QUEUE.NAME", null).wrap(listener);
+        // Assert
+        assertSame(listener, wrapped);
+    }
+
+    @Test
+    void shouldProcessAndRecordNewMessage() throws JMSException {
+        // Arrange
+        when(message.getJMSMessageID()).thenReturn(ID);
+        // Act
+        new MQDedupe("QUEUE.NAME", store).wrap(listener).onMessage(message);
+        // Assert
+        verify(listener).onMessage(message);
+        verify(store).add(ID);
+    }
+
+    @Test
+    void shouldSkipDuplicatedMessage() throws JMSException {
+        // Arrange
+        when(message.getJMSMessageID()).thenReturn(ID);
+        when(store.contains(ID)).thenReturn(true);
+        // Act
+        new MQDedupe("QUEUE.NAME", store).wrap(listener).onMessage(message);
+        // Assert
+        verify(listener, never()).onMessage(message);
+        verify(store, never()).add(any());
+    }
+
+    @Test
+    void shouldNotRecordFailedMessage() throws JMSException {
+        // Arrange
+        when(message.getJMSMessageID()).thenReturn(ID);
+        doThrow(new IllegalStateException("failed")).when(listener).onMessage(message);
+        MessageListener wrapped = new MQDedupe("QUEUE.NAME", store).wrap(listener);
+        // Act
+        assertThrows(IllegalStateException.class, () -> wrapped.onMessage(message));
+        // Assert
+        verify(store, never()).add(any());
+    }
+
+    @Test
+    void shouldRecordAsyncMessageOnSuccess() throws JMSException {
+        // Arrange
+        when(message.getJMSMessageID()).thenReturn(ID);
+        when(asyncListener.onMessageAsync(message)).thenReturn(Mono.empty());
+        // Act
+        Mono<Object> result = new MQDedupe("QUEUE.NAME", store).wrapAsync(asyncListener).onMessageAsync(message);
+        // Assert
+        StepVerifier.create(result).verifyComplete();
+        verify(store).add(ID);
+    }
+
+    @Test
+    void shouldSkipDuplicatedAsyncMessage() throws JMSException {
+        // Arrange
+        when(message.getJMSMessageID()).thenReturn(ID);
+        when(store.contains(ID)).thenReturn(true);
+        // Act
+        Mono<Object> result = new MQDedupe("QUEUE.NAME", store).wrapAsync(asyncListener).onMessageAsync(message);
+        // Assert
+        StepVerifier.create(result).verifyComplete();
+        verify(asyncListener, never()).onMessageAsync(message);
+    }
+}
@@ -0,0 +1,85 @@
+package co.com.bancolombia.commons.jms.internal.dedupe;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MQMessageIdCacheTest {
+    private final AtomicLong now = new AtomicLong(1000);
+    private final MQMessageIdCache cache = new MQMessageIdCache(4, 100, now::get);
+
+    @Test
+    void shouldContainAddedId() {
+        // Act
+        cache.add(id(1));
+        // Assert
+        assertTrue(cache.contains(id(1)));
+        assertFalse(cache.contains(id(2)));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void shouldNotContainExpiredId() {
+        // Arrange
+        cache.add(id(1));
+        // Act
+        now.addAndGet(101);
+        // Assert
+        assertFalse(cache.contains(id(1)));
+    }
+
+    @Test
+    void shouldRefreshExistingId() {
+        // Arrange
+        cache.add(id(1));
+        now.addAndGet(80);
+        // Act
+        cache.add(id(1));
+        now.addAndGet(80);
+        // Assert
+        assertTrue(cache.contains(id(1)));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void shouldEvictOldestWhenFull() {
+        // Act
+        for (int i = 0; i < 1000; i++) {
+            cache.add(id(i));
+        }
+        // Assert
+        assertEquals(4, cache.size());
+        for (int i = 0; i < 996; i++) {
+            assertFalse(cache.contains(id(i)));
+        }
+        for (int i = 996; i < 1000; i++) {
+            assertTrue(cache.contains(id(i)));
+        }
+    }
+
+    @Test
+    void shouldIgnoreNonMQIds() {
+        // Act
+        cache.add("custom-id");
+        cache.add("ID:not-hexadecimal-not-hexadecimal-not-hexadecimal");
+        cache.add(null);
+        // Assert
+        assertFalse(cache.contains("custom-id"));
+        assertFalse(cache.contains(null));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void shouldFailWithInvalidCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new MQMessageIdCache(0, 100));
+    }
+
+    private static String id(int sequence) {
+        return String.format("ID:414d5120514d31202020202020202020%016x", sequence);
+    }
+}
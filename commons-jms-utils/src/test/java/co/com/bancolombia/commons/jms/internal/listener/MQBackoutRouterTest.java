@@ -0,0 +1,149 @@
+package co.com.bancolombia.commons.jms.internal.listener;
+
+import co.com.bancolombia.commons.jms.api.MQMessageCreator;
+import co.com.bancolombia.commons.jms.api.MQQueueMessageSenderSync;
+import co.com.bancolombia.commons.jms.internal.message.MQBytesMessageView;
+import co.com.bancolombia.commons.jms.internal.message.MQTextMessageView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.jms.BytesMessage;
+import javax.jms.JMSContext;
+import javax.jms.JMSException;
+import javax.jms.JMSRuntimeException;
+import javax.jms.StreamMessage;
+import javax.jms.TextMessage;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static co.com.bancolombia.commons.jms.internal.chunking.MQMessageChunker.BODY_PROPERTY;
+import static co.com.bancolombia.commons.jms.internal.chunking.MQMessageChunker.GROUP_PROPERTY;
+import static co.com.bancolombia.commons.jms.internal.chunking.MQMessageChunker.LAST_PROPERTY;
+import static co.com.bancolombia.commons.jms.internal.chunking.MQMessageChunker.SEQUENCE_PROPERTY;
+import static co.com.bancolombia.commons.jms.internal.compression.MQMessageCompressor.COMPRESSION_PROPERTY;
+import static co.com.bancolombia.commons.jms.internal.compression.MQMessageCompressor.ORIGINAL_BODY_PROPERTY;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MQBackoutRouterTest {
+    @Mock
+    private MQQueueMessageSenderSync sender;
+    @Mock
+    private JMSContext context;
+    @Mock
+    private TextMessage message;
+    @Mock
+    private TextMessage copy;
+    private MQBackoutRouter router;
+
+    @BeforeEach
+    void setup() {
+        router = new MQBackoutRouter(sender, "QUEUE.NAME", "QUEUE.NAME.BACKOUT");
+    }
+
+    @Test
+    void shouldForwardCopyWithFailure() throws JMSException {
+        // Arrange
+        when(message.getText()).thenReturn("body");
+        when(message.getJMSCorrelationID()).thenReturn("correlation");
+        when(message.getPropertyNames()).thenReturn(Collections.enumeration(
+                Arrays.asList("custom", "JMSXDeliveryCount", "JMS_IBM_Format")));
+        when(message.getObjectProperty("custom")).thenReturn("value");
+        when(message.getIntProperty("JMSXDeliveryCount")).thenReturn(4);
+        when(context.createTextMessage("body")).thenReturn(copy);
+        // Act
+        router.route(message, new IllegalStateException("poison"));
+        // Assert
+        ArgumentCaptor<MQMessageCreator> creator = ArgumentCaptor.forClass(MQMessageCreator.class);
+        verify(sender).sendToQueue(eq("QUEUE.NAME.BACKOUT"), creator.capture());
+        assertSame(copy, creator.getValue().create(context));
+        verify(copy).setJMSCorrelationID("correlation");
+        verify(copy).setObjectProperty("custom", "value");
+        verify(copy, never()).setObjectProperty(eq("JMSXDeliveryCount"), any());
+        verify(copy, never()).setObjectProperty(eq("JMS_IBM_Format"), any());
+        verify(copy).setStringProperty(MQBackoutRouter.SOURCE_QUEUE, "QUEUE.NAME");
+        verify(copy).setStringProperty(MQBackoutRouter.EXCEPTION, IllegalStateException.class.getName());
+        verify(copy).setStringProperty(MQBackoutRouter.REASON, "poison");
+        verify(copy).setIntProperty(MQBackoutRouter.DELIVERY_COUNT, 4);
+        verify(copy).setLongProperty(eq(MQBackoutRouter.TIMESTAMP), anyLong());
+    }
+
+    @Test
+    void shouldForwardInflatedMessageWithoutCompressionProperties() throws JMSException {
+        // Arrange
+        BytesMessage compressed = mock(BytesMessage.class);
+        when(compressed.getPropertyNames()).thenReturn(Collections.enumeration(
+                Arrays.asList("custom", COMPRESSION_PROPERTY, ORIGINAL_BODY_PROPERTY)));
+        when(compressed.getObjectProperty("custom")).thenReturn("value");
+        when(context.createTextMessage("inflated body")).thenReturn(copy);
+        // Act
+        router.route(new MQTextMessageView(compressed, "inflated body"), new IllegalStateException("poison"));
+        // Assert
+        ArgumentCaptor<MQMessageCreator> creator = ArgumentCaptor.forClass(MQMessageCreator.class);
+        verify(sender).sendToQueue(eq("QUEUE.NAME.BACKOUT"), creator.capture());
+        assertSame(copy, creator.getValue().create(context));
+        verify(copy).setObjectProperty("custom", "value");
+        verify(copy, never()).setObjectProperty(eq(COMPRESSION_PROPERTY), any());
+        verify(copy, never()).setObjectProperty(eq(ORIGINAL_BODY_PROPERTY), any());
+    }
+
+    @Test
+    void shouldForwardReassembledMessageWithoutChunkProperties() throws JMSException {
+        // Arrange
+        BytesMessage firstChunk = mock(BytesMessage.class);
+        BytesMessage bytesCopy = mock(BytesMessage.class);
+        byte[] body = "whole body".getBytes(StandardCharsets.UTF_8);
+        when(firstChunk.getPropertyNames()).thenReturn(Collections.enumeration(
+                Arrays.asList("custom", GROUP_PROPERTY, SEQUENCE_PROPERTY, LAST_PROPERTY, BODY_PROPERTY)));
+        when(firstChunk.getObjectProperty("custom")).thenReturn("value");
+        when(context.createBytesMessage()).thenReturn(bytesCopy);
+        // Act
+        router.route(new MQBytesMessageView(firstChunk, body), new IllegalStateException("poison"));
+        // Assert
+        ArgumentCaptor<MQMessageCreator> creator = ArgumentCaptor.forClass(MQMessageCreator.class);
+        verify(sender).sendToQueue(eq("QUEUE.NAME.BACKOUT"), creator.capture());
+        assertSame(bytesCopy, creator.getValue().create(context));
+        verify(bytesCopy).writeBytes(body);
+        verify(bytesCopy).setObjectProperty("custom", "value");
+        verify(bytesCopy, never()).setObjectProperty(eq(GROUP_PROPERTY), any());
+        verify(bytesCopy, never()).setObjectProperty(eq(SEQUENCE_PROPERTY), any());
+        verify(bytesCopy, never()).setObjectProperty(eq(LAST_PROPERTY), any());
+        verify(bytesCopy, never()).setObjectProperty(eq(BODY_PROPERTY), any());
+    }
+
+    @Test
+    void shouldForwardStreamMessageAsReceived() throws JMSException {
+        // Arrange
+        StreamMessage stream = mock(StreamMessage.class);
+        // Act
+        router.route(stream, new IllegalStateException("poison"));
+        // Assert
+        ArgumentCaptor<MQMessageCreator> creator = ArgumentCaptor.forClass(MQMessageCreator.class);
+        verify(sender).sendToQueue(eq("QUEUE.NAME.BACKOUT"), creator.capture());
+        assertSame(stream, creator.getValue().create(context));
+    }
+
+    @Test
+    void shouldFailWhenForwardFails() {
+        // Arrange
+        when(sender.sendToQueue(eq("QUEUE.NAME.BACKOUT"), any(MQMessageCreator.class)))
+                .thenThrow(new JMSRuntimeException("unavailable"));
+        IllegalStateException error = new IllegalStateException("poison");
+        // Act
+        // Assert
+        assertThrows(JMSRuntimeException.class, () -> router.route(message, error));
+    }
+}
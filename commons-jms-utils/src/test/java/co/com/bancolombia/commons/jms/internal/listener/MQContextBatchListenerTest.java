@@ -0,0 +1,181 @@
+package co.com.bancolombia.commons.jms.internal.listener;
+
+import co.com.bancolombia.commons.jms.api.MQBatchMessageListener;
+import co.com.bancolombia.commons.jms.api.MQBrokerUtils;
+import co.com.bancolombia.commons.jms.api.exceptions.MQHealthListener;
+import co.com.bancolombia.commons.jms.internal.models.MQListenerConfig;
+import co.com.bancolombia.commons.jms.utils.MQQueuesContainerImp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.jms.ConnectionFactory;
+import javax.jms.JMSConsumer;
+import javax.jms.JMSContext;
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.Queue;
+import javax.jms.TextMessage;
+import java.util.Arrays;
+import java.util.List;
+
+import static co.com.bancolombia.commons.jms.internal.chunking.ChunkMocks.textChunk;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MQContextBatchListenerTest {
+    @Mock
+    private ConnectionFactory connectionFactory;
+    @Mock
+    private MQBatchMessageListener listener;
+    @Mock
+    private JMSContext context;
+    @Mock
+    private MQBrokerUtils utils;
+    @Mock
+    private Queue queue;
+    @Mock
+    private JMSConsumer consumer;
+    @Mock
+    private MQHealthListener healthListener;
+    @Mock
+    private Message message1;
+    @Mock
+    private Message message2;
+    @Mock
+    private MQBackoutRouter backout;
+    private MQContextBatchListener batchListener;
+
+    @AfterEach
+    void tearDown() {
+        batchListener.stop();
+    }
+
+    @Test
+    void shouldCommitBatch() {
+        // Arrange
+        batchListener = build(-1);
+        stubConsumer();
+        // Act
+        batchListener.call();
+        // Assert
+        verify(listener, timeout(1000)).onMessages(Arrays.asList(message1, message2));
+        verify(context, timeout(1000)).commit();
+        verify(context, never()).rollback();
+    }
+
+    @Test
+    void shouldRollbackWhenListenerFails() {
+        // Arrange
+        batchListener = build(-1);
+        stubConsumer();
+        doThrow(new IllegalStateException("failed")).when(listener).onMessages(Arrays.asList(message1, message2));
+        // Act
+        batchListener.call();
+        // Assert
+        verify(context, timeout(1000)).rollback();
+        verify(context, never()).commit();
+    }
+
+    @Test
+    void shouldDiscardBatchAfterRetries() throws JMSException {
+        // Arrange
+        batchListener = build(1);
+        stubConsumer();
+        doThrow(new IllegalStateException("failed")).when(listener).onMessages(Arrays.asList(message1, message2));
+        when(message1.getIntProperty("JMSXDeliveryCount")).thenReturn(2);
+        // Act
+        batchListener.call();
+        // Assert
+        verify(context, timeout(1000)).commit();
+        verify(context, never()).rollback();
+    }
+
+    @Test
+    void shouldMoveBatchToBackoutAfterRetries() throws JMSException {
+        // Arrange
+        IllegalStateException error = new IllegalStateException("failed");
+        batchListener = build(1, backout);
+        stubConsumer();
+        doThrow(error).when(listener).onMessages(Arrays.asList(message1, message2));
+        when(message1.getIntProperty("JMSXDeliveryCount")).thenReturn(2);
+        // Act
+        batchListener.call();
+        // Assert
+        verify(context, timeout(1000)).commit();
+        verify(backout).route(message1, error);
+        verify(backout).route(message2, error);
+        verify(context, never()).rollback();
+    }
+
+    @Test
+    void shouldRollbackBatchWhenBackoutFails() throws JMSException {
+        // Arrange
+        batchListener = build(1, backout);
+        stubConsumer();
+        doThrow(new IllegalStateException("failed")).when(listener).onMessages(Arrays.asList(message1, message2));
+        when(message1.getIntProperty("JMSXDeliveryCount")).thenReturn(2);
+        doThrow(new JMSException("unavailable")).when(backout).route(any(), any());
+        // Act
+        batchListener.call();
+        // Assert
+        verify(context, timeout(1000)).rollback();
+        verify(context, never()).commit();
+    }
+
+    @Test
+    void shouldReassembleChunksInBatch() throws JMSException {
+        // Arrange
+        Message first = textChunk("group", 1, false, "hello ");
+        Message last = textChunk("group", 2, true, "world");
+        batchListener = build(-1);
+        stubConsumer();
+        when(consumer.receive(anyLong())).thenReturn(first, last, null);
+        // Act
+        batchListener.call();
+        // Assert
+        ArgumentCaptor<List<Message>> captor = ArgumentCaptor.forClass(List.class);
+        verify(listener, timeout(1000)).onMessages(captor.capture());
+        assertEquals(1, captor.getValue().size());
+        assertEquals("hello world", ((TextMessage) captor.getValue().get(0)).getText());
+        verify(context, timeout(1000)).commit();
+    }
+
+    private MQContextBatchListener build(int maxRetries) {
+        return build(maxRetries, null);
+    }
+
+    private MQContextBatchListener build(int maxRetries, MQBackoutRouter backout) {
+        return MQContextBatchListener.builder()
+                .config(MQListenerConfig.builder().queue("QUEUE.NAME").build())
+                .listener(listener)
+                .batchSize(2)
+                .batchTimeout(100)
+                .maxRetries(maxRetries)
+                .backout(backout)
+                .connectionFactory(connectionFactory)
+                .container(new MQQueuesContainerImp())
+                .healthListener(healthListener)
+                .utils(utils)
+                .build();
+    }
+
+    private void stubConsumer() {
+        when(connectionFactory.createContext(JMSContext.SESSION_TRANSACTED)).thenReturn(context);
+        when(context.createQueue(anyString())).thenReturn(queue);
+        when(context.createConsumer(queue)).thenReturn(consumer);
+        lenient().when(consumer.receive(anyLong())).thenReturn(message1, message2, null);
+    }
+}
@@ -0,0 +1,164 @@
+package co.com.bancolombia.commons.jms.internal.listener;
+
+import co.com.bancolombia.commons.jms.api.MQBrokerUtils;
+import co.com.bancolombia.commons.jms.api.exceptions.MQHealthListener;
+import co.com.bancolombia.commons.jms.internal.models.MQListenerConfig;
+import co.com.bancolombia.commons.jms.utils.MQQueuesContainerImp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.jms.ConnectionFactory;
+import javax.jms.JMSConsumer;
+import javax.jms.JMSContext;
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.MessageListener;
+import javax.jms.Queue;
+import javax.jms.TextMessage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static co.com.bancolombia.commons.jms.internal.chunking.ChunkMocks.textChunk;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MQContextKeyOrderedListenerTest {
+    @Mock
+    private ConnectionFactory connectionFactory;
+    @Mock
+    private MessageListener listener;
+    @Mock
+    private JMSContext context;
+    @Mock
+    private MQBrokerUtils utils;
+    @Mock
+    private Queue queue;
+    @Mock
+    private JMSConsumer consumer;
+    @Mock
+    private MQHealthListener healthListener;
+    @Mock
+    private Message message1;
+    @Mock
+    private Message message2;
+    @Mock
+    private Message message3;
+    private MQContextKeyOrderedListener keyOrderedListener;
+
+    @BeforeEach
+    void setup() throws JMSException {
+        keyOrderedListener = MQContextKeyOrderedListener.builder()
+                .config(MQListenerConfig.builder().queue("QUEUE.NAME").build())
+                .listener(listener)
+                .lanes(4)
+                .laneCapacity(2)
+                .connectionFactory(connectionFactory)
+                .container(new MQQueuesContainerImp())
+                .healthListener(healthListener)
+                .utils(utils)
+                .build();
+        lenient().when(message1.getStringProperty("JMSXGroupID")).thenReturn("account-1");
+        lenient().when(message2.getStringProperty("JMSXGroupID")).thenReturn("account-2");
+        lenient().when(message3.getStringProperty("JMSXGroupID")).thenReturn("account-1");
+    }
+
+    @AfterEach
+    void tearDown() {
+        keyOrderedListener.stop();
+    }
+
+    @Test
+    void shouldChooseSameLaneForSameKey() {
+        // Act
+        int lane1 = keyOrderedListener.laneOf(message1, 1);
+        int lane3 = keyOrderedListener.laneOf(message3, 3);
+        // Assert
+        assertEquals(lane1, lane3);
+    }
+
+    @Test
+    void shouldProcessKeyInOrderAndAcknowledge() {
+        // Arrange
+        stubConsumer();
+        List<Message> processed = Collections.synchronizedList(new ArrayList<>());
+        doAnswer(invocation -> processed.add(invocation.getArgument(0))).when(listener).onMessage(any());
+        // Act
+        keyOrderedListener.call();
+        // Assert
+        verify(listener, timeout(2000)).onMessage(message3);
+        verify(context, timeout(2000).atLeastOnce()).acknowledge();
+        List<Message> sameKey = new ArrayList<>(processed);
+        sameKey.remove(message2);
+        assertEquals(Arrays.asList(message1, message3), sameKey);
+        verify(context, never()).recover();
+    }
+
+    @Test
+    void shouldRecoverWhenSomeMessageFails() {
+        // Arrange
+        stubConsumer();
+        CountDownLatch started = new CountDownLatch(1);
+        // message1 completes after the failure of message2 is tracked, so its acknowledge can not be settled alone
+        doAnswer(invocation -> {
+            started.countDown();
+            long deadline = System.currentTimeMillis() + 2000;
+            while (!keyOrderedListener.getTracker().hasFailures() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(1);
+            }
+            return null;
+        }).when(listener).onMessage(message1);
+        doAnswer(invocation -> {
+            started.await(2, TimeUnit.SECONDS);
+            throw new IllegalStateException("failed");
+        }).when(listener).onMessage(message2);
+        // Act
+        keyOrderedListener.call();
+        // Assert
+        verify(context, timeout(2000)).recover();
+        verify(context, never()).acknowledge();
+    }
+
+    @Test
+    void shouldReassembleChunksInLane() throws JMSException {
+        // Arrange
+        Message first = textChunk("group", 1, false, "hello ");
+        Message last = textChunk("group", 2, true, "world");
+        when(connectionFactory.createContext(JMSContext.CLIENT_ACKNOWLEDGE)).thenReturn(context);
+        when(context.createQueue(anyString())).thenReturn(queue);
+        when(context.createConsumer(queue)).thenReturn(consumer);
+        when(consumer.receive(anyLong())).thenReturn(first, last, null);
+        // Act
+        keyOrderedListener.call();
+        // Assert
+        ArgumentCaptor<Message> captor = ArgumentCaptor.forClass(Message.class);
+        verify(listener, timeout(2000)).onMessage(captor.capture());
+        assertEquals("hello world", ((TextMessage) captor.getValue()).getText());
+        verify(context, timeout(2000).atLeastOnce()).acknowledge();
+        verify(context, never()).recover();
+    }
+
+    private void stubConsumer() {
+        when(connectionFactory.createContext(JMSContext.CLIENT_ACKNOWLEDGE)).thenReturn(context);
+        when(context.createQueue(anyString())).thenReturn(queue);
+        when(context.createConsumer(queue)).thenReturn(consumer);
+        when(consumer.receive(anyLong())).thenReturn(message1, message2, message3, null);
+    }
+}
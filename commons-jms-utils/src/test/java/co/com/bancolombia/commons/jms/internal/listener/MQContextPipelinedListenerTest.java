@@ -0,0 +1,126 @@
+package co.com.bancolombia.commons.jms.internal.listener;
+
+import co.com.bancolombia.commons.jms.api.MQAsyncMessageListener;
+import co.com.bancolombia.commons.jms.api.MQBrokerUtils;
+import co.com.bancolombia.commons.jms.api.exceptions.MQHealthListener;
+import co.com.bancolombia.commons.jms.internal.models.MQListenerConfig;
+import co.com.bancolombia.commons.jms.utils.MQQueuesContainerImp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import javax.jms.ConnectionFactory;
+import javax.jms.JMSConsumer;
+import javax.jms.JMSContext;
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.Queue;
+import javax.jms.TextMessage;
+
+import static co.com.bancolombia.commons.jms.internal.chunking.ChunkMocks.textChunk;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MQContextPipelinedListenerTest {
+    @Mock
+    private ConnectionFactory connectionFactory;
+    @Mock
+    private MQAsyncMessageListener listener;
+    @Mock
+    private JMSContext context;
+    @Mock
+    private MQBrokerUtils utils;
+    @Mock
+    private Queue queue;
+    @Mock
+    private JMSConsumer consumer;
+    @Mock
+    private MQHealthListener healthListener;
+    @Mock
+    private Message message1;
+    @Mock
+    private Message message2;
+    private MQContextPipelinedListener pipelinedListener;
+
+    @BeforeEach
+    void setup() {
+        pipelinedListener = MQContextPipelinedListener.builder()
+                .config(MQListenerConfig.builder().queue("QUEUE.NAME").build())
+                .listener(listener)
+                .maxInFlight(2)
+                .connectionFactory(connectionFactory)
+                .container(new MQQueuesContainerImp())
+                .healthListener(healthListener)
+                .utils(utils)
+                .build();
+        when(connectionFactory.createContext(JMSContext.CLIENT_ACKNOWLEDGE)).thenReturn(context);
+        when(context.createQueue(anyString())).thenReturn(queue);
+        when(context.createConsumer(queue)).thenReturn(consumer);
+        lenient().when(consumer.receive(anyLong())).thenReturn(message1, message2, null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pipelinedListener.stop();
+    }
+
+    @Test
+    void shouldAcknowledgeWhenInFlightMessagesComplete() {
+        // Arrange
+        Sinks.One<Object> first = Sinks.one();
+        when(listener.onMessageAsync(message1)).thenReturn(first.asMono());
+        when(listener.onMessageAsync(message2)).thenReturn(Mono.just("done"));
+        // Act
+        pipelinedListener.call();
+        // Assert
+        verify(listener, timeout(1000)).onMessageAsync(message2);
+        verify(context, after(100).never()).acknowledge();
+        first.tryEmitEmpty();
+        verify(context, timeout(2000)).acknowledge();
+        verify(context, never()).recover();
+    }
+
+    @Test
+    void shouldRecoverWhenSomeMessageFails() {
+        // Arrange
+        when(consumer.receive(anyLong())).thenReturn(message1, (Message) null);
+        when(listener.onMessageAsync(message1)).thenReturn(Mono.error(new IllegalStateException("failed")));
+        // Act
+        pipelinedListener.call();
+        // Assert
+        verify(context, timeout(2000)).recover();
+        verify(context, never()).acknowledge();
+    }
+
+    @Test
+    void shouldReassembleChunksBeforeDispatching() throws JMSException {
+        // Arrange
+        Message first = textChunk("group", 1, false, "hello ");
+        Message last = textChunk("group", 2, true, "world");
+        when(consumer.receive(anyLong())).thenReturn(first, last, null);
+        when(listener.onMessageAsync(any())).thenReturn(Mono.just("done"));
+        // Act
+        pipelinedListener.call();
+        // Assert
+        ArgumentCaptor<Message> captor = ArgumentCaptor.forClass(Message.class);
+        verify(listener, timeout(1000)).onMessageAsync(captor.capture());
+        assertEquals("hello world", ((TextMessage) captor.getValue()).getText());
+        verify(context, timeout(2000).atLeastOnce()).acknowledge();
+        verify(context, never()).recover();
+    }
+}
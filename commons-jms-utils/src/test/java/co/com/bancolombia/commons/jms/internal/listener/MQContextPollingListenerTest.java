@@ -0,0 +1,175 @@
+package co.com.bancolombia.commons.jms.internal.listener;
+
+import co.com.bancolombia.commons.jms.api.MQBrokerUtils;
+import co.com.bancolombia.commons.jms.api.exceptions.MQHealthListener;
+import co.com.bancolombia.commons.jms.internal.models.MQListenerConfig;
+import co.com.bancolombia.commons.jms.utils.MQQueuesContainerImp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.jms.ConnectionFactory;
+import javax.jms.JMSConsumer;
+import javax.jms.JMSContext;
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.MessageListener;
+import javax.jms.Queue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MQContextPollingListenerTest {
+    @Mock
+    private ConnectionFactory connectionFactory;
+    @Mock
+    private MessageListener listener;
+    @Mock
+    private JMSContext context;
+    @Mock
+    private MQBrokerUtils utils;
+    @Mock
+    private Queue queue;
+    @Mock
+    private JMSConsumer consumer;
+    @Mock
+    private MQHealthListener healthListener;
+    @Mock
+    private Message message1;
+    @Mock
+    private Message message2;
+    private MQPollingEngine engine;
+    private MQContextPollingListener pollingListener;
+
+    @BeforeEach
+    void setup() {
+        when(connectionFactory.createContext(JMSContext.CLIENT_ACKNOWLEDGE)).thenReturn(context);
+        when(context.createQueue(anyString())).thenReturn(queue);
+        when(context.createConsumer(queue)).thenReturn(consumer);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pollingListener.stop();
+        if (engine != null) {
+            engine.shutdown();
+        }
+    }
+
+    @Test
+    void shouldDrainAndAcknowledgeInSharedEngine() {
+        // Arrange
+        engine = new MQPollingEngine(1);
+        pollingListener = build(engine);
+        when(consumer.receiveNoWait()).thenReturn(message1, message2, null);
+        // Act
+        pollingListener.call();
+        // Assert
+        verify(listener, timeout(1000)).onMessage(message1);
+        verify(listener, timeout(1000)).onMessage(message2);
+        verify(context, timeout(1000).times(2)).acknowledge();
+        verify(consumer, never()).receive(anyLong());
+    }
+
+    @Test
+    void shouldReceiveInOwnThread() {
+        // Arrange
+        pollingListener = build(null);
+        lenient().when(consumer.receive(anyLong())).thenReturn(message1, (Message) null);
+        when(consumer.receiveNoWait()).thenReturn(message2, (Message) null);
+        // Act
+        pollingListener.call();
+        // Assert
+        verify(listener, timeout(1000)).onMessage(message1);
+        verify(listener, timeout(1000)).onMessage(message2);
+        verify(context, timeout(1000).times(2)).acknowledge();
+    }
+
+    @Test
+    void shouldRecoverWhenListenerFails() {
+        // Arrange
+        engine = new MQPollingEngine(1);
+        pollingListener = build(engine);
+        when(consumer.receiveNoWait()).thenReturn(message1, (Message) null);
+        doThrow(new IllegalStateException("failed")).when(listener).onMessage(message1);
+        // Act
+        pollingListener.call();
+        // Assert
+        verify(context, timeout(1000)).recover();
+        verify(context, never()).acknowledge();
+    }
+
+    @Test
+    void shouldRecoverAndContinueWhenListenerThrowsCheckedException() {
+        // Arrange
+        engine = new MQPollingEngine(1);
+        pollingListener = build(engine);
+        when(consumer.receiveNoWait()).thenReturn(message1, message2, null);
+        doAnswer(invocation -> {
+            throw new JMSException("checked");
+        }).when(listener).onMessage(message1);
+        // Act
+        pollingListener.call();
+        // Assert
+        verify(context, timeout(1000)).recover();
+        verify(listener, timeout(1000)).onMessage(message2);
+        verify(context, timeout(1000)).acknowledge();
+    }
+
+    @Test
+    void shouldKeepOwnThreadWhenListenerThrowsCheckedException() {
+        // Arrange
+        pollingListener = build(null);
+        lenient().when(consumer.receive(anyLong())).thenReturn(message1, message2, null);
+        lenient().when(consumer.receiveNoWait()).thenReturn((Message) null);
+        doAnswer(invocation -> {
+            throw new JMSException("checked");
+        }).when(listener).onMessage(message1);
+        // Act
+        pollingListener.call();
+        // Assert
+        verify(context, timeout(1000)).recover();
+        verify(listener, timeout(1000)).onMessage(message2);
+        verify(context, timeout(1000)).acknowledge();
+    }
+
+    @Test
+    void shouldIncreaseBackoffWhileIdle() {
+        // Arrange
+        engine = new MQPollingEngine(1);
+        pollingListener = build(engine);
+        // Act
+        pollingListener.call();
+        verify(consumer, timeout(1000).atLeast(5)).receiveNoWait();
+        // Assert
+        assertEquals(8, pollingListener.getBackoff());
+        verify(listener, never()).onMessage(message1);
+    }
+
+    private MQContextPollingListener build(MQPollingEngine engine) {
+        return MQContextPollingListener.builder()
+                .config(MQListenerConfig.builder().queue("QUEUE.NAME").build())
+                .listener(listener)
+                .engine(engine)
+                .burstSize(10)
+                .minBackoff(1)
+                .maxBackoff(8)
+                .connectionFactory(connectionFactory)
+                .container(new MQQueuesContainerImp())
+                .healthListener(healthListener)
+                .utils(utils)
+                .build();
+    }
+}
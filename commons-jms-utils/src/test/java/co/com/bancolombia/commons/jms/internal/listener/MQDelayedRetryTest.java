@@ -0,0 +1,164 @@
+package co.com.bancolombia.commons.jms.internal.listener;
+
+import co.com.bancolombia.commons.jms.api.MQDelayedMessageSenderSync;
+import co.com.bancolombia.commons.jms.api.MQMessageCreator;
+import co.com.bancolombia.commons.jms.internal.message.MQBytesMessageView;
+import co.com.bancolombia.commons.jms.internal.message.MQTextMessageView;
+import co.com.bancolombia.commons.jms.internal.models.MQDelayedRetryConfig;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.jms.BytesMessage;
+import javax.jms.JMSContext;
+import javax.jms.JMSException;
+import javax.jms.StreamMessage;
+import javax.jms.TextMessage;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static co.com.bancolombia.commons.jms.internal.chunking.MQMessageChunker.BODY_PROPERTY;
+import static co.com.bancolombia.commons.jms.internal.chunking.MQMessageChunker.GROUP_PROPERTY;
+import static co.com.bancolombia.commons.jms.internal.chunking.MQMessageChunker.LAST_PROPERTY;
+import static co.com.bancolombia.commons.jms.internal.chunking.MQMessageChunker.SEQUENCE_PROPERTY;
+import static co.com.bancolombia.commons.jms.internal.compression.MQMessageCompressor.COMPRESSION_PROPERTY;
+import static co.com.bancolombia.commons.jms.internal.compression.MQMessageCompressor.ORIGINAL_BODY_PROPERTY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MQDelayedRetryTest {
+    private static final MQDelayedRetryConfig CONFIG = MQDelayedRetryConfig.builder()
+            .retries(3)
+            .delay(1000)
+            .multiplier(10)
+            .maxDelay(50000)
+            .build();
+    @Mock
+    private MQDelayedMessageSenderSync sender;
+    @Mock
+    private JMSContext context;
+    @Mock
+    private TextMessage message;
+    @Mock
+    private TextMessage copy;
+
+    @Test
+    void shouldPublishCopyWithDelayAndAttempt() throws JMSException {
+        // Arrange
+        MQDelayedRetry delayedRetry = new MQDelayedRetry(sender, CONFIG, "QUEUE.NAME");
+        when(message.propertyExists(MQDelayedRetry.ATTEMPT)).thenReturn(true);
+        when(message.getIntProperty(MQDelayedRetry.ATTEMPT)).thenReturn(1);
+        when(message.getText()).thenReturn("body");
+        when(message.getPropertyNames()).thenReturn(Collections.emptyEnumeration());
+        when(context.createTextMessage("body")).thenReturn(copy);
+        // Act
+        boolean retried = delayedRetry.retry(message, new IllegalStateException("unavailable"));
+        // Assert
+        assertTrue(retried);
+        ArgumentCaptor<MQMessageCreator> creator = ArgumentCaptor.forClass(MQMessageCreator.class);
+        verify(sender).sendToQueue(eq("QUEUE.NAME"), creator.capture(), eq(10000L));
+        assertSame(copy, creator.getValue().create(context));
+        verify(copy).setIntProperty(MQDelayedRetry.ATTEMPT, 2);
+    }
+
+    @Test
+    void shouldPublishInflatedMessageWithoutCompressionProperties() throws JMSException {
+        // Arrange
+        MQDelayedRetry delayedRetry = new MQDelayedRetry(sender, CONFIG, "QUEUE.NAME");
+        BytesMessage compressed = mock(BytesMessage.class);
+        when(compressed.getPropertyNames()).thenReturn(Collections.enumeration(
+                Arrays.asList("custom", COMPRESSION_PROPERTY, ORIGINAL_BODY_PROPERTY)));
+        when(compressed.getObjectProperty("custom")).thenReturn("value");
+        when(context.createTextMessage("inflated body")).thenReturn(copy);
+        // Act
+        delayedRetry.retry(new MQTextMessageView(compressed, "inflated body"), new IllegalStateException("failed"));
+        // Assert
+        ArgumentCaptor<MQMessageCreator> creator = ArgumentCaptor.forClass(MQMessageCreator.class);
+        verify(sender).sendToQueue(eq("QUEUE.NAME"), creator.capture(), eq(1000L));
+        assertSame(copy, creator.getValue().create(context));
+        verify(copy).setObjectProperty("custom", "value");
+        verify(copy, never()).setObjectProperty(eq(COMPRESSION_PROPERTY), any());
+        verify(copy, never()).setObjectProperty(eq(ORIGINAL_BODY_PROPERTY), any());
+    }
+
+    @Test
+    void shouldPublishReassembledMessageWithoutChunkProperties() throws JMSException {
+        // Arrange
+        MQDelayedRetry delayedRetry = new MQDelayedRetry(sender, CONFIG, "QUEUE.NAME");
+        BytesMessage firstChunk = mock(BytesMessage.class);
+        BytesMessage bytesCopy = mock(BytesMessage.class);
+        byte[] body = "whole body".getBytes(StandardCharsets.UTF_8);
+        when(firstChunk.getPropertyNames()).thenReturn(Collections.enumeration(
+                Arrays.asList(GROUP_PROPERTY, SEQUENCE_PROPERTY, LAST_PROPERTY, BODY_PROPERTY)));
+        when(context.createBytesMessage()).thenReturn(bytesCopy);
+        // Act
+        delayedRetry.retry(new MQBytesMessageView(firstChunk, body), new IllegalStateException("failed"));
+        // Assert
+        ArgumentCaptor<MQMessageCreator> creator = ArgumentCaptor.forClass(MQMessageCreator.class);
+        verify(sender).sendToQueue(eq("QUEUE.NAME"), creator.capture(), eq(1000L));
+        assertSame(bytesCopy, creator.getValue().create(context));
+        verify(bytesCopy).writeBytes(body);
+        verify(bytesCopy, never()).setObjectProperty(anyString(), any());
+        verify(bytesCopy).setIntProperty(MQDelayedRetry.ATTEMPT, 1);
+    }
+
+    @Test
+    void shouldPublishToRetryQueue() throws JMSException {
+        // Arrange
+        MQDelayedRetry delayedRetry = new MQDelayedRetry(sender, CONFIG.toBuilder().queue("RETRY.QUEUE").build(),
+                "QUEUE.NAME");
+        // Act
+        boolean retried = delayedRetry.retry(message, new IllegalStateException("unavailable"));
+        // Assert
+        assertTrue(retried);
+        verify(sender).sendToQueue(eq("RETRY.QUEUE"), any(MQMessageCreator.class), eq(1000L));
+    }
+
+    @Test
+    void shouldNotRetryWhenAttemptsExhausted() throws JMSException {
+        // Arrange
+        MQDelayedRetry delayedRetry = new MQDelayedRetry(sender, CONFIG, "QUEUE.NAME");
+        when(message.propertyExists(MQDelayedRetry.ATTEMPT)).thenReturn(true);
+        when(message.getIntProperty(MQDelayedRetry.ATTEMPT)).thenReturn(3);
+        // Act
+        boolean retried = delayedRetry.retry(message, new IllegalStateException("unavailable"));
+        // Assert
+        assertFalse(retried);
+        verify(sender, never()).sendToQueue(anyString(), any(MQMessageCreator.class), anyLong());
+    }
+
+    @Test
+    void shouldNotRetryStreamMessages() throws JMSException {
+        // Arrange
+        MQDelayedRetry delayedRetry = new MQDelayedRetry(sender, CONFIG, "QUEUE.NAME");
+        StreamMessage stream = mock(StreamMessage.class);
+        // Act
+        boolean retried = delayedRetry.retry(stream, new IllegalStateException("unavailable"));
+        // Assert
+        assertFalse(retried);
+    }
+
+    @Test
+    void shouldLimitDelay() {
+        // Arrange
+        MQDelayedRetry delayedRetry = new MQDelayedRetry(sender, CONFIG, "QUEUE.NAME");
+        // Act
+        long delay = delayedRetry.delay(2);
+        // Assert
+        assertEquals(50000, delay);
+    }
+}
@@ -0,0 +1,123 @@
+package co.com.bancolombia.commons.jms.internal.listener;
+
+import co.com.bancolombia.commons.jms.api.MQQueueDepthProbe;
+import co.com.bancolombia.commons.jms.internal.models.MQAutoscaleConfig;
+import co.com.bancolombia.commons.jms.internal.models.MQListenerConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MQListenerAutoscalerTest {
+    private static final long NOW = 1_000_000L;
+    @Mock
+    private MQListenerContainer container;
+    @Mock
+    private MQObservedMessageListener observed;
+    @Mock
+    private MQQueueDepthProbe probe;
+    private MQListenerAutoscaler autoscaler;
+
+    @BeforeEach
+    void setup() {
+        lenient().when(container.getConfig()).thenReturn(MQListenerConfig.builder().queue("QUEUE.NAME").build());
+        autoscaler = MQListenerAutoscaler.builder()
+                .container(container)
+                .observed(observed)
+                .probe(probe)
+                .minConcurrency(1)
+                .maxConcurrency(10)
+                .config(MQAutoscaleConfig.builder()
+                        .targetMessageAge(1000)
+                        .scaleUpCooldown(100)
+                        .scaleDownCooldown(500)
+                        .build())
+                .build();
+    }
+
+    @Test
+    void shouldScaleUpWhenMessagesAreOld() {
+        // Arrange
+        when(container.getConcurrency()).thenReturn(2);
+        when(observed.snapshot()).thenReturn(new MQObservedMessageListener.Snapshot(10, 5000, 10));
+        when(probe.getDepth("QUEUE.NAME")).thenReturn(-1);
+        // Act
+        int concurrency = autoscaler.evaluate(NOW);
+        // Assert
+        assertEquals(3, concurrency);
+        verify(container).scale(3);
+    }
+
+    @Test
+    void shouldScaleUpToDrainDepth() {
+        // Arrange
+        when(container.getConcurrency()).thenReturn(2);
+        when(observed.snapshot()).thenReturn(new MQObservedMessageListener.Snapshot(10, 100, 50));
+        when(probe.getDepth("QUEUE.NAME")).thenReturn(100);
+        // Act
+        int concurrency = autoscaler.evaluate(NOW);
+        // Assert
+        assertEquals(5, concurrency);
+    }
+
+    @Test
+    void shouldNotExceedMaxConcurrency() {
+        // Arrange
+        when(container.getConcurrency()).thenReturn(2);
+        when(observed.snapshot()).thenReturn(new MQObservedMessageListener.Snapshot(10, 100, 500));
+        when(probe.getDepth("QUEUE.NAME")).thenReturn(1000);
+        // Act
+        int concurrency = autoscaler.evaluate(NOW);
+        // Assert
+        assertEquals(10, concurrency);
+    }
+
+    @Test
+    void shouldScaleDownWhenIdle() {
+        // Arrange
+        when(container.getConcurrency()).thenReturn(3);
+        when(observed.snapshot()).thenReturn(new MQObservedMessageListener.Snapshot(0, 0, 0));
+        when(probe.getDepth("QUEUE.NAME")).thenReturn(0);
+        // Act
+        int concurrency = autoscaler.evaluate(NOW);
+        // Assert
+        assertEquals(2, concurrency);
+        verify(container).scale(2);
+    }
+
+    @Test
+    void shouldWaitCooldownBeforeScalingDown() {
+        // Arrange
+        when(container.getConcurrency()).thenReturn(3);
+        when(observed.snapshot()).thenReturn(new MQObservedMessageListener.Snapshot(0, 0, 0));
+        when(probe.getDepth("QUEUE.NAME")).thenReturn(0);
+        autoscaler.evaluate(NOW);
+        // Act
+        int concurrency = autoscaler.evaluate(NOW + 100);
+        // Assert
+        assertEquals(3, concurrency);
+        verify(container).scale(anyInt());
+    }
+
+    @Test
+    void shouldKeepMinConcurrency() {
+        // Arrange
+        when(container.getConcurrency()).thenReturn(1);
+        when(observed.snapshot()).thenReturn(new MQObservedMessageListener.Snapshot(0, 0, 0));
+        when(probe.getDepth("QUEUE.NAME")).thenReturn(-1);
+        // Act
+        int concurrency = autoscaler.evaluate(NOW);
+        // Assert
+        assertEquals(1, concurrency);
+        verify(container, never()).scale(anyInt());
+    }
+}
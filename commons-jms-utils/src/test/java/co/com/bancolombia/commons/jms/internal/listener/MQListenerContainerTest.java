@@ -0,0 +1,155 @@
+package co.com.bancolombia.commons.jms.internal.listener;
+
+import co.com.bancolombia.commons.jms.api.MQBrokerUtils;
+import co.com.bancolombia.commons.jms.api.exceptions.MQHealthListener;
+import co.com.bancolombia.commons.jms.internal.models.MQListenerConfig;
+import co.com.bancolombia.commons.jms.utils.MQQueuesContainerImp;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.jms.ConnectionFactory;
+import javax.jms.JMSConsumer;
+import javax.jms.JMSContext;
+import javax.jms.MessageListener;
+import javax.jms.Queue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MQListenerContainerTest {
+    @Mock
+    private ConnectionFactory connectionFactory;
+    @Mock
+    private MessageListener listener;
+    @Mock
+    private JMSContext context;
+    @Mock
+    private MQBrokerUtils utils;
+    @Mock
+    private Queue queue;
+    @Mock
+    private JMSConsumer consumer;
+    @Mock
+    private MQHealthListener healthListener;
+    private MQListenerContainer listenerContainer;
+
+    @BeforeEach
+    void setup() {
+        MQListenerConfig config = MQListenerConfig.builder().queue("QUEUE.NAME").build();
+        listenerContainer = MQListenerContainer.builder()
+                .config(config)
+                .factory(() -> MQContextListener.builder()
+                        .config(config)
+                        .listener(listener)
+                        .connectionFactory(connectionFactory)
+                        .container(new MQQueuesContainerImp())
+                        .healthListener(healthListener)
+                        .utils(utils)
+                        .build())
+                .build();
+    }
+
+    @Test
+    void shouldAddAndRemoveListeners() {
+        // Arrange
+        stubContext();
+        listenerContainer.setConcurrency(3);
+        verify(consumer, timeout(1000).times(3)).setMessageListener(listener);
+        // Act
+        listenerContainer.setConcurrency(1);
+        // Assert
+        assertEquals(1, listenerContainer.getConcurrency());
+        verify(context, times(2)).close();
+    }
+
+    @Test
+    void shouldPauseAndResumeListeners() {
+        // Arrange
+        stubContext();
+        listenerContainer.setConcurrency(2);
+        verify(consumer, timeout(1000).times(2)).setMessageListener(listener);
+        // Act
+        listenerContainer.pause();
+        listenerContainer.resume();
+        // Assert
+        verify(context, times(2)).stop();
+        verify(context, times(2)).start();
+        assertFalse(listenerContainer.isPaused());
+    }
+
+    @Test
+    void shouldFailScalingWhenNotScalable() {
+        // Arrange
+        MQListenerControl control = mock(MQListenerControl.class);
+        MQListenerContainer fixedContainer = MQListenerContainer.builder()
+                .config(MQListenerConfig.builder().tempQueueAlias("alias").build())
+                .async(false)
+                .scalable(false)
+                .factory(() -> control)
+                .build();
+        fixedContainer.setConcurrency(1);
+        // Assert
+        assertThrows(IllegalStateException.class, () -> fixedContainer.setConcurrency(2));
+        verify(control).start();
+    }
+
+    @Test
+    void shouldStopAutoscalerWhenConcurrencyIsChangedManually() {
+        // Arrange
+        MQListenerControl control = mock(MQListenerControl.class);
+        MQListenerAutoscaler autoscaler = mock(MQListenerAutoscaler.class);
+        MQListenerContainer scaledContainer = MQListenerContainer.builder()
+                .config(MQListenerConfig.builder().queue("QUEUE.NAME").build())
+                .async(false)
+                .factory(() -> control)
+                .build();
+        scaledContainer.setConcurrency(1);
+        scaledContainer.autoscale(autoscaler);
+        // Act
+        scaledContainer.setConcurrency(3);
+        scaledContainer.scale(5);
+        // Assert
+        verify(autoscaler).start();
+        verify(autoscaler).stop();
+        assertFalse(scaledContainer.isAutoscaled());
+        assertEquals(3, scaledContainer.getConcurrency());
+    }
+
+    @Test
+    void shouldStopAutoscalerWithContainer() {
+        // Arrange
+        MQListenerControl control = mock(MQListenerControl.class);
+        MQListenerAutoscaler autoscaler = mock(MQListenerAutoscaler.class);
+        MQListenerContainer scaledContainer = MQListenerContainer.builder()
+                .config(MQListenerConfig.builder().queue("QUEUE.NAME").build())
+                .async(false)
+                .factory(() -> control)
+                .build();
+        scaledContainer.setConcurrency(1);
+        scaledContainer.autoscale(autoscaler);
+        scaledContainer.scale(2);
+        // Act
+        scaledContainer.stop();
+        // Assert
+        verify(autoscaler).stop();
+        verify(control, times(2)).stop();
+        assertEquals(0, scaledContainer.getConcurrency());
+    }
+
+    private void stubContext() {
+        when(connectionFactory.createContext()).thenReturn(context);
+        when(context.createQueue(anyString())).thenReturn(queue);
+        when(context.createConsumer(queue)).thenReturn(consumer);
+    }
+}
@@ -0,0 +1,89 @@
+package co.com.bancolombia.commons.jms.internal.listener;
+
+import co.com.bancolombia.commons.jms.api.MQAsyncMessageListener;
+import co.com.bancolombia.commons.jms.internal.models.MQRetryConfig;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import javax.jms.Message;
+import javax.jms.MessageListener;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MQLocalRetryTest {
+    private final MQLocalRetry localRetry = new MQLocalRetry("QUEUE.NAME", MQRetryConfig.builder()
+            .retries(2)
+            .backoff(1)
+            .maxBackoff(5)
+            .build());
+    @Mock
+    private MessageListener listener;
+    @Mock
+    private MQAsyncMessageListener asyncListener;
+    @Mock
+    private Message message;
+
+    @Test
+    void shouldNotWrapWithoutRetries() {
+        // Arrange
+        MQLocalRetry disabled = new MQLocalRetry("QUEUE.NAME", MQRetryConfig.builder().build());
+        // Act
+        MessageListener wrapped = disabled.wrap(listener);
+        // Assert
+        assertSame(listener, wrapped);
+    }
+
+    @Test
+    void shouldRetryUntilSuccess() {
+        // Arrange
+        doThrow(new IllegalStateException("transient")).doNothing().when(listener).onMessage(message);
+        // Act
+        localRetry.wrap(listener).onMessage(message);
+        // Assert
+        verify(listener, times(2)).onMessage(message);
+    }
+
+    @Test
+    void shouldRethrowWhenRetriesExhausted() {
+        // Arrange
+        doThrow(new IllegalStateException("failed")).when(listener).onMessage(message);
+        MessageListener wrapped = localRetry.wrap(listener);
+        // Act
+        // Assert
+        assertThrows(IllegalStateException.class, () -> wrapped.onMessage(message));
+        verify(listener, times(3)).onMessage(message);
+    }
+
+    @Test
+    void shouldRetryAsyncUntilSuccess() {
+        // Arrange
+        when(asyncListener.onMessageAsync(message))
+                .thenReturn(Mono.error(new IllegalStateException("transient")), Mono.just("OK"));
+        // Act
+        Mono<Object> result = localRetry.wrapAsync(asyncListener).onMessageAsync(message);
+        // Assert
+        StepVerifier.create(result).expectNext("OK").verifyComplete();
+        verify(asyncListener, times(2)).onMessageAsync(message);
+    }
+
+    @Test
+    void shouldFailAsyncWhenRetriesExhausted() {
+        // Arrange
+        when(asyncListener.onMessageAsync(message)).thenReturn(Mono.error(new IllegalStateException("failed")));
+        // Act
+        Mono<Object> result = localRetry.wrapAsync(asyncListener).onMessageAsync(message);
+        // Assert
+        StepVerifier.create(result).expectError(IllegalStateException.class).verify();
+        verify(asyncListener, times(3)).onMessageAsync(message);
+    }
+}
@@ -0,0 +1,77 @@
+package co.com.bancolombia.commons.jms.internal.listener;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.jms.Message;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(MockitoExtension.class)
+class MQOrderedAckTrackerTest {
+    @Mock
+    private Message message;
+    private final MQOrderedAckTracker tracker = new MQOrderedAckTracker();
+
+    @Test
+    void shouldAcknowledgeWhenPrefixIsCompleted() {
+        // Arrange
+        long first = tracker.register(message);
+        long second = tracker.register(message);
+        long third = tracker.register(message);
+        // Act
+        tracker.complete(third);
+        tracker.complete(first);
+        MQOrderedAckTracker.Settlement partial = tracker.settle();
+        tracker.complete(second);
+        MQOrderedAckTracker.Settlement full = tracker.settle();
+        // Assert
+        assertEquals(MQOrderedAckTracker.Settlement.NONE, partial);
+        assertEquals(MQOrderedAckTracker.Settlement.ACKNOWLEDGE, full);
+        assertEquals(0, tracker.getUnsettled());
+        assertEquals(MQOrderedAckTracker.Settlement.NONE, tracker.settle());
+    }
+
+    @Test
+    void shouldRecoverWhenSomeMessageFailed() {
+        // Arrange
+        long first = tracker.register(message);
+        long second = tracker.register(message);
+        // Act
+        tracker.fail(first);
+        tracker.complete(second);
+        // Assert
+        assertTrue(tracker.hasFailures());
+        assertEquals(MQOrderedAckTracker.Settlement.RECOVER, tracker.settle());
+        assertFalse(tracker.hasFailures());
+    }
+
+    @Test
+    void shouldIgnoreCompletionsAfterReset() {
+        // Arrange
+        long old = tracker.register(message);
+        tracker.reset();
+        long current = tracker.register(message);
+        // Act
+        tracker.fail(old);
+        tracker.complete(current);
+        // Assert
+        assertEquals(0, tracker.getInFlight());
+        assertEquals(MQOrderedAckTracker.Settlement.ACKNOWLEDGE, tracker.settle());
+    }
+
+    @Test
+    void shouldAwaitCompletion() throws InterruptedException {
+        // Arrange
+        long sequence = tracker.register(message);
+        new Thread(() -> tracker.complete(sequence)).start();
+        // Act
+        boolean completed = tracker.awaitCompleted(1000);
+        // Assert
+        assertTrue(completed);
+    }
+}
@@ -0,0 +1,128 @@
+package co.com.bancolombia.commons.jms.internal.listener.selector;
+
+import co.com.bancolombia.commons.jms.api.exceptions.ReceiveTimeoutException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import javax.jms.JMSException;
+import javax.jms.Message;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MQCorrelationRouterTest {
+    private final AtomicLong now = new AtomicLong(1000);
+    private final MQCorrelationRouter router = new MQCorrelationRouter(2, 100, now::get);
+    @Mock
+    private Message message;
+    @Mock
+    private Message other;
+
+    @Test
+    void shouldDispatchToWaitingCaller() throws JMSException {
+        // Arrange
+        when(message.getJMSCorrelationID()).thenReturn("1");
+        Mono<Message> result = router.wait("1", 1000);
+        // Act
+        // Assert
+        StepVerifier.create(result)
+                .then(() -> router.onMessage(message))
+                .expectNext(message)
+                .verifyComplete();
+        assertEquals(0, router.waiting());
+    }
+
+    @Test
+    void shouldDeliverEarlyArrival() throws JMSException {
+        // Arrange
+        when(message.getJMSCorrelationID()).thenReturn("1");
+        router.onMessage(message);
+        // Act
+        Mono<Message> result = router.wait("1", 1000);
+        // Assert
+        StepVerifier.create(result).expectNext(message).verifyComplete();
+        assertEquals(0, router.parked());
+    }
+
+    @Test
+    void shouldFailAndUnregisterOnTimeout() {
+        // Act
+        Mono<Message> result = router.wait("1", 10);
+        // Assert
+        StepVerifier.create(result).expectError(ReceiveTimeoutException.class).verify();
+        assertEquals(0, router.waiting());
+    }
+
+    @Test
+    void shouldExpireParkedMessages() throws JMSException {
+        // Arrange
+        when(message.getJMSCorrelationID()).thenReturn("1");
+        router.onMessage(message);
+        now.addAndGet(101);
+        // Act
+        Mono<Message> result = router.wait("1", 10);
+        // Assert
+        StepVerifier.create(result).expectError(ReceiveTimeoutException.class).verify();
+        assertEquals(0, router.parked());
+    }
+
+    @Test
+    void shouldDropOldestWhenMailboxFull() throws JMSException {
+        // Arrange
+        when(message.getJMSCorrelationID()).thenReturn("1", "2");
+        when(other.getJMSCorrelationID()).thenReturn("3");
+        router.onMessage(message);
+        router.onMessage(message);
+        // Act
+        router.onMessage(other);
+        // Assert
+        assertEquals(2, router.parked());
+        StepVerifier.create(router.wait("3", 1000)).expectNext(other).verifyComplete();
+        StepVerifier.create(router.wait("1", 10)).expectError(ReceiveTimeoutException.class).verify();
+    }
+
+    @Test
+    void shouldDiscardMessageWithoutCorrelationId() {
+        // Act
+        router.onMessage(message);
+        // Assert
+        assertEquals(0, router.parked());
+    }
+
+    @Test
+    void shouldWaitAllAndCompleteWithPartialResult() throws JMSException {
+        // Arrange
+        when(message.getJMSCorrelationID()).thenReturn("1");
+        when(other.getJMSCorrelationID()).thenReturn("2");
+        router.onMessage(message);
+        // Act
+        Flux<Message> result = router.waitAll(Arrays.asList("1", "2", "3"), 50);
+        // Assert
+        StepVerifier.create(result)
+                .expectNext(message)
+                .then(() -> router.onMessage(other))
+                .expectNext(other)
+                .verifyComplete();
+        assertEquals(0, router.waiting());
+    }
+
+    @Test
+    void shouldDispatchBinaryCorrelationIds() throws JMSException {
+        // Arrange
+        MQCorrelationRouter binary = new MQCorrelationRouter(2, 100, true);
+        when(message.getJMSCorrelationID()).thenReturn("ID:6f726465722d310000000000000000000000000000000000");
+        binary.onMessage(message);
+        // Act
+        Mono<Message> result = binary.wait("order-1", 1000);
+        // Assert
+        StepVerifier.create(result).expectNext(message).verifyComplete();
+    }
+}
@@ -0,0 +1,102 @@
+package co.com.bancolombia.commons.jms.internal.listener.selector;
+
+import co.com.bancolombia.commons.jms.api.MQBrokerUtils;
+import co.com.bancolombia.commons.jms.api.exceptions.MQHealthListener;
+import co.com.bancolombia.commons.jms.api.exceptions.ReceiveTimeoutException;
+import co.com.bancolombia.commons.jms.internal.models.MQListenerConfig;
+import co.com.bancolombia.commons.jms.utils.MQQueuesContainerImp;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.jms.ConnectionFactory;
+import javax.jms.JMSConsumer;
+import javax.jms.JMSContext;
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.Queue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MQDemuxMessageSelectorListenerSyncTest {
+    @Mock
+    private ConnectionFactory connectionFactory;
+    @Mock
+    private JMSContext context;
+    @Mock
+    private JMSConsumer consumer;
+    @Mock
+    private Queue queue;
+    @Mock
+    private Queue otherQueue;
+    @Mock
+    private Message message;
+    @Mock
+    private MQHealthListener healthListener;
+    @Mock
+    private MQBrokerUtils utils;
+    private final MQCorrelationRouter router = new MQCorrelationRouter(10, 1000);
+    private MQDemuxMessageSelectorListenerSync listenerSync;
+
+    @BeforeEach
+    void setup() {
+        // the listeners are started in background
+        lenient().when(connectionFactory.createContext()).thenReturn(context);
+        lenient().when(context.createQueue(anyString())).thenReturn(queue);
+        lenient().when(context.createConsumer(queue)).thenReturn(consumer);
+        MQListenerConfig config = MQListenerConfig.builder()
+                .concurrency(1)
+                .queue("QUEUE")
+                .build();
+        listenerSync = new MQDemuxMessageSelectorListenerSync(connectionFactory, config, healthListener,
+                new MQQueuesContainerImp(), utils, router);
+    }
+
+    @Test
+    void shouldKeepLongLivedConsumers() {
+        // Assert
+        verify(consumer, timeout(1000)).setMessageListener(any());
+    }
+
+    @Test
+    void shouldGetRoutedMessage() throws JMSException {
+        // Arrange
+        when(message.getJMSCorrelationID()).thenReturn("1");
+        router.onMessage(message);
+        // Act
+        Message received = listenerSync.getMessage("1");
+        // Assert
+        assertEquals(message, received);
+    }
+
+    @Test
+    void shouldHandleTimeout() throws JMSException {
+        // Arrange
+        when(queue.getQueueName()).thenReturn("QUEUE");
+        // Act
+        // Assert
+        assertThrows(ReceiveTimeoutException.class, () -> listenerSync.getMessage("1", 10, queue));
+    }
+
+    @Test
+    void shouldUseSelectorForOtherDestinations() throws JMSException {
+        // Arrange
+        when(otherQueue.getQueueName()).thenReturn("OTHER.QUEUE");
+        when(context.createConsumer(otherQueue, "JMSCorrelationID='1'")).thenReturn(consumer);
+        when(consumer.receive(10)).thenReturn(message);
+        // Act
+        Message received = listenerSync.getMessage("1", 10, otherQueue);
+        // Assert
+        assertEquals(message, received);
+    }
+}
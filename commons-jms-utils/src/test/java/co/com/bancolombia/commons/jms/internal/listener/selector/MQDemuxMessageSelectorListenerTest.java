@@ -0,0 +1,97 @@
+package co.com.bancolombia.commons.jms.internal.listener.selector;
+
+import co.com.bancolombia.commons.jms.api.MQMessageSelectorListener;
+import co.com.bancolombia.commons.jms.api.MQMessageSelectorListenerSync;
+import co.com.bancolombia.commons.jms.api.exceptions.ReceiveTimeoutException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import javax.jms.JMSException;
+import javax.jms.Message;
+import javax.jms.Queue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MQDemuxMessageSelectorListenerTest {
+    @Mock
+    private MQDemuxMessageSelectorListenerSync listenerSync;
+    @Mock
+    private MQMessageSelectorListenerSync selectorListener;
+    @Mock
+    private Queue queue;
+    @Mock
+    private Message message;
+    private final MQCorrelationRouter router = new MQCorrelationRouter(10, 1000);
+    private MQMessageSelectorListener listener;
+
+    @BeforeEach
+    void setup() {
+        lenient().when(listenerSync.getRouter()).thenReturn(router);
+        listener = new MQDemuxMessageSelectorListener(listenerSync);
+    }
+
+    @Test
+    void shouldCompleteFromConsumerCallback() throws JMSException {
+        // Arrange
+        when(message.getJMSCorrelationID()).thenReturn("1");
+        // Act
+        Mono<Message> result = listener.getMessage("1");
+        // Assert
+        StepVerifier.create(result)
+                .then(() -> router.onMessage(message))
+                .expectNext(message)
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldWaitManyMessagesWithoutThreads() throws JMSException {
+        // Arrange
+        when(listenerSync.isListened(queue)).thenReturn(true);
+        AtomicInteger sequence = new AtomicInteger();
+        when(message.getJMSCorrelationID()).thenAnswer(invocation -> "id-" + sequence.getAndIncrement());
+        int calls = 2000;
+        Flux<Message> results = Flux.range(0, calls)
+                .flatMap(idx -> listener.getMessage("id-" + idx, 5000, queue), calls);
+        // Act
+        // Assert
+        StepVerifier.create(results)
+                .then(() -> {
+                    for (int idx = 0; idx < calls; idx++) {
+                        router.onMessage(message);
+                    }
+                })
+                .expectNextCount(calls)
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldTimeoutInSharedTimer() {
+        // Arrange
+        when(listenerSync.isListened(queue)).thenReturn(true);
+        // Act
+        Mono<Message> result = listener.getMessage("1", 10, queue);
+        // Assert
+        StepVerifier.create(result).expectError(ReceiveTimeoutException.class).verify();
+    }
+
+    @Test
+    void shouldUseSelectorForOtherDestinations() {
+        // Arrange
+        when(listenerSync.isListened(queue)).thenReturn(false);
+        when(listenerSync.selectorListener()).thenReturn(selectorListener);
+        when(selectorListener.getMessage("1", 10, queue)).thenReturn(message);
+        // Act
+        Mono<Message> result = listener.getMessage("1", 10, queue);
+        // Assert
+        StepVerifier.create(result).expectNext(message).verifyComplete();
+    }
+}
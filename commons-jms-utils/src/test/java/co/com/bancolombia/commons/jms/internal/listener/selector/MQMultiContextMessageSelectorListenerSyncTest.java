@@ -11,12 +11,19 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import javax.jms.*;
+import java.util.Arrays;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static co.com.bancolombia.commons.jms.internal.listener.selector.MQContextMessageSelectorListenerSync.DEFAULT_TIMEOUT;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
 import static org.mockito.Mockito.*;
 
 
@@ -73,4 +80,72 @@ class MQMultiContextMessageSelectorListenerSyncTest {
         assertThrows(ReceiveTimeoutException.class, () -> listenerSync.getMessage(messageID, DEFAULT_TIMEOUT, queue));
     }
 
+    @Test
+    void shouldGetMessagesWithChunkedSelectors() throws JMSException {
+        // Arrange
+        List<String> ids = IntStream.range(0, 120).mapToObj(String::valueOf).collect(Collectors.toList());
+        when(context.createConsumer(any(Destination.class), startsWith("JMSCorrelationID IN ('"))).thenReturn(consumer);
+        when(consumer.receive(anyLong())).thenReturn(message);
+        AtomicInteger sequence = new AtomicInteger();
+        when(message.getJMSCorrelationID()).thenAnswer(invocation -> String.valueOf(sequence.getAndIncrement()));
+        // Act
+        List<Message> messages = listenerSync.getMessages(ids, DEFAULT_TIMEOUT, queue);
+        // Assert
+        assertEquals(120, messages.size());
+        verify(context, times(3)).createConsumer(any(Destination.class), startsWith("JMSCorrelationID IN ('"));
+        verify(consumer, times(3)).close();
+    }
+
+    @Test
+    void shouldReturnPartialMessagesOnTimeout() throws JMSException {
+        // Arrange
+        when(context.createConsumer(queue, "JMSCorrelationID IN ('1','2')")).thenReturn(consumer);
+        when(consumer.receive(anyLong())).thenReturn(message, (Message) null);
+        when(message.getJMSCorrelationID()).thenReturn("1");
+        // Act
+        List<Message> messages = listenerSync.getMessages(Arrays.asList("1", "2", "1"), DEFAULT_TIMEOUT, queue);
+        // Assert
+        assertEquals(1, messages.size());
+    }
+
+    @Test
+    void shouldSelectBinaryCorrelationIds() {
+        // Arrange
+        MQListenerConfig config = MQListenerConfig.builder()
+                .concurrency(1)
+                .queue("QUEUE")
+                .binaryCorrelationId(true)
+                .build();
+        MQMessageSelectorListenerSync binary = new MQMultiContextMessageSelectorListenerSync(connectionFactory, config,
+                healthListener);
+        when(context.createConsumer(queue, "JMSCorrelationID='ID:6f726465722d310000000000000000000000000000000000'"))
+                .thenReturn(consumer);
+        when(consumer.receive(DEFAULT_TIMEOUT)).thenReturn(message);
+        // Act
+        Message receivedMessage = binary.getMessage("order-1", DEFAULT_TIMEOUT, queue);
+        // Assert
+        assertEquals(message, receivedMessage);
+    }
+
+    @Test
+    void shouldGetBinaryCorrelationIdsByIndexedSelectors() {
+        // Arrange
+        MQListenerConfig config = MQListenerConfig.builder()
+                .concurrency(1)
+                .queue("QUEUE")
+                .binaryCorrelationId(true)
+                .build();
+        MQMessageSelectorListenerSync binary = new MQMultiContextMessageSelectorListenerSync(connectionFactory, config,
+                healthListener);
+        when(context.createConsumer(queue, "JMSCorrelationID='ID:6f726465722d310000000000000000000000000000000000'"))
+                .thenReturn(consumer);
+        when(context.createConsumer(queue, "JMSCorrelationID='ID:6f726465722d320000000000000000000000000000000000'"))
+                .thenReturn(consumer);
+        when(consumer.receive(anyLong())).thenReturn(message);
+        // Act
+        List<Message> messages = binary.getMessages(Arrays.asList("order-1", "order-2"), DEFAULT_TIMEOUT, queue);
+        // Assert
+        assertEquals(2, messages.size());
+        verify(context, never()).createConsumer(any(Destination.class), startsWith("JMSCorrelationID IN ('"));
+    }
 }
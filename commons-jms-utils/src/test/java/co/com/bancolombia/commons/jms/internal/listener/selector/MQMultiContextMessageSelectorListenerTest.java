@@ -10,6 +10,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -17,13 +18,16 @@ import javax.jms.ConnectionFactory;
 import javax.jms.Destination;
 import javax.jms.JMSConsumer;
 import javax.jms.JMSContext;
+import javax.jms.JMSException;
 import javax.jms.Message;
 import javax.jms.Queue;
 import javax.jms.TextMessage;
+import java.util.Arrays;
 import java.util.UUID;
 
 import static co.com.bancolombia.commons.jms.internal.listener.selector.MQContextMessageSelectorListenerSync.DEFAULT_TIMEOUT;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.times;
@@ -90,4 +94,17 @@ class MQMultiContextMessageSelectorListenerTest {
                 .verify();
     }
 
+    @Test
+    void shouldGetMessages() throws JMSException {
+        // Arrange
+        when(context.createConsumer(queue, "JMSCorrelationID IN ('1','2')")).thenReturn(consumer);
+        when(consumer.receive(anyLong())).thenReturn(message);
+        when(message.getJMSCorrelationID()).thenReturn("1", "2");
+        // Act
+        Flux<Message> messages = listener.getMessages(Arrays.asList("1", "2"), DEFAULT_TIMEOUT, queue);
+        // Assert
+        StepVerifier.create(messages)
+                .expectNext(message, message)
+                .verifyComplete();
+    }
 }
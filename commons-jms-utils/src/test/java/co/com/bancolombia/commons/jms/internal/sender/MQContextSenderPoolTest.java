@@ -0,0 +1,101 @@
+package co.com.bancolombia.commons.jms.internal.sender;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.jms.JMSRuntimeException;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@ExtendWith(MockitoExtension.class)
+class MQContextSenderPoolTest {
+    @Mock
+    private MQContextSenderSync sender1;
+    @Mock
+    private MQContextSenderSync sender2;
+
+    @Test
+    void shouldLendContextsExclusively() throws Exception {
+        // Arrange
+        MQContextSenderPool pool = new MQContextSenderPool(Arrays.asList(sender1, sender2), -1);
+        Set<MQContextSenderSync> inUse = ConcurrentHashMap.newKeySet();
+        AtomicBoolean shared = new AtomicBoolean(false);
+        ExecutorService service = Executors.newFixedThreadPool(8);
+        // Act
+        for (int i = 0; i < 200; i++) {
+            service.submit(() -> pool.execute(sender -> {
+                if (!inUse.add(sender)) {
+                    shared.set(true);
+                }
+                Thread.yield();
+                inUse.remove(sender);
+                return null;
+            }));
+        }
+        service.shutdown();
+        // Assert
+        assertTrue(service.awaitTermination(5, TimeUnit.SECONDS));
+        assertFalse(shared.get());
+        assertEquals(200, Arrays.stream(pool.getUsages()).sum());
+        assertEquals(2, pool.getAvailable());
+    }
+
+    @Test
+    void shouldFailWhenExhaustedAndNoWait() throws Exception {
+        // Arrange
+        MQContextSenderPool pool = new MQContextSenderPool(Arrays.asList(sender1), 0);
+        CountDownLatch borrowed = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService service = Executors.newSingleThreadExecutor();
+        Future<Object> holder = service.submit(() -> pool.execute(sender -> {
+            borrowed.countDown();
+            awaitQuietly(release);
+            return null;
+        }));
+        assertTrue(borrowed.await(1, TimeUnit.SECONDS));
+        // Act
+        // Assert
+        assertThrows(JMSRuntimeException.class, () -> pool.execute(sender -> "id"));
+        release.countDown();
+        holder.get(1, TimeUnit.SECONDS);
+        assertEquals("id", pool.execute(sender -> "id"));
+        assertArrayEquals(new long[]{2}, pool.getUsages());
+        service.shutdown();
+    }
+
+    @Test
+    void shouldReleaseContextOnError() {
+        // Arrange
+        MQContextSenderPool pool = new MQContextSenderPool(Arrays.asList(sender1), 0);
+        // Act
+        assertThrows(JMSRuntimeException.class, () -> pool.execute(sender -> {
+            throw new JMSRuntimeException("Error");
+        }));
+        // Assert
+        assertEquals(1, pool.getAvailable());
+        assertEquals(1, pool.size());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
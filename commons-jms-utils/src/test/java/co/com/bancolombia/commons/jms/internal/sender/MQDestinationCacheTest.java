@@ -0,0 +1,38 @@
+package co.com.bancolombia.commons.jms.internal.sender;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import javax.jms.Destination;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class MQDestinationCacheTest {
+
+    @Test
+    void shouldEvictLeastRecentlyUsed() {
+        // Arrange
+        MQDestinationCache cache = new MQDestinationCache(2);
+        Destination a = Mockito.mock(Destination.class);
+        cache.computeIfAbsent("A", name -> a);
+        cache.computeIfAbsent("B", name -> Mockito.mock(Destination.class));
+        // Act
+        cache.get("A");
+        cache.computeIfAbsent("C", name -> Mockito.mock(Destination.class));
+        // Assert
+        assertSame(a, cache.get("A"));
+        assertNull(cache.get("B"));
+    }
+
+    @Test
+    void shouldClear() {
+        // Arrange
+        MQDestinationCache cache = new MQDestinationCache(2);
+        cache.computeIfAbsent("A", name -> Mockito.mock(Destination.class));
+        // Act
+        cache.clear();
+        // Assert
+        assertNull(cache.get("A"));
+    }
+}
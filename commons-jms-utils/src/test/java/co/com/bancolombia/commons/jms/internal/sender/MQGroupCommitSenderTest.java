@@ -0,0 +1,125 @@
+package co.com.bancolombia.commons.jms.internal.sender;
+
+import co.com.bancolombia.commons.jms.api.MQMessageCreator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.jms.Destination;
+import javax.jms.JMSContext;
+import javax.jms.JMSRuntimeException;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MQGroupCommitSenderTest {
+    private final MQMessageCreator creator = JMSContext::createTextMessage;
+    private final MQMessageCreator failing = JMSContext::createBytesMessage;
+    @Mock
+    private MQContextSenderSync sender;
+    @Mock
+    private Destination destination;
+    private MQGroupCommitSender groupCommitSender;
+
+    @BeforeEach
+    void setup() {
+        MQContextSenderPool pool = new MQContextSenderPool(Collections.singletonList(sender), -1);
+        groupCommitSender = new MQGroupCommitSender(pool, 3, 1000).start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        groupCommitSender.stop();
+    }
+
+    @Test
+    void shouldCommitConcurrentSendsTogether() throws Exception {
+        // Arrange
+        when(sender.send(same(destination), any(MQMessageCreator.class))).thenReturn("1", "2");
+        when(sender.send(any(MQMessageCreator.class))).thenReturn("3");
+        // Act
+        CompletableFuture<String> first = groupCommitSender.send(destination, creator);
+        CompletableFuture<String> second = groupCommitSender.send(destination, creator);
+        CompletableFuture<String> third = groupCommitSender.send(creator);
+        // Assert
+        assertEquals("1", first.get(1, TimeUnit.SECONDS));
+        assertEquals("2", second.get(1, TimeUnit.SECONDS));
+        assertEquals("3", third.get(1, TimeUnit.SECONDS));
+        verify(sender, times(1)).commit();
+    }
+
+    @Test
+    void shouldExcludeFailedMessageFromGroup() throws Exception {
+        // Arrange
+        when(sender.send(destination, creator)).thenReturn("rolled-back", "1", "2");
+        when(sender.send(destination, failing)).thenThrow(new JMSRuntimeException("Error"));
+        // Act
+        CompletableFuture<String> first = groupCommitSender.send(destination, creator);
+        CompletableFuture<String> failed = groupCommitSender.send(destination, failing);
+        CompletableFuture<String> third = groupCommitSender.send(destination, creator);
+        // Assert
+        assertEquals("1", first.get(1, TimeUnit.SECONDS));
+        assertEquals("2", third.get(1, TimeUnit.SECONDS));
+        ExecutionException error = assertThrows(ExecutionException.class, () -> failed.get(1, TimeUnit.SECONDS));
+        assertTrue(error.getCause() instanceof JMSRuntimeException);
+        verify(sender, times(1)).rollback();
+        verify(sender, times(1)).commit();
+    }
+
+    @Test
+    void shouldFailGroupWhenCommitFails() {
+        // Arrange
+        when(sender.send(destination, creator)).thenReturn("1");
+        doThrow(new JMSRuntimeException("Commit error")).when(sender).commit();
+        // Act
+        CompletableFuture<String> result = groupCommitSender.send(destination, creator);
+        // Assert
+        assertThrows(ExecutionException.class, () -> result.get(2, TimeUnit.SECONDS));
+        verify(sender, timeout(1000)).rollback();
+    }
+
+    @Test
+    void shouldExcludeMessageFailingWithNonJmsException() throws Exception {
+        // Arrange
+        when(sender.send(destination, creator)).thenReturn("rolled-back", "1");
+        when(sender.send(destination, failing)).thenThrow(new IllegalStateException("Encode error"));
+        // Act
+        CompletableFuture<String> first = groupCommitSender.send(destination, creator);
+        CompletableFuture<String> failed = groupCommitSender.send(destination, failing);
+        // Assert
+        assertEquals("1", first.get(2, TimeUnit.SECONDS));
+        ExecutionException error = assertThrows(ExecutionException.class, () -> failed.get(1, TimeUnit.SECONDS));
+        assertTrue(error.getCause() instanceof IllegalStateException);
+        verify(sender, times(1)).rollback();
+        verify(sender, times(1)).commit();
+    }
+
+    @Test
+    void shouldFailGroupWhenCommitFailsWithNonJmsException() {
+        // Arrange
+        when(sender.send(destination, creator)).thenReturn("1");
+        doThrow(new IllegalStateException("Commit error")).when(sender).commit();
+        // Act
+        CompletableFuture<String> result = groupCommitSender.send(destination, creator);
+        // Assert
+        ExecutionException error = assertThrows(ExecutionException.class, () -> result.get(2, TimeUnit.SECONDS));
+        assertTrue(error.getCause() instanceof IllegalStateException);
+        verify(sender, timeout(1000)).rollback();
+    }
+}
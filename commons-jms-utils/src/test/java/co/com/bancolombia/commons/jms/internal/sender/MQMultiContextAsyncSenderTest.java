@@ -0,0 +1,136 @@
+package co.com.bancolombia.commons.jms.internal.sender;
+
+import co.com.bancolombia.commons.jms.api.MQProducerCustomizer;
+import co.com.bancolombia.commons.jms.api.exceptions.MQHealthListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.test.StepVerifier;
+
+import javax.jms.CompletionListener;
+import javax.jms.ConnectionFactory;
+import javax.jms.JMSContext;
+import javax.jms.JMSException;
+import javax.jms.JMSProducer;
+import javax.jms.JMSRuntimeException;
+import javax.jms.Queue;
+import javax.jms.TextMessage;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MQMultiContextAsyncSenderTest {
+    @Mock
+    private ConnectionFactory connectionFactory;
+    @Mock
+    private JMSContext context;
+    @Mock
+    private JMSProducer producer;
+    @Mock
+    private Queue queue;
+    @Mock
+    private TextMessage message;
+    @Mock
+    private MQProducerCustomizer customizer;
+    @Mock
+    private MQHealthListener healthListener;
+
+    private MQMultiContextAsyncSender sender;
+
+    @BeforeEach
+    void setup() {
+        when(connectionFactory.createContext()).thenReturn(context);
+        when(context.createQueue(anyString())).thenReturn(queue);
+        when(context.createProducer()).thenReturn(producer);
+        sender = new MQMultiContextAsyncSender(new MQMultiContextSenderSync(connectionFactory, 1,
+                ctx -> ctx.createQueue("QUEUE.NAME"), customizer, healthListener));
+    }
+
+    @Test
+    void shouldCompleteFromCompletionListener() throws JMSException {
+        // Arrange
+        String messageID = UUID.randomUUID().toString();
+        when(context.createTextMessage()).thenReturn(message);
+        when(message.getJMSMessageID()).thenReturn(messageID);
+        when(producer.setAsync(any())).thenAnswer(invocation -> {
+            CompletionListener listener = invocation.getArgument(0);
+            when(producer.send(queue, message)).thenAnswer(sent -> {
+                listener.onCompletion(message);
+                return producer;
+            });
+            return producer;
+        });
+        // Act
+        // Assert
+        StepVerifier.create(sender.send(JMSContext::createTextMessage))
+                .expectNext(messageID)
+                .verifyComplete();
+        verify(producer).setAsync(any());
+    }
+
+    @Test
+    void shouldFailFromCompletionListener() {
+        // Arrange
+        when(context.createTextMessage()).thenReturn(message);
+        when(producer.setAsync(any())).thenAnswer(invocation -> {
+            CompletionListener listener = invocation.getArgument(0);
+            when(producer.send(queue, message)).thenAnswer(sent -> {
+                listener.onException(message, new JMSException("Put failed"));
+                return producer;
+            });
+            return producer;
+        });
+        // Act
+        // Assert
+        StepVerifier.create(sender.send(queue, JMSContext::createTextMessage))
+                .expectError(JMSException.class)
+                .verify();
+    }
+
+    @Test
+    void shouldCheckoutContextOutOfSubscriberThread() throws JMSException {
+        // Arrange
+        AtomicReference<String> thread = new AtomicReference<>();
+        when(context.createTextMessage()).thenAnswer(invocation -> {
+            thread.set(Thread.currentThread().getName());
+            return message;
+        });
+        when(message.getJMSMessageID()).thenReturn("id");
+        when(producer.setAsync(any())).thenAnswer(invocation -> {
+            CompletionListener listener = invocation.getArgument(0);
+            when(producer.send(queue, message)).thenAnswer(sent -> {
+                listener.onCompletion(message);
+                return producer;
+            });
+            return producer;
+        });
+        // Act
+        // Assert
+        StepVerifier.create(sender.send(JMSContext::createTextMessage))
+                .expectNext("id")
+                .verifyComplete();
+        assertTrue(thread.get().startsWith("boundedElastic"));
+    }
+
+    @Test
+    void shouldFailWhenMessageCannotBeCreated() {
+        // Arrange
+        // Act
+        // Assert
+        StepVerifier.create(sender.send(ctx -> {
+                    throw new JMSException("Error");
+                }))
+                .expectError(JMSRuntimeException.class)
+                .verify();
+        verify(producer, never()).setAsync(any());
+    }
+}
@@ -1,7 +1,11 @@
 package co.com.bancolombia.commons.jms.internal.sender;
 
 import co.com.bancolombia.commons.jms.api.MQProducerCustomizer;
+import co.com.bancolombia.commons.jms.api.MQMessageCreator;
+import co.com.bancolombia.commons.jms.api.MQQueueCustomizer;
 import co.com.bancolombia.commons.jms.api.exceptions.MQHealthListener;
+import co.com.bancolombia.commons.jms.internal.models.MQSenderConfig;
+import co.com.bancolombia.commons.jms.utils.MQCorrelationIds;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -9,10 +13,14 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import javax.jms.*;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
@@ -58,6 +66,21 @@ class MQMultiContextSenderSyncTest {
         verify(producer, times(1)).send(queue, message);
     }
 
+    @Test
+    void shouldSendBinaryCorrelationId() throws JMSException {
+        // Arrange
+        MQMultiContextSenderSync binarySender = new MQMultiContextSenderSync(connectionFactory,
+                MQSenderConfig.builder().binaryCorrelationId(true).build(),
+                ctx -> ctx.createQueue("QUEUE.NAME"), customizer, healthListener);
+        when(context.createTextMessage()).thenReturn(message);
+        when(message.getJMSCorrelationID()).thenReturn("order-1");
+        // Act
+        binarySender.send(JMSContext::createTextMessage);
+        // Assert
+        verify(message).setJMSCorrelationIDAsBytes(MQCorrelationIds.toBytes("order-1"));
+        verify(producer, times(1)).send(queue, message);
+    }
+
     @Test
     void shouldSendWithDestination() throws JMSException {
         // Arrange
@@ -71,6 +94,190 @@ class MQMultiContextSenderSyncTest {
         verify(producer, times(1)).send(queue, message);
     }
 
+    @Test
+    void shouldSendByQueueNameCreatingTheQueueOnce() throws JMSException {
+        // Arrange
+        MQQueueCustomizer queueCustomizer = mock(MQQueueCustomizer.class);
+        MQMultiContextSenderSync byNameSender = new MQMultiContextSenderSync(connectionFactory,
+                MQSenderConfig.builder().queueCustomizer(queueCustomizer).build(),
+                ctx -> ctx.createQueue("QUEUE.NAME"), customizer, healthListener);
+        when(context.createTextMessage()).thenReturn(message);
+        when(message.getJMSMessageID()).thenReturn("1", "2");
+        // Act
+        String first = byNameSender.sendToQueue("DYNAMIC.QUEUE", JMSContext::createTextMessage);
+        String second = byNameSender.sendToQueue("DYNAMIC.QUEUE", JMSContext::createTextMessage);
+        // Assert
+        assertEquals("1", first);
+        assertEquals("2", second);
+        verify(context, times(1)).createQueue("DYNAMIC.QUEUE");
+        verify(queueCustomizer, times(1)).customize(queue);
+        verify(producer, times(2)).send(queue, message);
+    }
+
+    @Test
+    void shouldSendWithDeliveryDelay() throws JMSException {
+        // Arrange
+        JMSProducer delayedProducer = mock(JMSProducer.class);
+        when(context.createProducer()).thenReturn(delayedProducer);
+        when(context.createTextMessage()).thenReturn(message);
+        // Act
+        senderSync.sendToQueue("RETRY.QUEUE", JMSContext::createTextMessage, 60000);
+        // Assert
+        verify(customizer, times(1)).customize(delayedProducer);
+        verify(delayedProducer, times(1)).setDeliveryDelay(60000);
+        verify(delayedProducer, times(1)).send(queue, message);
+        verify(producer, never()).setDeliveryDelay(anyLong());
+    }
+
+    @Test
+    void shouldSendByQueueNameWithoutCache() throws JMSException {
+        // Arrange
+        MQMultiContextSenderSync byNameSender = new MQMultiContextSenderSync(connectionFactory,
+                MQSenderConfig.builder().destinationCacheSize(0).build(),
+                ctx -> ctx.createQueue("QUEUE.NAME"), customizer, healthListener);
+        when(context.createTextMessage()).thenReturn(message);
+        // Act
+        byNameSender.sendToQueue("DYNAMIC.QUEUE", JMSContext::createTextMessage);
+        byNameSender.sendToQueue("DYNAMIC.QUEUE", JMSContext::createTextMessage);
+        // Assert
+        verify(context, times(2)).createQueue("DYNAMIC.QUEUE");
+    }
+
+    @Test
+    void shouldSendBatchCommittingEachBatchSize() throws JMSException {
+        // Arrange
+        JMSContext transacted = mock(JMSContext.class);
+        when(connectionFactory.createContext(JMSContext.SESSION_TRANSACTED)).thenReturn(transacted);
+        when(transacted.createQueue(anyString())).thenReturn(queue);
+        when(transacted.createProducer()).thenReturn(producer);
+        when(transacted.createTextMessage()).thenReturn(message);
+        when(message.getJMSMessageID()).thenReturn("1", "2", "3");
+        MQMultiContextSenderSync batchSender = new MQMultiContextSenderSync(connectionFactory,
+                MQSenderConfig.builder().transactedConcurrency(1).batchSize(2).build(),
+                ctx -> ctx.createQueue("QUEUE.NAME"), customizer, healthListener);
+        MQMessageCreator creator = JMSContext::createTextMessage;
+        // Act
+        List<String> ids = batchSender.sendBatch(Arrays.asList(creator, creator, creator));
+        // Assert
+        assertEquals(Arrays.asList("1", "2", "3"), ids);
+        verify(producer, times(3)).send(queue, message);
+        verify(transacted, times(2)).commit();
+    }
+
+    @Test
+    void shouldRollbackBatchOnError() {
+        // Arrange
+        JMSContext transacted = mock(JMSContext.class);
+        when(connectionFactory.createContext(JMSContext.SESSION_TRANSACTED)).thenReturn(transacted);
+        when(transacted.createQueue(anyString())).thenReturn(queue);
+        when(transacted.createProducer()).thenReturn(producer);
+        MQMultiContextSenderSync batchSender = new MQMultiContextSenderSync(connectionFactory,
+                MQSenderConfig.builder().transactedConcurrency(1).build(),
+                ctx -> ctx.createQueue("QUEUE.NAME"), customizer, healthListener);
+        MQMessageCreator creator = ctx -> {
+            throw new JMSException("Error");
+        };
+        // Act
+        assertThrows(JMSRuntimeException.class, () -> batchSender.sendBatch(queue, Arrays.asList(creator)));
+        // Assert
+        verify(transacted, times(1)).rollback();
+        verify(transacted, never()).commit();
+    }
+
+    @Test
+    void shouldRollbackBatchOnNonJmsException() throws JMSException {
+        // Arrange
+        JMSContext transacted = mock(JMSContext.class);
+        when(connectionFactory.createContext(JMSContext.SESSION_TRANSACTED)).thenReturn(transacted);
+        when(transacted.createQueue(anyString())).thenReturn(queue);
+        when(transacted.createProducer()).thenReturn(producer);
+        when(transacted.createTextMessage()).thenReturn(message);
+        MQMultiContextSenderSync batchSender = new MQMultiContextSenderSync(connectionFactory,
+                MQSenderConfig.builder().transactedConcurrency(1).batchSize(10).build(),
+                ctx -> ctx.createQueue("QUEUE.NAME"), customizer, healthListener);
+        MQMessageCreator creator = JMSContext::createTextMessage;
+        MQMessageCreator failing = ctx -> {
+            throw new IllegalArgumentException("invalid payload");
+        };
+        // Act
+        assertThrows(IllegalArgumentException.class,
+                () -> batchSender.sendBatch(queue, Arrays.asList(creator, failing)));
+        // Assert
+        verify(producer, times(1)).send(queue, message);
+        verify(transacted, times(1)).rollback();
+        verify(transacted, never()).commit();
+    }
+
+    @Test
+    void shouldRollbackBatchOnSneakyCheckedException() {
+        // Arrange
+        JMSContext transacted = mock(JMSContext.class);
+        when(connectionFactory.createContext(JMSContext.SESSION_TRANSACTED)).thenReturn(transacted);
+        when(transacted.createQueue(anyString())).thenReturn(queue);
+        when(transacted.createProducer()).thenReturn(producer);
+        MQMultiContextSenderSync batchSender = new MQMultiContextSenderSync(connectionFactory,
+                MQSenderConfig.builder().transactedConcurrency(1).build(),
+                ctx -> ctx.createQueue("QUEUE.NAME"), customizer, healthListener);
+        MQMessageCreator creator = ctx -> sneakyThrow(new IOException("unreadable payload"));
+        // Act
+        assertThrows(IOException.class, () -> batchSender.sendBatch(queue, Arrays.asList(creator)));
+        // Assert
+        verify(transacted, times(1)).rollback();
+        verify(transacted, never()).commit();
+    }
+
+    @Test
+    void shouldSendBatchWithoutTransaction() throws JMSException {
+        // Arrange
+        when(context.createTextMessage()).thenReturn(message);
+        when(message.getJMSMessageID()).thenReturn("1", "2");
+        MQMessageCreator creator = JMSContext::createTextMessage;
+        // Act
+        List<String> ids = senderSync.sendBatch(queue, Arrays.asList(creator, creator));
+        // Assert
+        assertEquals(Arrays.asList("1", "2"), ids);
+        verify(context, never()).commit();
+    }
+
+    @Test
+    void shouldFailGroupCommitSendWhenClosed() {
+        // Arrange
+        JMSContext transacted = mock(JMSContext.class);
+        when(connectionFactory.createContext(JMSContext.SESSION_TRANSACTED)).thenReturn(transacted);
+        when(transacted.createQueue(anyString())).thenReturn(queue);
+        when(transacted.createProducer()).thenReturn(producer);
+        MQMultiContextSenderSync groupSender = new MQMultiContextSenderSync(connectionFactory,
+                MQSenderConfig.builder().groupCommit(true).groupCommitTimeout(60000).build(),
+                ctx -> ctx.createQueue("QUEUE.NAME"), customizer, healthListener);
+        groupSender.close();
+        MQMessageCreator creator = JMSContext::createTextMessage;
+        // Act
+        JMSRuntimeException error = assertThrows(JMSRuntimeException.class, () -> groupSender.send(creator));
+        // Assert
+        assertEquals("Group commit sender stopped", error.getMessage());
+        verify(transacted, never()).commit();
+    }
+
+    @Test
+    void shouldFailGroupCommitSendWithNonJmsException() {
+        // Arrange
+        JMSContext transacted = mock(JMSContext.class);
+        when(connectionFactory.createContext(JMSContext.SESSION_TRANSACTED)).thenReturn(transacted);
+        when(transacted.createQueue(anyString())).thenReturn(queue);
+        when(transacted.createProducer()).thenReturn(producer);
+        MQMultiContextSenderSync groupSender = new MQMultiContextSenderSync(connectionFactory,
+                MQSenderConfig.builder().groupCommit(true).groupCommitTimeout(2000).build(),
+                ctx -> ctx.createQueue("QUEUE.NAME"), customizer, healthListener);
+        MQMessageCreator creator = ctx -> {
+            throw new java.lang.IllegalStateException("Error");
+        };
+        // Act
+        assertThrows(java.lang.IllegalStateException.class, () -> groupSender.send(creator));
+        // Assert
+        verify(transacted, times(1)).rollback();
+        verify(transacted, never()).commit();
+    }
+
     @Test
     void shouldHandleError() {
         // Arrange
@@ -83,4 +290,8 @@ class MQMultiContextSenderSyncTest {
         });
     }
 
+    @SuppressWarnings("unchecked")
+    private static <E extends Throwable> Message sneakyThrow(Throwable error) throws E {
+        throw (E) error;
+    }
 }
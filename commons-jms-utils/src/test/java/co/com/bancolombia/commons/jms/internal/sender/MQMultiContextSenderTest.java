@@ -1,18 +1,28 @@
 package co.com.bancolombia.commons.jms.internal.sender;
 
+import co.com.bancolombia.commons.jms.api.MQMessageCreator;
+import co.com.bancolombia.commons.jms.internal.models.MQSenderConfig;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import javax.jms.Destination;
 import javax.jms.JMSContext;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -54,4 +64,73 @@ class MQMultiContextSenderTest {
                 .verifyComplete();
     }
 
+    @Test
+    void shouldSendBatch() {
+        // Arrange
+        when(senderSync.sendBatch(eq(destination), anyList()))
+                .thenAnswer(invocation -> Collections.nCopies(invocation.<List<?>>getArgument(1).size(), "id"));
+        // Act
+        Flux<String> ids = sender.sendBatch(destination, Flux.just(JMSContext::createTextMessage,
+                JMSContext::createTextMessage));
+        // Assert
+        StepVerifier.create(ids)
+                .expectNext("id", "id")
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldSendBatchToDefaultDestination() {
+        // Arrange
+        when(senderSync.sendBatch(anyList())).thenReturn(Arrays.asList("1", "2"));
+        // Act
+        Flux<String> ids = sender.sendBatch(Flux.just(JMSContext::createTextMessage, JMSContext::createTextMessage));
+        // Assert
+        StepVerifier.create(ids)
+                .expectNext("1", "2")
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldSendManyWithBoundedInFlight() {
+        // Arrange
+        MQSenderConfig config = MQSenderConfig.builder().concurrency(2).maxInFlightPerContext(1).build();
+        sender = new MQMultiContextSender(senderSync, config);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        AtomicInteger ids = new AtomicInteger();
+        when(senderSync.send(eq(destination), any())).thenAnswer(invocation -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            Thread.sleep(10);
+            inFlight.decrementAndGet();
+            return String.valueOf(ids.incrementAndGet());
+        });
+        MQMessageCreator creator = JMSContext::createTextMessage;
+        // Act
+        Flux<String> flux = sender.sendMany(destination, Flux.range(0, 20).map(i -> creator));
+        // Assert
+        StepVerifier.create(flux)
+                .expectNextCount(20)
+                .verifyComplete();
+        assertTrue(maxInFlight.get() <= 2);
+    }
+
+    @Test
+    void shouldSendManyKeepingOrder() {
+        // Arrange
+        MQSenderConfig config = MQSenderConfig.builder().concurrency(4).streamPrefetch(2).build();
+        sender = new MQMultiContextSender(senderSync, config);
+        MQMessageCreator slow = context -> context.createTextMessage("slow");
+        MQMessageCreator fast = context -> context.createTextMessage("fast");
+        when(senderSync.send(slow)).thenAnswer(invocation -> {
+            Thread.sleep(50);
+            return "1";
+        });
+        when(senderSync.send(fast)).thenReturn("2");
+        // Act
+        Flux<String> flux = sender.sendMany(Flux.just(slow, fast));
+        // Assert
+        StepVerifier.create(flux)
+                .expectNext("1", "2")
+                .verifyComplete();
+    }
 }
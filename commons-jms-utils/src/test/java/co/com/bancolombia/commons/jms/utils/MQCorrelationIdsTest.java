@@ -0,0 +1,70 @@
+package co.com.bancolombia.commons.jms.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.jms.JMSException;
+import javax.jms.Message;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class MQCorrelationIdsTest {
+    private static final String MQ_ID = "ID:414D5120514D31202020202020202020000000000000000A";
+    @Mock
+    private Message message;
+
+    @Test
+    void shouldKeepMQIds() {
+        // Act
+        String id = MQCorrelationIds.toMQId(MQ_ID);
+        // Assert
+        assertEquals("ID:414d5120514d31202020202020202020000000000000000a", id);
+        assertTrue(MQCorrelationIds.isMQId(id));
+    }
+
+    @Test
+    void shouldPadShortIds() {
+        // Act
+        byte[] bytes = MQCorrelationIds.toBytes("order-1");
+        // Assert
+        assertArrayEquals(Arrays.copyOf("order-1".getBytes(StandardCharsets.UTF_8), 24), bytes);
+        assertEquals("ID:6f726465722d310000000000000000000000000000000000",
+                MQCorrelationIds.toMQId("order-1"));
+    }
+
+    @Test
+    void shouldHashLongIds() {
+        // Act
+        String first = MQCorrelationIds.toMQId("a-correlation-id-longer-than-24-bytes-1");
+        String second = MQCorrelationIds.toMQId("a-correlation-id-longer-than-24-bytes-2");
+        // Assert
+        assertTrue(MQCorrelationIds.isMQId(first));
+        assertNotEquals(first, second);
+        assertEquals(first, MQCorrelationIds.toMQId("a-correlation-id-longer-than-24-bytes-1"));
+    }
+
+    @Test
+    void shouldRejectNonMQIds() {
+        assertFalse(MQCorrelationIds.isMQId("ID:not-hexadecimal-not-hexadecimal-not-hexadecimal"));
+        assertFalse(MQCorrelationIds.isMQId("order-1"));
+        assertFalse(MQCorrelationIds.isMQId(null));
+    }
+
+    @Test
+    void shouldSetCorrelationIdAsBytes() throws JMSException {
+        // Act
+        MQCorrelationIds.setCorrelationId(message, MQ_ID);
+        // Assert
+        verify(message).setJMSCorrelationIDAsBytes(MQCorrelationIds.toBytes(MQ_ID));
+    }
+}